@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.openshift.internal.restclient.ApiTypeMapper;
+import com.openshift.internal.restclient.authorization.AuthorizationContext;
+import com.openshift.restclient.IApiTypeMapper;
+import com.openshift.restclient.IApiTypeMapper.IVersionedApiResource;
+import com.openshift.restclient.ResourceKind;
+
+/**
+ * Looking up endpoints, which happens at least once per request. Kinds that
+ * are served by the legacy api, by the openshift api and by an api group are
+ * measured, both with and without an api version.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiTypeMapperBenchmark {
+
+    @Param({ ResourceKind.POD, ResourceKind.BUILD_CONFIG, "ReplicaSet" })
+    public String kind;
+
+    private IApiTypeMapper typeMapper;
+    private String version;
+
+    @Setup
+    public void setup() {
+        AuthorizationContext authContext = new AuthorizationContext("benchmark-token", "benchmark", null);
+        this.typeMapper = new ApiTypeMapper(BenchmarkFixture.BASE_URL,
+                BenchmarkFixture.createOkClient(Collections.emptyMap()), authContext);
+        this.version = typeMapper.getEndpointFor(null, kind).getVersion();
+    }
+
+    @Benchmark
+    public IVersionedApiResource getEndpointFor() {
+        return typeMapper.getEndpointFor(null, kind);
+    }
+
+    @Benchmark
+    public IVersionedApiResource getEndpointForVersion() {
+        return typeMapper.getEndpointFor(version, kind);
+    }
+
+    @Benchmark
+    public boolean isSupported() {
+        return typeMapper.isSupported(version, kind);
+    }
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.dmr.ModelNode;
+
+import com.openshift.internal.restclient.DefaultClient;
+import com.openshift.internal.restclient.ResourceFactory;
+import com.openshift.internal.restclient.authorization.AuthorizationContext;
+import com.openshift.restclient.http.IHttpConstants;
+import com.openshift.restclient.utils.Samples;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Shared setup for the benchmarks. Clients created here answer the discovery
+ * requests with the samples in src/test/resources so that the type mapper and
+ * resource factory behave as they do against a real cluster.
+ */
+public class BenchmarkFixture {
+
+    public static final String BASE_URL = "https://localhost:8443";
+    public static final String NAMESPACE = "benchmark";
+
+    private static final String VERSIONS = "{ \"versions\": [\"v1\"]}";
+
+    private BenchmarkFixture() {
+    }
+
+    /**
+     * The responses for the discovery endpoints, keyed by path
+     */
+    public static Map<String, String> discoveryResponses() {
+        Map<String, String> responses = new HashMap<>();
+        responses.put("/api", VERSIONS);
+        responses.put("/oapi", VERSIONS);
+        responses.put("/apis", Samples.GROUP_ENDPONT_APIS.getContentAsString());
+        responses.put("/api/v1", Samples.GROUP_ENDPONT_API_V1.getContentAsString());
+        responses.put("/oapi/v1", Samples.GROUP_ENDPONT_OAPI_V1.getContentAsString());
+        responses.put("/apis/extensions/v1beta1", Samples.GROUP_ENDPONT_APIS_EXTENSIONS.getContentAsString());
+        return responses;
+    }
+
+    /**
+     * A client whose requests never leave the JVM. Discovery is answered with the
+     * samples, other paths with the given responses.
+     */
+    public static DefaultClient createClient(Map<String, String> responses) throws IOException {
+        return createClient(new URL(BASE_URL), createOkClient(responses));
+    }
+
+    /**
+     * A http client whose requests never leave the JVM. Discovery is answered with
+     * the samples, other paths with the given responses.
+     */
+    public static OkHttpClient createOkClient(Map<String, String> responses) {
+        Map<String, String> all = discoveryResponses();
+        all.putAll(responses);
+        return new OkHttpClient.Builder()
+                .addInterceptor(new CannedResponseInterceptor(all))
+                .build();
+    }
+
+    public static DefaultClient createClient(URL baseUrl, OkHttpClient okClient) {
+        AuthorizationContext authContext = new AuthorizationContext("benchmark-token", "benchmark", null);
+        DefaultClient client = new DefaultClient(baseUrl, okClient, new ResourceFactory(null), null, authContext);
+        authContext.setClient(client);
+        return client;
+    }
+
+    /**
+     * A pod list of the given size. Pods are small but realistic: metadata with
+     * labels and annotations, one container and a status.
+     */
+    public static String podList(int size) {
+        ModelNode list = new ModelNode();
+        list.get("apiVersion").set("v1");
+        list.get("kind").set("PodList");
+        list.get("metadata", "resourceVersion").set("4711");
+        ModelNode items = list.get("items");
+        for (int i = 0; i < size; i++) {
+            items.add(pod("pod-" + i));
+        }
+        return list.toJSONString(true);
+    }
+
+    public static ModelNode pod(String name) {
+        ModelNode pod = new ModelNode();
+        pod.get("apiVersion").set("v1");
+        pod.get("kind").set("Pod");
+        ModelNode metadata = pod.get("metadata");
+        metadata.get("name").set(name);
+        metadata.get("namespace").set(NAMESPACE);
+        metadata.get("resourceVersion").set("4711");
+        metadata.get("uid").set("3f2b6f2e-" + name);
+        metadata.get("creationTimestamp").set("2026-01-01T00:00:00Z");
+        metadata.get("labels", "app").set("benchmark");
+        metadata.get("labels", "deploymentconfig").set("benchmark");
+        metadata.get("annotations", "openshift.io/deployment-config.name").set("benchmark");
+        metadata.get("annotations", "openshift.io/deployment.name").set("benchmark-1");
+        ModelNode container = pod.get("spec", "containers").add();
+        container.get("name").set("benchmark");
+        container.get("image").set("quay.io/openshift/benchmark:latest");
+        ModelNode port = container.get("ports").add();
+        port.get("containerPort").set(8080);
+        port.get("protocol").set("TCP");
+        pod.get("status", "phase").set("Running");
+        pod.get("status", "podIP").set("10.128.0.1");
+        return pod;
+    }
+
+    /**
+     * Answers requests with canned bodies instead of going to the network.
+     */
+    static class CannedResponseInterceptor implements Interceptor {
+
+        private static final MediaType JSON = MediaType.get(IHttpConstants.MEDIATYPE_APPLICATION_JSON);
+
+        private final Map<String, String> responses;
+
+        CannedResponseInterceptor(Map<String, String> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            String body = responses.get(request.url().encodedPath());
+            int code = body == null ? IHttpConstants.STATUS_NOT_FOUND : IHttpConstants.STATUS_OK;
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(code)
+                    .message("")
+                    .body(ResponseBody.create(body == null ? "" : body, JSON))
+                    .build();
+        }
+    }
+}
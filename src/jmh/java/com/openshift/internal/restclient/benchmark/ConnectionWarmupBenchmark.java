@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.openshift.restclient.ClientBuilder;
+import com.openshift.restclient.IClient;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * The latency of the first request of a new client to a tls server on the
+ * loopback interface, with and without opening the connection when the client
+ * is built. Each invocation builds a new client, the time to build it is not
+ * measured.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class ConnectionWarmupBenchmark {
+
+    @Param({ "0", "1" })
+    public int warmupConnections;
+
+    private LocalServer server;
+    private IClient client;
+
+    @Setup
+    public void startServer() throws Exception {
+        Map<String, String> responses = new HashMap<>();
+        responses.put("/healthz", "ok");
+        responses.put("/version", "{ \"gitVersion\": \"v1.20.0\" }");
+        this.server = new LocalServer(responses, true);
+    }
+
+    @Setup(Level.Invocation)
+    public void buildClient() throws Exception {
+        this.client = new ClientBuilder(server.getUrl().toString())
+                .usingToken("benchmark-token")
+                .withConnectionWarmup(warmupConnections)
+                .build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeClient() {
+        OkHttpClient okClient = client.adapt(OkHttpClient.class);
+        okClient.connectionPool().evictAll();
+        okClient.dispatcher().executorService().shutdown();
+    }
+
+    @TearDown
+    public void stopServer() {
+        server.close();
+    }
+
+    @Benchmark
+    public String firstRequest() {
+        return client.getKubernetesMasterVersion();
+    }
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.openshift.internal.util.JBossDmrExtentions;
+import com.openshift.restclient.utils.Samples;
+
+import okio.Buffer;
+
+/**
+ * Serializing resources as done for every request payload. Serializing
+ * sanitizes the node in place: {@link #toJsonString} measures nodes that were
+ * sanitized before (a resource that is sent repeatedly),
+ * {@link #sanitizeAndToJsonString} fresh nodes with the nulls and empty lists
+ * that the server returns. {@link #writeJson} is how request payloads are
+ * written.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JBossDmrExtentionsBenchmark {
+
+    @Param({ "V1_POD", "V1_DEPLOYMENT_CONIFIG", "V1_TEMPLATE" })
+    public Samples sample;
+
+    @Param({ "true", "false" })
+    public boolean compact;
+
+    private ModelNode node;
+    private ModelNode sanitized;
+    private ModelNode fresh;
+
+    @Setup
+    public void setup() {
+        this.node = ModelNode.fromJSONString(sample.getContentAsString());
+        this.sanitized = node.clone();
+        JBossDmrExtentions.toJsonString(sanitized, compact);
+    }
+
+    /**
+     * Invocation level setup is only acceptable since serializing a resource
+     * takes way longer than the setup overhead of a few hundred nanoseconds.
+     */
+    @Setup(Level.Invocation)
+    public void copy() {
+        this.fresh = node.clone();
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return JBossDmrExtentions.toJsonString(sanitized, compact);
+    }
+
+    @Benchmark
+    public String sanitizeAndToJsonString() {
+        return JBossDmrExtentions.toJsonString(fresh, compact);
+    }
+
+    /**
+     * Writing request payloads, which skips what sanitizing would remove instead
+     * of modifying the node and streams into the request body instead of
+     * building a string. Always compact.
+     */
+    @Benchmark
+    public long writeJson() throws IOException {
+        Buffer buffer = new Buffer();
+        JBossDmrExtentions.writeJson(node, buffer.outputStream());
+        long size = buffer.size();
+        buffer.clear();
+        return size;
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.openshift.restclient.ClientBuilder;
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IPod;
+
+/**
+ * Listing pods end to end: building the request, the interceptors of the
+ * client, the http exchange with a server on the loopback interface and
+ * decoding the response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int items;
+
+    private LocalServer server;
+    private IClient client;
+
+    @Setup
+    public void setup() throws Exception {
+        this.server = new LocalServer(BenchmarkFixture.discoveryResponses());
+        server.add("/api/v1/namespaces/" + BenchmarkFixture.NAMESPACE + "/pods", BenchmarkFixture.podList(items));
+        this.client = new ClientBuilder(server.getUrl().toString())
+                .usingToken("benchmark-token")
+                .build();
+        client.list(ResourceKind.POD, BenchmarkFixture.NAMESPACE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public List<IPod> list() {
+        return client.list(ResourceKind.POD, BenchmarkFixture.NAMESPACE);
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.openshift.restclient.IResourceFactory;
+import com.openshift.restclient.model.IList;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * Decoding a list response into typed resources. {@link #itemRoundTrip}
+ * reproduces the former {@code List#getItems()} which serialized every item and
+ * parsed it again, {@link #getItems} is the current implementation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ListDecodeBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int items;
+
+    private IResourceFactory factory;
+    private String json;
+
+    @Setup
+    public void setup() throws Exception {
+        this.factory = BenchmarkFixture.createClient(Collections.emptyMap()).getResourceFactory();
+        this.json = BenchmarkFixture.podList(items);
+    }
+
+    @Benchmark
+    public void itemRoundTrip(Blackhole blackhole) {
+        ModelNode list = ModelNode.fromJSONString(json);
+        for (ModelNode item : list.get("items").asList()) {
+            blackhole.consume(factory.create(item.toJSONString(true)));
+        }
+    }
+
+    @Benchmark
+    public void getItems(Blackhole blackhole) {
+        IList list = factory.create(json);
+        for (IResource item : list.getItems()) {
+            blackhole.consume(item);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+import com.openshift.restclient.http.IHttpConstants;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+/**
+ * A http server on the loopback interface that answers any number of requests
+ * with canned bodies, keyed by path. Unlike {@code HttpServerFake} which
+ * answers a single request, it keeps connections alive so that benchmarks
+ * measure the client and not the handshakes. If it speaks tls it uses the
+ * self-signed certificate of {@code HttpsServerFake}.
+ */
+public class LocalServer implements AutoCloseable {
+
+    private static final String KEYSTORE_FILE = "/server-keystore.jks";
+    private static final char[] KEYSTORE_PASSWORD = "123456".toCharArray();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> responses = new ConcurrentHashMap<>();
+
+    public LocalServer(Map<String, String> responses) throws IOException {
+        this(responses, false);
+    }
+
+    public LocalServer(Map<String, String> responses, boolean tls) throws IOException {
+        // headers and body are written separately, nagle would delay the body
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        responses.forEach(this::add);
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        if (tls) {
+            HttpsServer https = HttpsServer.create(address, 0);
+            https.setHttpsConfigurator(new HttpsConfigurator(createSSLContext()));
+            this.server = https;
+        } else {
+            this.server = HttpServer.create(address, 0);
+        }
+        this.executor = Executors.newFixedThreadPool(4);
+        server.setExecutor(executor);
+        server.createContext("/", this::respond);
+        server.start();
+    }
+
+    /**
+     * Answers requests to the given path with the given body
+     */
+    public void add(String path, String body) {
+        responses.put(path, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public URL getUrl() throws IOException {
+        String scheme = server instanceof HttpsServer ? "https" : "http";
+        return new URL(scheme, server.getAddress().getHostString(), server.getAddress().getPort(), "/");
+    }
+
+    private static SSLContext createSSLContext() throws IOException {
+        try (InputStream in = LocalServer.class.getResourceAsStream(KEYSTORE_FILE)) {
+            KeyStore keyStore = KeyStore.getInstance("JKS");
+            keyStore.load(in, KEYSTORE_PASSWORD);
+            KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagers.init(keyStore, KEYSTORE_PASSWORD);
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers.getKeyManagers(), null, null);
+            return context;
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Could not load " + KEYSTORE_FILE, e);
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        byte[] body = responses.get(exchange.getRequestURI().getPath());
+        try {
+            if (body == null) {
+                exchange.sendResponseHeaders(IHttpConstants.STATUS_NOT_FOUND, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set(IHttpConstants.PROPERTY_CONTENT_TYPE,
+                    IHttpConstants.MEDIATYPE_APPLICATION_JSON);
+            exchange.sendResponseHeaders(IHttpConstants.STATUS_OK, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.openshift.internal.restclient.model.properties.ResourcePropertyKeys;
+import com.openshift.internal.util.JBossDmrExtentions;
+import com.openshift.restclient.model.IPod;
+
+/**
+ * Reading properties of a resource, as watchers and informers do for every
+ * event. {@link #splitPath} is what resolving a property path used to cost,
+ * {@link #getPath} what it costs now.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyAccessBenchmark {
+
+    private IPod pod;
+    private Map<String, String[]> propertyKeys = Collections.emptyMap();
+    private String key = ResourcePropertyKeys.METADATA_NAMESPACE;
+
+    @Setup
+    public void setup() throws Exception {
+        this.pod = BenchmarkFixture.createClient(Collections.emptyMap()).getResourceFactory()
+                .create(BenchmarkFixture.pod("benchmark").toJSONString(true));
+    }
+
+    @Benchmark
+    public String[] splitPath() {
+        return key.split("\\.");
+    }
+
+    @Benchmark
+    public String[] getPath() {
+        return JBossDmrExtentions.getPath(propertyKeys, key);
+    }
+
+    @Benchmark
+    public String getName() {
+        return pod.getName();
+    }
+
+    @Benchmark
+    public String getNamespaceName() {
+        return pod.getNamespaceName();
+    }
+
+    @Benchmark
+    public Map<String, String> getLabels() {
+        return pod.getLabels();
+    }
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.openshift.restclient.IResourceFactory;
+import com.openshift.restclient.model.IResource;
+import com.openshift.restclient.utils.Samples;
+
+/**
+ * Decoding single resources of different kinds and sizes, from a string as the
+ * callers of {@link IResourceFactory#create(String)} do and from a stream as
+ * the client does with response bodies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceFactoryBenchmark {
+
+    @Param({ "V1_POD", "V1_SERVICE", "V1_BUILD_CONFIG", "V1_DEPLOYMENT_CONIFIG", "V1_TEMPLATE" })
+    public Samples sample;
+
+    private IResourceFactory factory;
+    private String json;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws Exception {
+        this.factory = BenchmarkFixture.createClient(Collections.emptyMap()).getResourceFactory();
+        this.json = sample.getContentAsString();
+        this.bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public IResource createFromString() {
+        return factory.create(json);
+    }
+
+    @Benchmark
+    public IResource createFromStream() {
+        return factory.create(new ByteArrayInputStream(bytes));
+    }
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+
+package com.openshift.internal.restclient.benchmark;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.openshift.internal.restclient.URLBuilder;
+import com.openshift.restclient.IApiTypeMapper;
+import com.openshift.restclient.ResourceKind;
+
+/**
+ * Building the urls of requests, once per request. The type mapper is
+ * discovered in the setup so that only the lookups are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class URLBuilderBenchmark {
+
+    private URL baseUrl;
+    private IApiTypeMapper typeMapper;
+
+    @Setup
+    public void setup() throws Exception {
+        this.baseUrl = new URL(BenchmarkFixture.BASE_URL);
+        this.typeMapper = BenchmarkFixture.createClient(Collections.emptyMap()).adapt(IApiTypeMapper.class);
+        typeMapper.getEndpointFor("v1", ResourceKind.POD);
+    }
+
+    @Benchmark
+    public URL namedPod() {
+        return new URLBuilder(baseUrl, typeMapper)
+                .kind(ResourceKind.POD)
+                .namespace(BenchmarkFixture.NAMESPACE)
+                .name("pod-1")
+                .build();
+    }
+
+    @Benchmark
+    public URL deploymentConfigList() {
+        return new URLBuilder(baseUrl, typeMapper)
+                .kind(ResourceKind.DEPLOYMENT_CONFIG)
+                .namespace(BenchmarkFixture.NAMESPACE)
+                .build();
+    }
+
+    @Benchmark
+    public URL podListWithParameters() {
+        return new URLBuilder(baseUrl, typeMapper)
+                .kind(ResourceKind.POD)
+                .namespace(BenchmarkFixture.NAMESPACE)
+                .addParmeter("labelSelector", "app=benchmark,deploymentconfig=benchmark")
+                .addParmeter("limit", "500")
+                .build();
+    }
+}
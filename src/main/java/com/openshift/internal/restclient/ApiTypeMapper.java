@@ -12,15 +12,26 @@
 package com.openshift.internal.restclient;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.StringUtils;
@@ -30,8 +41,10 @@ import org.slf4j.LoggerFactory;
 
 import com.openshift.internal.restclient.model.properties.ResourcePropertyKeys;
 import com.openshift.internal.restclient.okhttp.OpenShiftRequestBuilder;
+import com.openshift.internal.restclient.okhttp.ResponseFutures;
 import com.openshift.internal.util.JBossDmrExtentions;
 import com.openshift.restclient.IApiTypeMapper;
+import com.openshift.restclient.NotFoundException;
 import com.openshift.restclient.OpenShiftException;
 import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.UnsupportedEndpointException;
@@ -51,18 +64,41 @@ import okhttp3.Response;
 public class ApiTypeMapper implements IApiTypeMapper, ResourcePropertyKeys {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ApiTypeMapper.class);
+    private static final String ANY_VERSION = "";
+    private static final String VERSION_ENDPOINT = "version";
+    private static final String GIT_VERSION = "gitVersion";
     private final String baseUrl;
+    /** the time to wait for a discovery request if the client has no read timeout */
+    private static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
     private final OkHttpClient client;
     private IAuthorizationContext authorizationContext;
-    private List<VersionedApiResource> resourceEndpoints;
-    private List<IVersionedType> types;
+    /** endpoints by api version (blank, version or group/version) and plural name */
+    private Map<String, Map<String, IVersionedApiResource>> resourceEndpoints;
+    /** types by api version (blank, version or group/version) and kind */
+    private Map<String, Map<String, IVersionedType>> types;
+    private final Map<String, String> plurals = new ConcurrentHashMap<>();
     private final Map<String, String> preferedVersion = new HashMap<>(2);
-    private boolean initialized = false;
+    private final DiscoveryCache cache;
+    private volatile boolean initialized = false;
+    /** the discovery that is running or that succeeded */
+    private final AtomicReference<CompletableFuture<Void>> initialization = new AtomicReference<>();
 
     public ApiTypeMapper(String baseUrl, OkHttpClient client, IAuthorizationContext authorizationContext) {
+        this(baseUrl, client, authorizationContext, null);
+    }
+
+    /**
+     * @param cache
+     *            the cache for the discovery documents, discovery isn't cached if
+     *            {@code null}
+     */
+    public ApiTypeMapper(String baseUrl, OkHttpClient client, IAuthorizationContext authorizationContext,
+            DiscoveryCache cache) {
         this.baseUrl = baseUrl;
         this.client = client;
         this.authorizationContext = authorizationContext;
+        this.cache = cache;
         preferedVersion.put(KUBE_API, KubernetesAPIVersion.v1.toString());
         preferedVersion.put(OS_API, OpenShiftAPIVersion.v1.toString());
     }
@@ -98,35 +134,15 @@ public class ApiTypeMapper implements IApiTypeMapper, ResourcePropertyKeys {
         return apiresource;
     }
 
-    private boolean isResourceCompatible(String kind, String[] apiGroupNameAndVersion,
-            VersionedApiResource versionedResource) {
-        return versionedResource.getName().equals(ResourceKind.pluralize(kind, true, true))
-                && (apiGroupNameAndVersion.length == 0 || versionedResource.getVersion().equals(apiGroupNameAndVersion[apiGroupNameAndVersion.length - 1]))
-                && (apiGroupNameAndVersion.length < 2 || versionedResource.getApiGroupName().equals(apiGroupNameAndVersion[0]));
-    }
-
     private IVersionedApiResource endpointFor(String version, String kind) {
-        String[] split = StringUtils.isBlank(version) ? new String[] {} : version.split(FWD_SLASH);
-        Optional<? extends IVersionedApiResource> result = null;
-        if (split.length <= 1) {
-            result = resourceEndpoints.stream().filter(e -> 
-                isResourceCompatible(kind, split, e)
-
-            ).findFirst();
-        } else {
-            result = Optional.of(formatEndpointFor(API_GROUPS_API, version, kind));
-        }
-        if (result.isPresent()) {
-            int index = resourceEndpoints.indexOf(result.get());
-            if (index > -1) {
-                return resourceEndpoints.get(index);
-            }
-        }
-        return null;
+        return lookup(resourceEndpoints, version, pluralize(kind));
     }
 
-    private IVersionedApiResource formatEndpointFor(String prefix, String version, String kind) {
-        return new VersionedApiResource(prefix, version, ResourceKind.pluralize(kind, true, true));
+    private String pluralize(String kind) {
+        if (kind == null) {
+            return "";
+        }
+        return plurals.computeIfAbsent(kind, k -> ResourceKind.pluralize(k, true, true));
     }
 
     @Override
@@ -140,45 +156,120 @@ public class ApiTypeMapper implements IApiTypeMapper, ResourcePropertyKeys {
     }
 
     private IVersionedType typeFor(String version, String kind) {
-        String[] split = StringUtils.isBlank(version) ? new String[] {} : version.split(FWD_SLASH);
-        Optional<? extends IVersionedType> result = null;
-        result = types.stream().filter(e -> 
-            e.getKind().equals(kind) 
-                    && (split.length == 0 || split[split.length - 1].equals(e.getVersion()))
-                    && (split.length < 2 || split[0].equals(e.getApiGroupName()))
-
-        ).findFirst();
-        return result.orElse(null);
-    }
-
-    private synchronized void init() {
-        if (!this.initialized) {
-            List<VersionedApiResource> resourceEndpoints = new ArrayList<>();
-            List<IVersionedType> types = new ArrayList<>();
-            Collection<ApiGroup> groups = getLegacyGroups();
-            groups.addAll(getApiGroups());
-            groups.forEach(g -> {
-                Collection<String> versions = g.getVersions();
-                versions.forEach(v -> {
-                    Collection<ModelNode> resources = getResources(g, v);
-                    addEndpoints(resourceEndpoints, types, g.getPrefix(), g.getName(), v, resources);
-                });
-            });
-            this.resourceEndpoints = resourceEndpoints;
-            this.types = types;
+        return lookup(types, version, kind);
+    }
+
+    private static <T> T lookup(Map<String, Map<String, T>> index, String version, String key) {
+        Map<String, T> byKey = index.get(StringUtils.isBlank(version) ? ANY_VERSION : version);
+        if (byKey == null
+                || key == null) {
+            return null;
+        }
+        return byKey.get(key);
+    }
+
+    /**
+     * Discovers the endpoints unless it was done already. A single caller
+     * discovers, concurrent callers wait for it and get its error if it fails.
+     * The next caller then discovers again.
+     */
+    private void init() {
+        while (!this.initialized) {
+            CompletableFuture<Void> initializing = new CompletableFuture<>();
+            if (initialization.compareAndSet(null, initializing)) {
+                initialize(initializing);
+            } else {
+                awaitInitialization(initialization.get());
+            }
+        }
+    }
+
+    private void initialize(CompletableFuture<Void> initializing) {
+        try {
+            Map<String, ModelNode> documents = getDiscoveryDocuments();
+            Map<VersionedApiResource, VersionedApiResource> resourceEndpoints = new LinkedHashMap<>();
+            Set<IVersionedType> types = new LinkedHashSet<>();
+            for (ApiGroup group : getGroups(documents)) {
+                for (String version : group.getVersions()) {
+                    Collection<ModelNode> resources = getResources(documents, group, version);
+                    addEndpoints(resourceEndpoints, types, group.getPrefix(), group.getName(), version,
+                            resources);
+                }
+            }
+            this.resourceEndpoints = indexEndpoints(resourceEndpoints.values());
+            this.types = indexTypes(types);
             this.initialized = true;
+            initializing.complete(null);
+        } catch (RuntimeException e) {
+            initialization.set(null);
+            initializing.completeExceptionally(e);
+            throw e;
         }
     }
 
-    private void addEndpoints(List<VersionedApiResource> endpoints, List<IVersionedType> types, final String prefix,
-            final String apiGroupName, final String version, final Collection<ModelNode> nodes) {
+    private void awaitInitialization(CompletableFuture<Void> initializing) {
+        if (initializing == null) {
+            // failed in the meantime
+            return;
+        }
+        try {
+            initializing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenShiftException(e, "Interrupted while waiting for the discovery of %s", this.baseUrl);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OpenShiftException(e.getCause(), "Unable to discover the endpoints of %s", this.baseUrl);
+        }
+    }
+
+    /**
+     * Indexes the endpoints by the api versions they may be looked up with: any
+     * version, the version alone (any group) and group/version for api groups.
+     * The first endpoint in discovery order wins if several ones match.
+     */
+    private Map<String, Map<String, IVersionedApiResource>> indexEndpoints(
+            Collection<VersionedApiResource> endpoints) {
+        Map<String, Map<String, IVersionedApiResource>> index = new HashMap<>();
+        for (VersionedApiResource endpoint : endpoints) {
+            addToIndex(index, ANY_VERSION, endpoint.getName(), endpoint);
+            addToIndex(index, endpoint.getVersion(), endpoint.getName(), endpoint);
+            if (API_GROUPS_API.equals(endpoint.getPrefix())
+                    && endpoint.getApiGroupName() != null) {
+                addToIndex(index, endpoint.getApiGroupName() + FWD_SLASH + endpoint.getVersion(), endpoint.getName(),
+                        endpoint);
+            }
+        }
+        return index;
+    }
+
+    private Map<String, Map<String, IVersionedType>> indexTypes(Collection<IVersionedType> types) {
+        Map<String, Map<String, IVersionedType>> index = new HashMap<>();
+        for (IVersionedType type : types) {
+            addToIndex(index, ANY_VERSION, type.getKind(), type);
+            addToIndex(index, type.getVersion(), type.getKind(), type);
+            if (type.getApiGroupName() != null) {
+                addToIndex(index, type.getApiGroupName() + FWD_SLASH + type.getVersion(), type.getKind(), type);
+            }
+        }
+        return index;
+    }
+
+    private static <T> void addToIndex(Map<String, Map<String, T>> index, String version, String key, T value) {
+        index.computeIfAbsent(version, v -> new HashMap<>()).putIfAbsent(key, value);
+    }
+
+    private void addEndpoints(Map<VersionedApiResource, VersionedApiResource> endpoints, Set<IVersionedType> types,
+            final String prefix, final String apiGroupName, final String version, final Collection<ModelNode> nodes) {
         for (ModelNode node : nodes) {
             addEndpoint(endpoints, types, prefix, apiGroupName, version, node);
         }
     }
 
-    private void addEndpoint(List<VersionedApiResource> endpoints, List<IVersionedType> types, final String prefix,
-            final String apiGroupName, final String version, ModelNode node) {
+    private void addEndpoint(Map<VersionedApiResource, VersionedApiResource> endpoints, Set<IVersionedType> types,
+            final String prefix, final String apiGroupName, final String version, ModelNode node) {
         String[] nameAndCapability = getNameAndCapability(node);
         String name = nameAndCapability[0];
         String capability = nameAndCapability[1];
@@ -189,13 +280,10 @@ public class ApiTypeMapper implements IApiTypeMapper, ResourcePropertyKeys {
         VersionedApiResource resource = new VersionedApiResource(prefix, apiGroupName, version, name, kind, namespaced);
         VersionedType type = new VersionedType(prefix, typeApiGroupName != null ? typeApiGroupName : apiGroupName,
                 typeVersion != null ? typeVersion : version, kind);
-        if (capability == null && node.has(VERBS) && !node.get(VERBS).asList().isEmpty()
-                && !endpoints.contains(resource)) {
-            endpoints.add(resource);
-        }
-        if (!types.contains(type)) {
-            types.add(type);
+        if (capability == null && node.has(VERBS) && !node.get(VERBS).asList().isEmpty()) {
+            endpoints.putIfAbsent(resource, resource);
         }
+        types.add(type);
         addEndpointCapability(endpoints, capability, resource);
     }
 
@@ -210,71 +298,223 @@ public class ApiTypeMapper implements IApiTypeMapper, ResourcePropertyKeys {
         return new String[] { name, capability };
     }
 
-    private void addEndpointCapability(List<VersionedApiResource> endpoints, String capability,
-            VersionedApiResource resource) {
+    private void addEndpointCapability(Map<VersionedApiResource, VersionedApiResource> endpoints,
+            String capability, VersionedApiResource resource) {
         if (capability != null) {
-            int index = endpoints.indexOf(resource);
-            if (index != -1) {
-                endpoints.get(index).addCapability(capability);
+            VersionedApiResource endpoint = endpoints.get(resource);
+            if (endpoint != null) {
+                endpoint.addCapability(capability);
+            }
+        }
+    }
+
+    /**
+     * Returns the discovery documents by path. They are taken from the cache if
+     * there is one and it holds them for the current server version.
+     */
+    private Map<String, ModelNode> getDiscoveryDocuments() {
+        String version = null;
+        if (cache != null) {
+            version = getServerVersion();
+            if (version != null) {
+                Map<String, ModelNode> documents = cache.get(baseUrl, version);
+                if (documents != null) {
+                    LOGGER.debug("Using cached discovery for {} version {}", baseUrl, version);
+                    return documents;
+                }
+            }
+        }
+        Map<String, ModelNode> documents = new LinkedHashMap<>();
+        boolean complete = discover(documents);
+        if (version != null
+                && complete) {
+            cache.put(baseUrl, version, documents);
+        }
+        return documents;
+    }
+
+    /**
+     * Reads the discovery documents into the given map. The root documents are
+     * requested first, the documents for all groups and versions are then
+     * requested concurrently.
+     * 
+     * @return true if all documents could be read
+     */
+    private boolean discover(Map<String, ModelNode> documents) {
+        boolean complete = true;
+        Map<String, CompletableFuture<ModelNode>> requests = new LinkedHashMap<>();
+        for (String endpoint : Arrays.asList(KUBE_API, OS_API, API_GROUPS_API)) {
+            requests.put(endpoint, readEndpoint(endpoint));
+        }
+        awaitAll(requests.values());
+        for (String endpoint : Arrays.asList(KUBE_API, OS_API)) {
+            try {
+                putIfDefined(endpoint, resultOf(endpoint, requests.get(endpoint)), documents);
+            } catch (Exception ex) {
+                LOGGER.info("Can't access legacy endpoint {}", endpoint, ex);
+                // a missing legacy endpoint (ex. /oapi in OpenShift 4) is a valid discovery
+                complete &= ex instanceof NotFoundException;
+            }
+        }
+        putIfDefined(API_GROUPS_API, resultOf(API_GROUPS_API, requests.get(API_GROUPS_API)), documents);
+
+        requests.clear();
+        for (ApiGroup group : getGroups(documents)) {
+            for (String version : group.getVersions()) {
+                String path = group.pathFor(version);
+                requests.put(path, readEndpoint(path));
+            }
+        }
+        awaitAll(requests.values());
+        for (Map.Entry<String, CompletableFuture<ModelNode>> request : requests.entrySet()) {
+            try {
+                putIfDefined(request.getKey(), resultOf(request.getKey(), request.getValue()), documents);
+            } catch (Exception e) {
+                LOGGER.error("Can't load api group {}", request.getKey());
+                complete = false;
             }
         }
+        return complete;
     }
 
-    private Collection<ApiGroup> getApiGroups() {
-        String json = readEndpoint(API_GROUPS_API);
-        return ModelNode.fromJSONString(json).get("groups").asList().stream().map(n -> new ApiGroup(API_GROUPS_API, n))
-                .collect(Collectors.toList());
+    private static void putIfDefined(String path, ModelNode document, Map<String, ModelNode> documents) {
+        if (document != null) {
+            documents.put(path, document);
+        }
     }
 
-    private Collection<ModelNode> getResources(IApiGroup group, String version) {
+    private String getServerVersion() {
         try {
-            String json = readEndpoint(group.pathFor(version));
-            if (StringUtils.isBlank(json)) {
-                return new ArrayList<>();
+            CompletableFuture<ModelNode> request = readEndpoint(VERSION_ENDPOINT);
+            awaitAll(Collections.singletonList(request));
+            ModelNode version = resultOf(VERSION_ENDPOINT, request);
+            if (version == null
+                    || !version.has(GIT_VERSION)) {
+                return null;
             }
-            ModelNode node = ModelNode.fromJSONString(json);
-            return node.get("resources").asList();
+            return version.get(GIT_VERSION).asString();
         } catch (Exception e) {
-            LOGGER.error("Can't load api group {}", group.pathFor(version));
-            return new ArrayList<>();
+            LOGGER.debug("Can't determine the server version, not using the discovery cache", e);
+            return null;
         }
     }
 
-    private Collection<ApiGroup> getLegacyGroups() {
-        Collection<ApiGroup> groups = new ArrayList<>();
+    private List<ApiGroup> getGroups(Map<String, ModelNode> documents) {
+        List<ApiGroup> groups = new ArrayList<>();
         for (String endpoint : Arrays.asList(KUBE_API, OS_API)) {
-            try {
-                String json = readEndpoint(endpoint);
-                ModelNode n = ModelNode.fromJSONString(json);
-                groups.add(new LegacyApiGroup(endpoint, n));
-            } catch (Exception ex) {
-                LOGGER.info("Can't access legacy endpoint {}", endpoint, ex);
+            ModelNode node = documents.get(endpoint);
+            if (node != null) {
+                groups.add(new LegacyApiGroup(endpoint, node));
             }
         }
+        ModelNode apis = documents.get(API_GROUPS_API);
+        if (apis != null) {
+            apis.get("groups").asList().forEach(n -> groups.add(new ApiGroup(API_GROUPS_API, n)));
+        }
         return groups;
     }
 
-    private String readEndpoint(final String endpoint) {
+    private Collection<ModelNode> getResources(Map<String, ModelNode> documents, IApiGroup group, String version) {
+        ModelNode node = documents.get(group.pathFor(version));
+        if (node == null
+                || !node.has("resources")) {
+            return Collections.emptyList();
+        }
+        return node.get("resources").asList();
+    }
+
+    private CompletableFuture<ModelNode> readEndpoint(final String endpoint) {
         try {
             final URL url = new URL(new URL(this.baseUrl), endpoint);
             LOGGER.debug(url.toString());
-            return request(url);
+            Request request = new OpenShiftRequestBuilder()
+                    .url(url)
+                    .acceptJson()
+                    .authorization(authorizationContext)
+                    .build();
+            CompletableFuture<Response> response = ResponseFutures.enqueue(client, request);
+            CompletableFuture<ModelNode> document = response.thenApply(ApiTypeMapper::toModelNode);
+            document.whenComplete((node, e) -> {
+                if (document.isCancelled()) {
+                    response.cancel(false);
+                }
+            });
+            return document;
         } catch (IOException e) {
-            throw new OpenShiftException(e, "Unable to read endpoint %s/%s", this.baseUrl, endpoint);
+            CompletableFuture<ModelNode> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
         }
     }
 
-    private String request(final URL url) throws IOException {
-        Request request = new OpenShiftRequestBuilder()
-                .url(url)
-                .acceptJson()
-                .authorization(authorizationContext)
-                .build();
-        try (Response response = client.newCall(request).execute()) {
-            return response.body().string();
+    private static ModelNode toModelNode(Response response) {
+        try (Response closed = response) {
+            String json = response.body().string();
+            if (StringUtils.isBlank(json)) {
+                return null;
+            }
+            return ModelNode.fromJSONString(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Waits for the given concurrent requests, all of them together at most for
+     * the timeout of the client. The requests that didn't complete by then are
+     * cancelled. The requests run on the dispatcher, waiting unbounded would
+     * block the initialization forever if the dispatcher can't run them, ex.
+     * because the initialization runs in the callback of another request.
+     */
+    private void awaitAll(Collection<CompletableFuture<ModelNode>> requests) {
+        try {
+            CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[requests.size()]))
+                    .get(getRequestTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            requests.forEach(request -> request.cancel(false));
+            throw new OpenShiftException(e, "Interrupted while reading the endpoints of %s", this.baseUrl);
+        } catch (TimeoutException e) {
+            requests.forEach(request -> request.cancel(false));
+        } catch (ExecutionException e) {
+            // the failed requests report their errors
         }
     }
 
+    /**
+     * Returns the document of the given request that was awaited already.
+     */
+    private ModelNode resultOf(String endpoint, CompletableFuture<ModelNode> request) {
+        if (request.isCancelled()) {
+            throw new OpenShiftException("Could not read endpoint %s/%s within %d ms", this.baseUrl, endpoint,
+                    getRequestTimeoutMillis());
+        }
+        try {
+            return request.getNow(null);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                cause = cause.getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new OpenShiftException(cause, "Unable to read endpoint %s/%s", this.baseUrl, endpoint);
+        }
+    }
+
+    /**
+     * Returns the call timeout of the client or, if there is none, the sum of
+     * its connect, write and read timeouts.
+     */
+    private long getRequestTimeoutMillis() {
+        long timeout = client.callTimeoutMillis();
+        if (timeout <= 0
+                && client.readTimeoutMillis() > 0) {
+            timeout = client.connectTimeoutMillis() + client.writeTimeoutMillis() + client.readTimeoutMillis();
+        }
+        return timeout > 0 ? timeout : DEFAULT_REQUEST_TIMEOUT_MILLIS;
+    }
+
     static class ApiGroup implements IApiGroup {
         private final ModelNode node;
         private final String prefix;
@@ -357,21 +597,6 @@ public class ApiTypeMapper implements IApiTypeMapper, ResourcePropertyKeys {
         private String apiGroupName;
         private String kind;
 
-        VersionedApiResource(String prefix, String version, String name) {
-            if (version == null) {
-                throw new IllegalArgumentException("version can not be null when creating a VersionedApiResource ");
-            }
-            if (version.contains(FWD_SLASH)) {
-                int last = version.lastIndexOf(FWD_SLASH);
-                this.apiGroupName = version.substring(0, last);
-                version = version.substring(last + 1);
-            }
-            this.prefix = prefix;
-            this.name = name;
-            this.version = version;
-            this.namespaced = false;
-        }
-
         VersionedApiResource(String prefix, String apiGroupName, String version, String name, String kind,
                 boolean namespaced) {
             this.prefix = prefix;
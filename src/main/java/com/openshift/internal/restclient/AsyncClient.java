@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.openshift.internal.restclient.DefaultClient.HttpMethod;
+import com.openshift.restclient.IAsyncClient;
+import com.openshift.restclient.model.IList;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * Asynchronous operations of a {@link DefaultClient}
+ */
+public class AsyncClient implements IAsyncClient {
+
+    private final DefaultClient client;
+
+    public AsyncClient(DefaultClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public <T extends IResource> CompletableFuture<T> get(String kind, String name, String namespace) {
+        return execute(HttpMethod.GET.toString(), kind, namespace, name, null, null, null);
+    }
+
+    @Override
+    public CompletableFuture<IList> get(String kind, String namespace) {
+        return execute(HttpMethod.GET.toString(), kind, namespace, null, null, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IResource> CompletableFuture<List<T>> list(String kind, String namespace, String labelQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (StringUtils.isNotEmpty(labelQuery)) {
+            params.put(ListPager.PARAMETER_LABEL_SELECTOR, labelQuery);
+        }
+        return this.<IList>execute(HttpMethod.GET.toString(), kind, namespace, null, null, null, params)
+                .thenApply(resources -> {
+                    List<T> items = new ArrayList<>();
+                    items.addAll((Collection<? extends T>) resources.getItems());
+                    return items;
+                });
+    }
+
+    @Override
+    public <T extends IResource> CompletableFuture<T> create(T resource, String namespace) {
+        return execute(HttpMethod.POST.toString(), resource.getKind(), namespace, null, null, resource, null);
+    }
+
+    @Override
+    public <T extends IResource> CompletableFuture<T> update(T resource) {
+        return execute(HttpMethod.PUT.toString(), resource.getKind(), resource.getNamespaceName(),
+                resource.getName(), null, resource, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(IResource resource) {
+        return delete(resource.getKind(), resource.getNamespaceName(), resource.getName());
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String kind, String namespace, String name) {
+        return execute(HttpMethod.DELETE.toString(), kind, namespace, name, null, null, null)
+                .thenApply(status -> null);
+    }
+
+    @Override
+    public <T extends IResource> CompletableFuture<T> execute(String method, String kind, String namespace,
+            String name, String subresource, IResource payload, Map<String, String> params) {
+        return client.executeAsync(method, kind, namespace, name, subresource, payload, params);
+    }
+}
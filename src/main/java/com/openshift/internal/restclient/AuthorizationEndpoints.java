@@ -28,10 +28,15 @@ public class AuthorizationEndpoints  {
     private RequestingSupplier<ModelNode> endpointsSupplier;
     
     protected AuthorizationEndpoints(String baseUrl, OkHttpClient client) {
+        this(baseUrl, client, new ClusterFacts());
+    }
+
+    protected AuthorizationEndpoints(String baseUrl, OkHttpClient client, ClusterFacts facts) {
         this.endpointsSupplier = new RequestingSupplier<ModelNode>(
                 baseUrl + "/" + PATH_OAUTH_AUTHORIZATION_SERVER,
                 "authorization- & token-endpoint",
-                client) {
+                client,
+                facts) {
 
             @Override
             protected ModelNode extractValue(String response) {
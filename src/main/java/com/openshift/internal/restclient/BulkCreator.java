@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+import com.openshift.restclient.IAsyncClient;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * Creates a list of resources concurrently. The resources are created in
+ * phases so that the ones that others depend on exist before them: namespaces
+ * first, then service accounts, secrets and config maps, then all the others.
+ * Within a phase at most the given number of requests are in flight at once.
+ */
+public class BulkCreator {
+
+    public static final int DEFAULT_PARALLELISM = 5;
+
+    private static final List<List<String>> PHASES = Arrays.asList(
+            Arrays.asList(ResourceKind.NAMESPACE, ResourceKind.PROJECT_REQUEST),
+            Arrays.asList(ResourceKind.SERVICE_ACCOUNT, ResourceKind.SECRET, ResourceKind.CONFIG_MAP));
+
+    private final IAsyncClient client;
+    private final int parallelism;
+
+    public BulkCreator(IAsyncClient client, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive but was " + parallelism);
+        }
+        this.client = client;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates the given resources in the given namespace.
+     *
+     * @return the created resources or the status of why the creation failed,
+     *         in the order of the given resources
+     * @throws OpenShiftException
+     *             if a status can not be determined from the exception. The
+     *             remaining phases are not created then.
+     */
+    public Collection<IResource> create(Collection<IResource> resources, String namespace) {
+        List<IResource> items = new ArrayList<>(resources);
+        IResource[] results = new IResource[items.size()];
+        for (List<Integer> phase : getPhases(items)) {
+            RuntimeException failure = createPhase(phase, items, namespace, results);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Returns the indexes of the given resources, grouped by the phase they are
+     * created in. Phases without any resources are omitted.
+     */
+    static List<List<Integer>> getPhases(List<IResource> items) {
+        List<List<Integer>> phases = new ArrayList<>();
+        for (int i = 0; i <= PHASES.size(); i++) {
+            phases.add(new ArrayList<>());
+        }
+        for (int i = 0; i < items.size(); i++) {
+            phases.get(getPhase(items.get(i).getKind())).add(i);
+        }
+        phases.removeIf(List::isEmpty);
+        return phases;
+    }
+
+    private static int getPhase(String kind) {
+        for (int i = 0; i < PHASES.size(); i++) {
+            if (PHASES.get(i).contains(kind)) {
+                return i;
+            }
+        }
+        return PHASES.size();
+    }
+
+    private RuntimeException createPhase(List<Integer> phase, List<IResource> items, String namespace,
+            IResource[] results) {
+        RuntimeException[] failures = new RuntimeException[items.size()];
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<?>> requests = new ArrayList<>(phase.size());
+        for (int index : phase) {
+            acquire(permits);
+            CompletableFuture<IResource> request;
+            try {
+                request = client.create(items.get(index), namespace);
+            } catch (RuntimeException e) {
+                request = new CompletableFuture<>();
+                request.completeExceptionally(e);
+            }
+            requests.add(request.handle((created, e) -> {
+                try {
+                    if (e == null) {
+                        results[index] = created;
+                    } else {
+                        RuntimeException cause = toRuntimeException(e);
+                        if (cause instanceof OpenShiftException
+                                && ((OpenShiftException) cause).getStatus() != null) {
+                            results[index] = ((OpenShiftException) cause).getStatus();
+                        } else {
+                            failures[index] = cause;
+                        }
+                    }
+                    return null;
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        CompletableFuture.allOf(requests.toArray(new CompletableFuture[requests.size()])).join();
+        for (int index : phase) {
+            if (failures[index] != null) {
+                return failures[index];
+            }
+        }
+        return null;
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenShiftException(e, "Interrupted while creating resources");
+        }
+    }
+
+    private static RuntimeException toRuntimeException(Throwable e) {
+        if (e instanceof CompletionException
+                && e.getCause() != null) {
+            e = e.getCause();
+        }
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        return new OpenShiftException(e, "Unable to create resource");
+    }
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Facts about a cluster that are looked up once and then kept for a time to
+ * live (ex. the cluster versions or the console url). A fact is looked up by
+ * a single thread, concurrent callers wait for its result. Lookups that fail
+ * are not kept, the next caller looks the fact up again. Facts are kept
+ * forever unless a time to live is set.
+ */
+public class ClusterFacts {
+
+    public static final String OPENSHIFT_MAJOR_VERSION = "openShiftMajorVersion";
+    public static final String CONSOLE_URL = "consoleUrl";
+
+    private final Map<String, Fact> facts = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private volatile long timeToLive = -1;
+
+    public ClusterFacts() {
+        this(System::nanoTime);
+    }
+
+    ClusterFacts(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the fact of the given key. It is looked up with the given lookup
+     * if it is not known yet or if it expired.
+     *
+     * @throws RuntimeException
+     *             the exception that the lookup failed with
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> lookup) {
+        while (true) {
+            Fact fact = facts.get(key);
+            if (fact == null
+                    || fact.isExpired()) {
+                Fact created = new Fact();
+                boolean added = fact == null ? facts.putIfAbsent(key, created) == null : facts.replace(key, fact, created);
+                if (!added) {
+                    continue;
+                }
+                created.lookup(key, lookup);
+                fact = created;
+            }
+            try {
+                return (T) fact.value.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Whether the fact of the given key is known and did not expire
+     */
+    public boolean contains(String key) {
+        Fact fact = facts.get(key);
+        return fact != null
+                && fact.value.isDone()
+                && !fact.value.isCompletedExceptionally()
+                && !fact.isExpired();
+    }
+
+    /**
+     * Sets the time after which facts are looked up again. A negative time
+     * keeps them forever.
+     */
+    public void setTimeToLive(long timeToLive, TimeUnit unit) {
+        this.timeToLive = timeToLive < 0 ? -1 : unit.toNanos(timeToLive);
+    }
+
+    public void invalidate(String key) {
+        facts.remove(key);
+    }
+
+    public void clear() {
+        facts.clear();
+    }
+
+    private class Fact {
+
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+        private volatile long lookedUp;
+
+        private void lookup(String key, Supplier<?> lookup) {
+            try {
+                Object result = lookup.get();
+                this.lookedUp = nanoClock.getAsLong();
+                value.complete(result);
+            } catch (RuntimeException | Error e) {
+                facts.remove(key, this);
+                value.completeExceptionally(e);
+            }
+        }
+
+        private boolean isExpired() {
+            long ttl = timeToLive;
+            return ttl >= 0
+                    && value.isDone()
+                    && nanoClock.getAsLong() - lookedUp >= ttl;
+        }
+    }
+}
@@ -22,9 +22,16 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
@@ -33,10 +40,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.openshift.internal.restclient.authorization.AuthorizationContext;
+import com.openshift.internal.restclient.capability.server.Console;
+import com.openshift.internal.restclient.informers.SharedInformers;
+import com.openshift.internal.restclient.okhttp.MetricsInterceptor;
 import com.openshift.internal.restclient.okhttp.OpenShiftRequestBuilder;
+import com.openshift.internal.restclient.okhttp.ResponseFutures;
 import com.openshift.internal.restclient.okhttp.WatchClient;
 import com.openshift.restclient.IApiTypeMapper;
+import com.openshift.restclient.IAsyncClient;
 import com.openshift.restclient.IClient;
+import com.openshift.restclient.IInformer;
 import com.openshift.restclient.IOpenShiftWatchListener;
 import com.openshift.restclient.IResourceFactory;
 import com.openshift.restclient.IWatcher;
@@ -48,6 +61,7 @@ import com.openshift.restclient.authorization.IAuthorizationContext;
 import com.openshift.restclient.capability.CapabilityVisitor;
 import com.openshift.restclient.capability.ICapability;
 import com.openshift.restclient.http.IHttpConstants;
+import com.openshift.restclient.metrics.IClientMetrics;
 import com.openshift.restclient.model.IList;
 import com.openshift.restclient.model.IResource;
 import com.openshift.restclient.model.JSONSerializeable;
@@ -57,7 +71,9 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.Buffer;
 import okio.BufferedSink;
+import okio.ByteString;
 import okio.Okio;
 import okio.Source;
 
@@ -91,10 +107,17 @@ public class DefaultClient implements IClient, IHttpConstants {
     private final ClusterVersion kubernetesVersion;
     private final ClusterVersion openShiftVersion;
     private final AuthorizationEndpoints authorizationEndpoints;
-    private OpenShiftMajorVersion openShiftMajorVersion;
+    private final ClusterFacts facts;
+    private final SharedInformers informers = new SharedInformers(this);
+    private final AsyncClient asyncClient = new AsyncClient(this);
 
     public DefaultClient(URL baseUrl, OkHttpClient client, IResourceFactory factory, IApiTypeMapper typeMapper,
             AuthorizationContext authContext) {
+        this(baseUrl, client, factory, typeMapper, authContext, new ClusterFacts());
+    }
+
+    protected DefaultClient(URL baseUrl, OkHttpClient client, IResourceFactory factory, IApiTypeMapper typeMapper,
+            AuthorizationContext authContext, ClusterFacts facts) {
         this.baseUrl = baseUrl;
         this.client = client;
         this.factory = factory;
@@ -103,15 +126,16 @@ public class DefaultClient implements IClient, IHttpConstants {
         }
         this.typeMapper = typeMapper != null ? typeMapper : new ApiTypeMapper(baseUrl.toString(), client, authContext);
         this.authContext = authContext;
-        this.kubernetesVersion = new ClusterVersion(baseUrl.toExternalForm() + "/" + PATH_KUBERNETES_VERSION, "Kubernetes Version", client);
-        this.openShiftVersion = new ClusterVersion(baseUrl.toExternalForm() + "/" + PATH_OPENSHIFT_VERSION, "OpenShift Version", client);
-        this.authorizationEndpoints = new AuthorizationEndpoints(baseUrl.toExternalForm(), client);
+        this.facts = facts;
+        this.kubernetesVersion = new ClusterVersion(baseUrl.toExternalForm() + "/" + PATH_KUBERNETES_VERSION, "Kubernetes Version", client, facts);
+        this.openShiftVersion = new ClusterVersion(baseUrl.toExternalForm() + "/" + PATH_OPENSHIFT_VERSION, "OpenShift Version", client, facts);
+        this.authorizationEndpoints = new AuthorizationEndpoints(baseUrl.toExternalForm(), client, facts);
     }
 
     @Override
     public IClient clone() {
         AuthorizationContext context = authContext.clone();
-        DefaultClient clone = new DefaultClient(baseUrl, client, factory, typeMapper, context);
+        DefaultClient clone = new DefaultClient(baseUrl, client, factory, typeMapper, context, facts);
         context.setClient(clone);
         return clone;
     }
@@ -132,6 +156,16 @@ public class DefaultClient implements IClient, IHttpConstants {
         return this.watch("", listener, kinds);
     }
 
+    @Override
+    public IAsyncClient async() {
+        return asyncClient;
+    }
+
+    @Override
+    public IInformer informer(String namespace, String kind) {
+        return informers.acquire(namespace, kind);
+    }
+
     @Override
     public String getResourceURI(IResource resource) {
         return new URLBuilder(getBaseURL(), typeMapper, resource).build().toString();
@@ -166,7 +200,7 @@ public class DefaultClient implements IClient, IHttpConstants {
     public <T extends IResource> List<T> list(String kind, String namespace, String labelQuery) {
         Map<String, String> params = new HashMap<>();
         if (labelQuery != null && !labelQuery.isEmpty()) {
-            params.put("labelSelector", labelQuery);
+            params.put(ListPager.PARAMETER_LABEL_SELECTOR, labelQuery);
         }
 
         IList resources = execute(HttpMethod.GET.toString(), kind, namespace, null, null, null, params);
@@ -175,21 +209,21 @@ public class DefaultClient implements IClient, IHttpConstants {
         return items;
     }
 
+    @Override
+    public <T extends IResource> Stream<T> stream(String kind, String namespace, String labelQuery, int pageSize) {
+        Iterator<T> pager = new ListPager<>(this, kind, namespace, labelQuery, pageSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pager, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
     @Override
     public Collection<IResource> create(IList list, String namespace) {
-        List<IResource> results = new ArrayList<>(list.getItems().size());
-        for (IResource resource : list.getItems()) {
-            try {
-                results.add(create(resource, namespace));
-            } catch (OpenShiftException e) {
-                if (e.getStatus() != null) {
-                    results.add(e.getStatus());
-                } else {
-                    throw e;
-                }
-            }
-        }
-        return results;
+        return create(list, namespace, BulkCreator.DEFAULT_PARALLELISM);
+    }
+
+    @Override
+    public Collection<IResource> create(IList list, String namespace, int parallelism) {
+        return new BulkCreator(asyncClient, parallelism).create(list.getItems(), namespace);
     }
 
     @Override
@@ -280,6 +314,50 @@ public class DefaultClient implements IClient, IHttpConstants {
     @SuppressWarnings("unchecked")
     private <T> T execute(ITypeFactory factory, String method, String kind, String version, String namespace,
             String name, String subresource, String subContext, RequestBody requestBody, Map<String, String> params) {
+        Request request = createRequest(factory, method, kind, version, namespace, name, subresource, subContext,
+                requestBody, params);
+        LOGGER.debug("About to make {} request: {}", request.method(), request);
+        try (Response response = client.newCall(request).execute()) {
+            LOGGER.debug("Response: {}", response);
+            return (T) factory.createInstanceFrom(response.body().byteStream());
+        } catch (IOException e) {
+            throw new OpenShiftException(e, "Unable to execute request to %s", request.url());
+        }
+    }
+
+    /**
+     * Executes the request on the dispatcher of the okhttp client. The response is
+     * decoded on the dispatcher thread that received it.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> executeAsync(String method, String kind, String namespace, String name,
+            String subresource, IResource payload, Map<String, String> params) {
+        Request request;
+        try {
+            request = createRequest(this.factory, method, kind, getApiVersion(payload), namespace, name, subresource,
+                    null, getPayload(payload, method), params);
+        } catch (RuntimeException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        LOGGER.debug("About to enqueue {} request: {}", request.method(), request);
+        return ResponseFutures.enqueue(client, request).handle((response, e) -> {
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            } else if (e != null) {
+                throw new OpenShiftException(e, "Unable to execute request to %s", request.url());
+            }
+            try (Response closed = response) {
+                LOGGER.debug("Response: {}", response);
+                return (T) factory.createInstanceFrom(response.body().byteStream());
+            }
+        });
+    }
+
+    private Request createRequest(ITypeFactory factory, String method, String kind, String version,
+            String namespace, String name, String subresource, String subContext, RequestBody requestBody,
+            Map<String, String> params) {
         if (factory == null) {
             throw new OpenShiftException(ITypeFactory.class.getSimpleName() + " is null while trying to call IClient#execute");
         }
@@ -301,19 +379,13 @@ public class DefaultClient implements IClient, IHttpConstants {
                 .subContext(subContext)
                 .addParameters(params)
                 .build();
-        Request request = newRequestBuilder()
+        return newRequestBuilder()
             .url(endpoint)
             .method(method, requestBody)
             .acceptJson()
             .authorization(authContext)
+            .tag(MetricsInterceptor.Tag.class, new MetricsInterceptor.Tag(kind, StringUtils.isNotBlank(namespace)))
             .build();
-        LOGGER.debug("About to make {} request: {}", request.method(), request);
-        try {
-            String body = request(request);
-            return (T) factory.createInstanceFrom(body);
-        } catch (IOException e) {
-            throw new OpenShiftException(e, "Unable to execute request to %s", endpoint);
-        }
     }
 
     private String request(Request request) throws IOException {
@@ -332,13 +404,23 @@ public class DefaultClient implements IClient, IHttpConstants {
         return apiVersion;
     }
 
-    private RequestBody getPayload(JSONSerializeable payload, String method) {
+    /**
+     * Returns the body for the given payload. The body is written once the
+     * request is sent on the dispatcher and again whenever it is retried, the
+     * payload is thus serialized right away. Changes to the payload once the
+     * request was built aren't sent.
+     */
+    RequestBody getPayload(JSONSerializeable payload, String method) {
         if(isPayloadlessMethod(method)) {
             return null;
         }
-        String json = payload == null ? "" : payload.toJson(true);
-        LOGGER.debug("About to send payload: {}", json);
-        return RequestBody.create(json, MediaType.parse(MEDIATYPE_APPLICATION_JSON));
+        if (payload == null) {
+            return RequestBody.create("", MediaType.parse(MEDIATYPE_APPLICATION_JSON));
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("About to send payload {}", describe(payload));
+        }
+        return RequestBody.create(toJson(payload), MediaType.parse(MEDIATYPE_APPLICATION_JSON));
     }
 
     RequestBody getPayload(InputStream payload, String method) {
@@ -354,6 +436,11 @@ public class DefaultClient implements IClient, IHttpConstants {
                 sink.writeAll(source);
             }
 
+            @Override
+            public boolean isOneShot() {
+                return true;
+            }
+
             @Override
             public MediaType contentType() {
                 return MediaType.parse(MEDIATYPE_APPLICATION_OCTET_STREAM);
@@ -361,6 +448,24 @@ public class DefaultClient implements IClient, IHttpConstants {
         };
     }
 
+    private static ByteString toJson(JSONSerializeable payload) {
+        Buffer buffer = new Buffer();
+        try {
+            payload.writeJson(buffer.outputStream());
+        } catch (IOException e) {
+            throw new OpenShiftException(e, "Could not serialize payload %s", describe(payload));
+        }
+        return buffer.readByteString();
+    }
+
+    private static String describe(JSONSerializeable payload) {
+        if (!(payload instanceof IResource)) {
+            return payload.getClass().getSimpleName();
+        }
+        IResource resource = (IResource) payload;
+        return resource.getKind() + " " + resource.getName();
+    }
+
     private boolean isPayloadlessMethod(String method) {
         String uppercaseMethod = StringUtils.upperCase(method);
         return HttpMethod.GET.name().equals(uppercaseMethod) 
@@ -517,10 +622,35 @@ public class DefaultClient implements IClient, IHttpConstants {
 
     @Override
     public int getOpenShiftMajorVersion() {
-        if (openShiftMajorVersion == null) {
-            this.openShiftMajorVersion = new OpenShiftMajorVersion(getOpenShiftAPIVersion(), getKubernetesMasterVersion());
-        }
-        return openShiftMajorVersion.get();
+        return facts.get(ClusterFacts.OPENSHIFT_MAJOR_VERSION,
+            () -> new OpenShiftMajorVersion(getOpenShiftAPIVersion(), getKubernetesMasterVersion()).get());
+    }
+
+    /**
+     * Looks up the facts about the cluster in the background: the versions,
+     * the authorization endpoints, the api discovery and the console url.
+     * Independent lookups run concurrently on the given executor. Lookups
+     * that fail are only logged, they are retried when they're used.
+     *
+     * @return a future that completes once all lookups are done
+     */
+    public CompletableFuture<Void> warmUpClusterFacts(Executor executor) {
+        CompletableFuture<Void> kubernetes = lookup(this::getKubernetesMasterVersion, "kubernetes version", executor);
+        CompletableFuture<Void> discovery = lookup(this::getOpenShiftAPIVersion, "api discovery", executor);
+        CompletableFuture<Void> openShift = lookup(this::getOpenshiftMasterVersion, "openshift version", executor);
+        CompletableFuture<Void> endpoints = lookup(this::getAuthorizationEndpoint, "authorization endpoints", executor);
+        // the console url depends on the major version which depends on the kubernetes version and discovery
+        CompletableFuture<Void> console = CompletableFuture.allOf(kubernetes, discovery)
+                .thenCompose(ignore -> lookup(new Console(this)::getConsoleUrl, "console url", executor));
+        return CompletableFuture.allOf(openShift, endpoints, console);
+    }
+
+    private static CompletableFuture<Void> lookup(Runnable lookup, String description, Executor executor) {
+        return CompletableFuture.runAsync(lookup, executor)
+                .exceptionally(e -> {
+                    LOGGER.debug("Could not warm up {}.", description, e);
+                    return null;
+                });
     }
 
     @Override
@@ -576,19 +706,36 @@ public class DefaultClient implements IClient, IHttpConstants {
         if (IApiTypeMapper.class.equals(klass)) {
             return (T) this.typeMapper;
         }
+        if (ClusterFacts.class.equals(klass)) {
+            return (T) this.facts;
+        }
         if (ICapability.class.isAssignableFrom(klass) && this.supports((Class<? extends ICapability>) klass)) {
             return (T) getCapability((Class<? extends ICapability>) klass);
         }
         if (IResourceFactory.class.equals(klass)) {
             return (T) this.factory;
         }
+        if (IClientMetrics.class.equals(klass)) {
+            return (T) getMetrics();
+        }
         return null;
     }
 
+    private IClientMetrics getMetrics() {
+        if (client == null) {
+            return null;
+        }
+        return client.networkInterceptors().stream()
+                .filter(MetricsInterceptor.class::isInstance)
+                .map(interceptor -> ((MetricsInterceptor) interceptor).getMetrics())
+                .findFirst()
+                .orElse(null);
+    }
+
     private class ClusterVersion extends RequestingSupplier<String> {
 
-        protected ClusterVersion(String url, String description, OkHttpClient client) {
-            super(url, description, client);
+        protected ClusterVersion(String url, String description, OkHttpClient client, ClusterFacts facts) {
+            super(url, description, client, facts);
         }
 
         @Override
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the discovery documents of a cluster (the responses for /api, /apis,
+ * etc.) on disk. Entries are keyed by the server url and the server version and
+ * expire after a given time to live. A cache that can't be read or written is
+ * ignored.
+ */
+public class DiscoveryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiscoveryCache.class);
+
+    private static final String PROPERTY_SERVER = "server";
+    private static final String PROPERTY_VERSION = "version";
+    private static final String PROPERTY_TIMESTAMP = "timestamp";
+    private static final String PROPERTY_DOCUMENTS = "documents";
+
+    private final File directory;
+    private final long timeToLive;
+
+    /**
+     * @param directory
+     *            the directory that the cache files are stored to
+     * @param timeToLive
+     *            the duration after which a cached discovery is stale
+     * @param unit
+     *            the unit of the duration
+     */
+    public DiscoveryCache(File directory, long timeToLive, TimeUnit unit) {
+        this.directory = directory;
+        this.timeToLive = unit.toMillis(timeToLive);
+    }
+
+    /**
+     * Returns the cached documents by path for the given server and version.
+     * Returns {@code null} if there are none or they are stale.
+     */
+    public Map<String, ModelNode> get(String server, String version) {
+        File file = fileFor(server, version);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            ModelNode entry = ModelNode.fromJSONStream(in);
+            if (!server.equals(entry.get(PROPERTY_SERVER).asString())
+                    || !version.equals(entry.get(PROPERTY_VERSION).asString())
+                    || isExpired(entry.get(PROPERTY_TIMESTAMP).asLong())) {
+                return null;
+            }
+            Map<String, ModelNode> documents = new LinkedHashMap<>();
+            for (Property document : entry.get(PROPERTY_DOCUMENTS).asPropertyList()) {
+                documents.put(document.getName(), document.getValue());
+            }
+            return documents;
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.debug("Could not read discovery cache {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given documents by path for the given server and version.
+     */
+    public void put(String server, String version, Map<String, ModelNode> documents) {
+        ModelNode entry = new ModelNode();
+        entry.get(PROPERTY_SERVER).set(server);
+        entry.get(PROPERTY_VERSION).set(version);
+        entry.get(PROPERTY_TIMESTAMP).set(System.currentTimeMillis());
+        ModelNode documentsNode = entry.get(PROPERTY_DOCUMENTS).setEmptyObject();
+        documents.forEach((path, document) -> documentsNode.get(path).set(document));
+        File file = fileFor(server, version);
+        try {
+            Files.createDirectories(directory.toPath());
+            // write to a temporary file first so that other processes never read partial entries
+            Path tmp = Files.createTempFile(directory.toPath(), file.getName(), ".tmp");
+            try {
+                Files.write(tmp, entry.toJSONString(true).getBytes(StandardCharsets.UTF_8));
+                Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not write discovery cache {}", file, e);
+        }
+    }
+
+    private boolean isExpired(long timestamp) {
+        return System.currentTimeMillis() - timestamp > timeToLive;
+    }
+
+    File fileFor(String server, String version) {
+        return new File(directory, "discovery-" + DigestUtils.sha1Hex(server + " " + version) + ".json");
+    }
+}
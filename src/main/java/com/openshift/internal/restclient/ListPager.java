@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.http.IHttpConstants;
+import com.openshift.restclient.model.IList;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * Iterates the resources of a kind by requesting them page by page using the
+ * limit and continue parameters. The next page is only requested once the
+ * resources of the current page were iterated. The walk fails with an
+ * {@link OpenShiftException} with status {@link IHttpConstants#STATUS_GONE}
+ * if the continue token expired before the last page was requested, it has to
+ * be restarted from the first page then.
+ */
+public class ListPager<T extends IResource> implements Iterator<T> {
+
+    public static final String PARAMETER_LIMIT = "limit";
+    public static final String PARAMETER_CONTINUE = "continue";
+    public static final String PARAMETER_LABEL_SELECTOR = "labelSelector";
+
+    private final IClient client;
+    private final String kind;
+    private final String namespace;
+    private final String labelQuery;
+    private final int pageSize;
+    private Iterator<IResource> page = Collections.emptyIterator();
+    private String continueToken = null;
+    private boolean lastPage = false;
+    private int iterated = 0;
+
+    public ListPager(IClient client, String kind, String namespace, String labelQuery, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive but was " + pageSize);
+        }
+        this.client = client;
+        this.kind = kind;
+        this.namespace = namespace;
+        this.labelQuery = labelQuery;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()
+                && !lastPage) {
+            requestNextPage();
+        }
+        return page.hasNext();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        iterated++;
+        return (T) page.next();
+    }
+
+    private void requestNextPage() {
+        Map<String, String> params = new HashMap<>();
+        params.put(PARAMETER_LIMIT, String.valueOf(pageSize));
+        if (StringUtils.isNotBlank(continueToken)) {
+            params.put(PARAMETER_CONTINUE, continueToken);
+        }
+        if (StringUtils.isNotBlank(labelQuery)) {
+            params.put(PARAMETER_LABEL_SELECTOR, labelQuery);
+        }
+        IList list;
+        try {
+            list = client.execute(DefaultClient.HttpMethod.GET.toString(), kind, namespace, null, null, null, params);
+        } catch (OpenShiftException e) {
+            if (StringUtils.isNotBlank(continueToken)
+                    && isGone(e)) {
+                throw new OpenShiftException(e, e.getStatus(),
+                        "The continue token for listing %s in namespace %s expired after %s resources, the list has to be restarted",
+                        kind, namespace, iterated);
+            }
+            throw e;
+        }
+        this.page = list.getItems().iterator();
+        this.continueToken = list.getContinue();
+        this.lastPage = StringUtils.isBlank(continueToken);
+    }
+
+    private static boolean isGone(OpenShiftException e) {
+        return e.hasStatus()
+                && e.getStatus().getCode() == IHttpConstants.STATUS_GONE;
+    }
+}
@@ -34,27 +34,30 @@ abstract class RequestingSupplier<T> {
     private String url;
     protected String description;
     private OkHttpClient client;
-
-    private boolean requested = false;
-    private T value;
+    private ClusterFacts facts;
 
     protected RequestingSupplier(String url, String description, OkHttpClient client) {
+        this(url, description, client, new ClusterFacts());
+    }
+
+    protected RequestingSupplier(String url, String description, OkHttpClient client, ClusterFacts facts) {
         this.url = url;
         this.description = description;
         this.client = client;
-        this.value = getDefaultValue();
+        this.facts = facts;
     }
 
+    /**
+     * Returns the value that's kept in the cluster facts, it is requested if it
+     * is not known yet or expired.
+     */
     public T get() {
-        return requestIfRequired();
+        return facts.get(url, this::requestValue);
     }
 
-    private T requestIfRequired() {
+    private T requestValue() {
         try {
-            if (!requested) {
-                this.value = request(url);
-            }
-            return value;
+            return request(url);
         } catch (IOException e) {
             throw new OpenShiftException(e, "Unable to execute request to request url %s", url);
         }
@@ -67,16 +70,15 @@ abstract class RequestingSupplier<T> {
                 .tag(new ResponseCodeInterceptor.Ignore() {})
                 .build();
         try (Response response = client.newCall(request).execute()) {
-            this.requested = true;
             if (response != null
                     && response.isSuccessful()) {
-                this.value = extractValue(response.body().string());
+                return extractValue(response.body().string());
             } else {
                 LOGGER.info("Failed to determine {}: got {}", description, 
                         response == null ? "null" : response.code());
             }
         }
-        return this.value;
+        return getDefaultValue();
     }
 
     protected abstract T getDefaultValue();
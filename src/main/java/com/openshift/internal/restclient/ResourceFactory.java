@@ -9,17 +9,18 @@
 
 package com.openshift.internal.restclient;
 
-import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.jboss.dmr.ModelNode;
 
@@ -31,7 +32,9 @@ import com.openshift.restclient.IClient;
 import com.openshift.restclient.IResourceFactory;
 import com.openshift.restclient.ResourceFactoryException;
 import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.UnsupportedEndpointException;
 import com.openshift.restclient.UnsupportedVersionException;
+import com.openshift.restclient.metrics.IClientMetrics;
 import com.openshift.restclient.model.IResource;
 
 /**
@@ -43,8 +46,15 @@ public class ResourceFactory implements IResourceFactory {
     private static final String KIND = "kind";
     private static final String APIVERSION = "apiVersion";
     private static final Map<String, Class<? extends IResource>> IMPL_MAP = new HashMap<>();
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, ModelNode.class,
+            IClient.class, Map.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(IResource.class, ModelNode.class,
+            IClient.class, Map.class);
 
     private IClient client;
+    private IClientMetrics metrics;
+    /** the constructors of the resource classes, by version and kind */
+    private final Map<String, Map<String, ResourceConstructor>> constructors = new ConcurrentHashMap<>();
 
     public ResourceFactory(IClient client) {
         this.client = client;
@@ -73,18 +83,24 @@ public class ResourceFactory implements IResourceFactory {
     private List<IResource> buildList(final String version, List<ModelNode> items, String kind) {
         List<IResource> resources = new ArrayList<IResource>(items.size());
         for (ModelNode item : items) {
-            resources.add(create(item, version, kind));
+            resources.add(decode(item, version, kind));
         }
         return resources;
     }
 
+    /**
+     * Creates the resource while it is read from the given stream. Parsing the
+     * stream can't be told apart from waiting for the network, only the
+     * creation of the resource from the parsed json is recorded to the client
+     * metrics.
+     */
     @Override
-    @SuppressWarnings("unchecked")
     public IResource create(InputStream input) {
         try {
-            String resource = IOUtils.toString(input, "UTF-8");
-            return create(resource);
-        } catch (IOException e) {
+            return decode(ModelNode.fromJSONStream(input));
+        } catch (UnsupportedVersionException e) {
+            throw e;
+        } catch (Exception e) {
             throw new ResourceFactoryException(e, "There was an exception creating the resource from the InputStream");
         }
     }
@@ -94,10 +110,7 @@ public class ResourceFactory implements IResourceFactory {
     @SuppressWarnings("unchecked")
     public <T extends IResource> T create(String response) {
         try {
-            ModelNode node = ModelNode.fromJSONString(response);
-            String version = node.get(APIVERSION).asString();
-            String kind = node.get(KIND).asString();
-            return (T) create(node, version, kind);
+            return (T) decode(ModelNode.fromJSONString(response));
         } catch (UnsupportedVersionException e) {
             throw e;
         } catch (Exception e) {
@@ -105,6 +118,39 @@ public class ResourceFactory implements IResourceFactory {
         }
     }
 
+    /**
+     * Create a resource from an already parsed node without serializing and
+     * parsing it again. The node is not copied, it backs the returned resource.
+     * 
+     * @param node
+     *            the node holding the resource
+     * @return the resource
+     * @throws ResourceFactoryException
+     *             if it is unable to create the resource
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends IResource> T create(ModelNode node) {
+        return (T) decode(node);
+    }
+
+    /**
+     * Create a resource from an already parsed node using the given factory.
+     * Nodes are handed over as is if the factory is a {@link ResourceFactory},
+     * other factories are given the node as json string.
+     * 
+     * @param factory
+     *            the factory to create the resource with
+     * @param node
+     *            the node holding the resource
+     * @return the resource
+     */
+    public static <T extends IResource> T create(IResourceFactory factory, ModelNode node) {
+        if (factory instanceof ResourceFactory) {
+            return ((ResourceFactory) factory).create(node);
+        }
+        return factory.create(node.toJSONString(true));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends IResource> T create(String version, String kind) {
@@ -127,13 +173,7 @@ public class ResourceFactory implements IResourceFactory {
             if (kind.endsWith("List")) {
                 return new com.openshift.internal.restclient.model.List(node, client, properyKeyMap);
             }
-            Class<? extends IResource> klass = getResourceClass(version, kind);
-            if (klass != null) {
-                Constructor<? extends IResource> constructor = klass.getConstructor(ModelNode.class, IClient.class,
-                        Map.class);
-                return constructor.newInstance(node, client, properyKeyMap);
-            }
-            return new KubernetesResource(node, client, properyKeyMap);
+            return getConstructor(version, kind).create(node, client, properyKeyMap);
         } catch (UnsupportedVersionException e) {
             throw e;
         } catch (Exception e) {
@@ -141,23 +181,77 @@ public class ResourceFactory implements IResourceFactory {
         }
     }
 
+    private IResource decode(ModelNode node) {
+        return decode(node, node.get(APIVERSION).asString(), node.get(KIND).asString());
+    }
+
+    /**
+     * Creates the resource from parsed json and records the time it took to the
+     * client metrics.
+     */
+    private IResource decode(ModelNode node, String version, String kind) {
+        long start = System.nanoTime();
+        IResource resource = create(node, version, kind);
+        recordDecode(kind, start);
+        return resource;
+    }
+
     @Override
     public Object createInstanceFrom(String response) {
         return create(response);
     }
+
+    @Override
+    public Object createInstanceFrom(InputStream response) {
+        return create(response);
+    }
     
-    @SuppressWarnings("unchecked")
-    private Class<? extends IResource> getResourceClass(String version, String kind) {
+    /**
+     * Returns the constructor for resources of the given version and kind. The
+     * constructors are resolved once per version and kind. Failed lookups of the
+     * type are not cached since the api discovery may succeed later on.
+     */
+    private ResourceConstructor getConstructor(String version, String kind) throws ReflectiveOperationException {
+        Map<String, ResourceConstructor> byKind = constructors.computeIfAbsent(StringUtils.defaultString(version),
+            v -> new ConcurrentHashMap<>());
+        ResourceConstructor constructor = byKind.get(kind);
+        if (constructor != null) {
+            return constructor;
+        }
         IApiTypeMapper mapper = this.client.adapt(IApiTypeMapper.class);
-        if (mapper != null) {
+        if (mapper == null) {
+            return KubernetesResource::new;
+        }
+        Class<?> klass;
+        boolean cacheable = true;
+        try {
+            IVersionedType type = mapper.getType(version, kind);
+            klass = TypeRegistry.getInstance().getRegisteredType(type.getApiGroupNameAndVersion() + IApiTypeMapper.DOT + type.getKind());
+        } catch (Exception e) {
+            cacheable = e instanceof UnsupportedEndpointException;
+            klass = TypeRegistry.getInstance().getRegisteredType(version + IApiTypeMapper.DOT + kind);
+        }
+        constructor = createConstructor(klass);
+        if (cacheable) {
+            byKind.putIfAbsent(kind, constructor);
+        }
+        return constructor;
+    }
+
+    private static ResourceConstructor createConstructor(Class<?> klass) throws ReflectiveOperationException {
+        if (klass == null) {
+            return KubernetesResource::new;
+        }
+        MethodHandle handle = MethodHandles.publicLookup().findConstructor(klass, CONSTRUCTOR_TYPE).asType(FACTORY_TYPE);
+        return (node, client, propertyKeys) -> {
             try {
-                IVersionedType type = mapper.getType(version, kind);
-                return (Class<? extends IResource>) TypeRegistry.getInstance().getRegisteredType(type.getApiGroupNameAndVersion() + IApiTypeMapper.DOT + type.getKind());
-            } catch (Exception e) {
-                return (Class<? extends IResource>) TypeRegistry.getInstance().getRegisteredType(version + IApiTypeMapper.DOT + kind);
+                return (IResource) handle.invokeExact(node, client, propertyKeys);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ResourceFactoryException(e, "Unable to create resource of class %s", klass.getName());
             }
-        }
-        return null;
+        };
     }
 
     @SuppressWarnings("unchecked")
@@ -191,6 +285,23 @@ public class ResourceFactory implements IResourceFactory {
     @Override
     public void setClient(IClient client) {
         this.client = client;
+        this.metrics = client == null ? null : client.adapt(IClientMetrics.class);
+        constructors.clear();
+    }
+
+    private void recordDecode(String kind, long start) {
+        if (metrics != null) {
+            metrics.recordDecode(kind, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Creates the resource instance for a node
+     */
+    @FunctionalInterface
+    private interface ResourceConstructor {
+
+        IResource create(ModelNode node, IClient client, Map<String, String[]> propertyKeys);
     }
 
 }
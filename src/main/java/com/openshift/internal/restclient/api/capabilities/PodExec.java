@@ -11,6 +11,12 @@
 
 package com.openshift.internal.restclient.api.capabilities;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -24,6 +30,7 @@ import com.openshift.internal.restclient.okhttp.OpenShiftRequestBuilder;
 import com.openshift.internal.restclient.okhttp.ResponseCodeInterceptor;
 import com.openshift.restclient.IApiTypeMapper;
 import com.openshift.restclient.IClient;
+import com.openshift.restclient.OpenShiftException;
 import com.openshift.restclient.api.capabilities.IPodExec;
 import com.openshift.restclient.capability.IStoppable;
 import com.openshift.restclient.http.IHttpConstants;
@@ -34,6 +41,7 @@ import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.Buffer;
 import okio.ByteString;
 
 public class PodExec extends AbstractCapability implements IPodExec {
@@ -47,9 +55,15 @@ public class PodExec extends AbstractCapability implements IPodExec {
 
     private static final String K8S_PROTOCOL = "channel.k8s.io";
 
+    public static final int CHANNEL_STDIN = 0;
     public static final int CHANNEL_STDOUT = 1;
     public static final int CHANNEL_STDERR = 2;
     public static final int CHANNEL_EXECERR = 3;
+    public static final int CHANNEL_RESIZE = 4;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** the bytes that may be queued in a websocket before writing to stdin blocks */
+    private static final long MAX_QUEUED_BYTES = 1024 * 1024;
 
     private final IPod pod;
     private final DefaultClient client;
@@ -69,7 +83,19 @@ public class PodExec extends AbstractCapability implements IPodExec {
 
     @Override
     public IStoppable start(IPodExecOutputListener listener, Options options, String... commands) {
+        ExecOutputListenerAdapter adapter = new ExecOutputListenerAdapter(listener);
+        start(adapter, options, commands);
+        return adapter;
+    }
 
+    @Override
+    public IPodExecSession start(IPodExecChannelListener listener, Options options, String... commands) {
+        ExecChannelListenerAdapter adapter = new ExecChannelListenerAdapter(listener);
+        adapter.setWebSocket(start(adapter, options, commands));
+        return adapter;
+    }
+
+    private WebSocket start(WebSocketListener listener, Options options, String... commands) {
         if (options == null) {
             options = new Options();
         }
@@ -107,9 +133,7 @@ public class PodExec extends AbstractCapability implements IPodExec {
                 .tag(new ResponseCodeInterceptor.Ignore() {})
                 .build();
 
-        ExecOutputListenerAdapter adapter = new ExecOutputListenerAdapter(listener);
-        okClient.newWebSocket(request, adapter);
-        return adapter;
+        return okClient.newWebSocket(request, listener);
     }
 
     static class ExecOutputListenerAdapter extends WebSocketListener implements IStoppable {
@@ -173,7 +197,7 @@ public class PodExec extends AbstractCapability implements IPodExec {
 
         @Override
         public void onMessage(WebSocket webSocket, String text) {
-            throw new IllegalStateException("Should not receive text message on pod exec sockets");
+            LOG.debug("Ignoring text message on pod exec socket");
         }
 
         @Override
@@ -197,4 +221,204 @@ public class PodExec extends AbstractCapability implements IPodExec {
 
     }
 
+    /**
+     * Dispatches the received frames as read-only views without copying or
+     * decoding them. Stdin is buffered in an array that reserves the first byte
+     * for the channel, sending it copies it once into the (immutable) frame.
+     */
+    static class ExecChannelListenerAdapter extends WebSocketListener implements IPodExecSession {
+
+        private final IPodExecChannelListener listener;
+        private final StdIn stdIn = new StdIn();
+        private final AtomicBoolean open = new AtomicBoolean(false);
+        private volatile WebSocket webSocket;
+        private volatile boolean closed = false;
+
+        ExecChannelListenerAdapter(IPodExecChannelListener listener) {
+            this.listener = listener;
+        }
+
+        void setWebSocket(WebSocket webSocket) {
+            this.webSocket = webSocket;
+        }
+
+        @Override
+        public OutputStream getStdIn() {
+            return stdIn;
+        }
+
+        @Override
+        public WritableByteChannel getStdInChannel() {
+            return stdIn;
+        }
+
+        @Override
+        public void resize(int width, int height) {
+            String size = String.format("{\"Width\":%d,\"Height\":%d}", width, height);
+            if (!send(new Buffer().writeByte(CHANNEL_RESIZE).writeUtf8(size).readByteString())) {
+                throw new OpenShiftException("Could not resize the terminal, the exec was closed");
+            }
+        }
+
+        @Override
+        public void stop() {
+            this.closed = true;
+            if (webSocket != null) {
+                webSocket.cancel();
+            }
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            if (open.compareAndSet(false, true)) {
+                this.webSocket = webSocket;
+                listener.onOpen();
+            }
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, ByteString message) {
+            if (message.size() == 0) {
+                return;
+            }
+            ByteBuffer buffer = message.asByteBuffer();
+            int channel = buffer.get();
+            deliver(channel, buffer.slice());
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            LOG.debug("Ignoring text message on pod exec socket");
+        }
+
+        void deliver(int channel, ByteBuffer data) {
+            switch (channel) {
+            case CHANNEL_STDOUT:
+                listener.onStdOut(data);
+                break;
+            case CHANNEL_STDERR:
+                listener.onStdErr(data);
+                break;
+            case CHANNEL_EXECERR:
+                listener.onExecErr(data);
+                break;
+            default:
+                LOG.warn("Unable to deliver exec message of channel [{}]", channel);
+            }
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            this.closed = true;
+            webSocket.close(code, null);
+            if (open.compareAndSet(true, false)) {
+                listener.onClose(code, reason);
+            }
+        }
+
+        @Override
+        public void onFailure(WebSocket webSocket, Throwable e, Response response) {
+            this.closed = true;
+            listener.onFailure(e);
+        }
+
+        private boolean send(ByteString frame) {
+            return webSocket != null
+                    && webSocket.send(frame);
+        }
+
+        /**
+         * Stdin of the exec. Writes to the stream are buffered until it is
+         * flushed, writes to the channel are sent right away. Both block while
+         * the websocket has more than {@link #MAX_QUEUED_BYTES} queued, okhttp
+         * fails the websocket if more than 16MB are queued.
+         */
+        private class StdIn extends OutputStream implements WritableByteChannel {
+
+            private final byte[] buffer = new byte[BUFFER_SIZE + 1];
+            private int count = 1;
+
+            StdIn() {
+                buffer[0] = CHANNEL_STDIN;
+            }
+
+            @Override
+            public synchronized void write(int b) throws IOException {
+                if (count == buffer.length) {
+                    flush();
+                }
+                buffer[count++] = (byte) b;
+            }
+
+            @Override
+            public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+                while (length > 0) {
+                    if (count == buffer.length) {
+                        flush();
+                    }
+                    int chunk = Math.min(length, buffer.length - count);
+                    System.arraycopy(bytes, offset, buffer, count, chunk);
+                    count += chunk;
+                    offset += chunk;
+                    length -= chunk;
+                }
+            }
+
+            @Override
+            public synchronized int write(ByteBuffer source) throws IOException {
+                int written = source.remaining();
+                while (source.hasRemaining()) {
+                    if (count == buffer.length) {
+                        flush();
+                    }
+                    int chunk = Math.min(source.remaining(), buffer.length - count);
+                    source.get(buffer, count, chunk);
+                    count += chunk;
+                }
+                flush();
+                return written;
+            }
+
+            @Override
+            public synchronized void flush() throws IOException {
+                if (count == 1) {
+                    return;
+                }
+                awaitQueueDrained();
+                if (!send(ByteString.of(buffer, 0, count))) {
+                    throw new ClosedChannelException();
+                }
+                count = 1;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return !closed;
+            }
+
+            /**
+             * Sends what is buffered. The exec is not closed, the channel
+             * protocol has no way to close stdin only.
+             */
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+
+            private void awaitQueueDrained() throws IOException {
+                try {
+                    while (webSocket != null
+                            && webSocket.queueSize() > MAX_QUEUED_BYTES) {
+                        if (closed) {
+                            throw new ClosedChannelException();
+                        }
+                        Thread.sleep(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while sending to stdin");
+                }
+            }
+        }
+    }
 }
@@ -11,6 +11,7 @@
 
 package com.openshift.internal.restclient.apis;
 
+import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.util.Map;
 import java.util.Optional;
@@ -81,23 +82,7 @@ public class TypeMetaFactory implements ITypeFactory, ResourcePropertyKeys {
     @Override
     public Object createInstanceFrom(String response) {
         try {
-            ModelNode node = ModelNode.fromJSONString(response);
-            String version = node.get(APIVERSION).asString();
-            String kind = node.get(KIND).asString();
-
-            Map<String, String[]> properyKeyMap = ResourcePropertiesRegistry.getInstance().get(version, kind);
-            Class<? extends ITypeMeta> clazz = (Class<? extends ITypeMeta>) TypeRegistry.getInstance().getRegisteredType(version + IApiTypeMapper.DOT + kind);
-                    
-            try {
-                if (clazz != null) {
-                    Constructor<? extends ITypeMeta> constructor = clazz.getConstructor(ModelNode.class,
-                            Map.class);
-                    return constructor.newInstance(node, properyKeyMap);
-                }
-            } catch (Exception e) {
-                return new TypeMeta(node, properyKeyMap);
-            }
-            return new TypeMeta(node, properyKeyMap);
+            return createInstanceFrom(ModelNode.fromJSONString(response));
         } catch (UnsupportedVersionException e) {
             throw e;
         } catch (Exception e) {
@@ -105,4 +90,34 @@ public class TypeMetaFactory implements ITypeFactory, ResourcePropertyKeys {
         }
     }
 
+    @Override
+    public Object createInstanceFrom(InputStream response) {
+        try {
+            return createInstanceFrom(ModelNode.fromJSONStream(response));
+        } catch (UnsupportedVersionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ResourceFactoryException(e, "Unable to create from the response stream");
+        }
+    }
+
+    private Object createInstanceFrom(ModelNode node) {
+        String version = node.get(APIVERSION).asString();
+        String kind = node.get(KIND).asString();
+
+        Map<String, String[]> properyKeyMap = ResourcePropertiesRegistry.getInstance().get(version, kind);
+        Class<? extends ITypeMeta> clazz = (Class<? extends ITypeMeta>) TypeRegistry.getInstance().getRegisteredType(version + IApiTypeMapper.DOT + kind);
+
+        try {
+            if (clazz != null) {
+                Constructor<? extends ITypeMeta> constructor = clazz.getConstructor(ModelNode.class,
+                        Map.class);
+                return constructor.newInstance(node, properyKeyMap);
+            }
+        } catch (Exception e) {
+            return new TypeMeta(node, properyKeyMap);
+        }
+        return new TypeMeta(node, properyKeyMap);
+    }
+
 }
@@ -9,6 +9,8 @@
 
 package com.openshift.internal.restclient.authorization;
 
+import java.util.concurrent.TimeUnit;
+
 import org.apache.commons.lang.StringUtils;
 
 import com.openshift.restclient.IClient;
@@ -19,13 +21,14 @@ import com.openshift.restclient.model.user.IUser;
 
 public class AuthorizationContext implements IAuthorizationContext {
 
-    private String token;
-    private String expires;
-    private String scheme;
-    private IUser user;
-    private String userName;
-    private String password;
-    private IClient client;
+    private volatile String token;
+    private volatile String expires;
+    private volatile long expiresAt = -1;
+    private volatile String scheme;
+    private volatile IUser user;
+    private volatile String userName;
+    private volatile String password;
+    private volatile IClient client;
 
     public AuthorizationContext(String scope) {
         this.scheme = scope;
@@ -39,13 +42,14 @@ public class AuthorizationContext implements IAuthorizationContext {
 
     public AuthorizationContext(String token, String expires, IUser user, String scheme) {
         this.token = token;
-        this.expires = expires;
         this.user = user;
         this.scheme = scheme;
+        setExpiresIn(expires);
     }
 
     public AuthorizationContext clone() {
         AuthorizationContext context = new AuthorizationContext(this.token, this.expires, this.user, this.scheme);
+        context.expiresAt = this.expiresAt;
         context.setUserName(this.userName);
         context.setPassword(this.password);
         context.setClient(this.client);
@@ -81,6 +85,30 @@ public class AuthorizationContext implements IAuthorizationContext {
         return expires;
     }
 
+    /**
+     * Sets the number of seconds from now on that the token is valid. The
+     * expiration is unknown if it is {@code null} or not a number.
+     */
+    public void setExpiresIn(String expires) {
+        this.expires = expires;
+        if (StringUtils.isNumeric(expires)
+                && StringUtils.isNotEmpty(expires)) {
+            this.expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(Long.parseLong(expires));
+        } else {
+            this.expiresAt = -1;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the token expires within the given number of
+     * milliseconds. Tokens whose expiration is unknown never expire.
+     */
+    public boolean isExpiring(long withinMillis) {
+        long at = expiresAt;
+        return at >= 0
+                && System.currentTimeMillis() + withinMillis >= at;
+    }
+
     @Override
     public String getAuthScheme() {
         return scheme;
@@ -95,9 +123,15 @@ public class AuthorizationContext implements IAuthorizationContext {
         this.user = user;
     }
 
+    /**
+     * Sets the token. Its expiration is unknown until it is set with
+     * {@link #setExpiresIn(String)}.
+     */
     @Override
     public void setToken(String token) {
         this.token = token;
+        this.expires = null;
+        this.expiresAt = -1;
     }
 
     @Override
@@ -123,9 +157,7 @@ public class AuthorizationContext implements IAuthorizationContext {
     @Override
     public void invalidate() {
         this.user = null;
-        this.token = null;
+        setToken(null);
     }
-    
-    
 
 }
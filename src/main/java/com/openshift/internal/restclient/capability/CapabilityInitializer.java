@@ -9,7 +9,13 @@
 
 package com.openshift.internal.restclient.capability;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 import com.openshift.internal.restclient.api.capabilities.PodExec;
 import com.openshift.internal.restclient.api.capabilities.ScaleCapability;
@@ -23,10 +29,11 @@ import com.openshift.internal.restclient.capability.resources.DeploymentConfigTr
 import com.openshift.internal.restclient.capability.resources.DeploymentTraceability;
 import com.openshift.internal.restclient.capability.resources.DeploymentTrigger;
 import com.openshift.internal.restclient.capability.resources.ImageStreamImportCapability;
-import com.openshift.internal.restclient.capability.resources.OpenShiftBinaryPodLogRetrieval;
-import com.openshift.internal.restclient.capability.resources.OpenShiftBinaryPortForwarding;
-import com.openshift.internal.restclient.capability.resources.OpenShiftBinaryRSync;
+import com.openshift.internal.restclient.capability.resources.PodLogAggregation;
+import com.openshift.internal.restclient.capability.resources.PodLogRetrieval;
 import com.openshift.internal.restclient.capability.resources.PodLogRetrievalAsync;
+import com.openshift.internal.restclient.capability.resources.PodRSync;
+import com.openshift.internal.restclient.capability.resources.PortForwarding;
 import com.openshift.internal.restclient.capability.resources.ProjectTemplateListCapability;
 import com.openshift.internal.restclient.capability.resources.ProjectTemplateProcessing;
 import com.openshift.internal.restclient.capability.resources.PropertyAccessCapability;
@@ -35,7 +42,6 @@ import com.openshift.internal.restclient.capability.resources.TemplateTraceabili
 import com.openshift.internal.restclient.capability.resources.UpdateableCapability;
 import com.openshift.internal.restclient.capability.server.Console;
 import com.openshift.internal.restclient.capability.server.ServerTemplateProcessing;
-import com.openshift.internal.restclient.model.Service;
 import com.openshift.internal.restclient.model.build.BuildConfigBuilder;
 import com.openshift.restclient.IClient;
 import com.openshift.restclient.api.capabilities.IPodExec;
@@ -50,6 +56,7 @@ import com.openshift.restclient.capability.resources.IDeploymentConfigTraceabili
 import com.openshift.restclient.capability.resources.IDeploymentTraceability;
 import com.openshift.restclient.capability.resources.IDeploymentTriggerable;
 import com.openshift.restclient.capability.resources.IImageStreamImportCapability;
+import com.openshift.restclient.capability.resources.IPodLogAggregation;
 import com.openshift.restclient.capability.resources.IPodLogRetrieval;
 import com.openshift.restclient.capability.resources.IPodLogRetrievalAsync;
 import com.openshift.restclient.capability.resources.IPortForwardable;
@@ -73,98 +80,120 @@ import com.openshift.restclient.model.build.IBuildConfigBuilder;
 
 /**
  * Convenience class to initialize capabilies. Only adds entry to underlying map
- * if the capability is supported
+ * if the capability is supported.
  * 
+ * The capabilities of resources are registered per resource type and created
+ * on demand, most resources are never asked for any of their capabilities. The
+ * capabilities that apply to a resource class are resolved once per class.
  */
 public class CapabilityInitializer {
 
-    private CapabilityInitializer() {
+    private static final List<Registration> REGISTRATIONS = new ArrayList<>();
+
+    static {
+        register(IResource.class, ITemplateTraceability.class, (resource, client) -> new TemplateTraceability(resource));
+        register(IResource.class, IDeploymentConfigTraceability.class,
+            (resource, client) -> new DeploymentConfigTraceability(resource, client));
+        register(IResource.class, IDeploymentTraceability.class,
+            (resource, client) -> new DeploymentTraceability(resource, client));
+        register(IResource.class, ITags.class, (resource, client) -> new TagCapability(resource));
+        register(IResource.class, IClientCapability.class, (resource, client) -> new ClientCapability(client));
+        register(IResource.class, IUpdatable.class, (resource, client) -> new UpdateableCapability(resource));
+        register(IResource.class, IPropertyAccessCapability.class,
+            (resource, client) -> new PropertyAccessCapability(resource));
+
+        register(IBuild.class, IBuildTriggerable.class, (build, client) -> new BuildTrigger(build, client));
+        register(IBuild.class, IBuildCancelable.class, (build, client) -> new BuildCanceller(build, client));
+
+        register(IBuildConfig.class, IBuildTriggerable.class,
+            (buildConfig, client) -> new BuildTrigger(buildConfig, client));
+        register(IBuildConfig.class, IBinaryBuildTriggerable.class,
+            (buildConfig, client) -> new BinaryBuildTrigger(buildConfig, client));
+
+        register(IPod.class, IPortForwardable.class, (pod, client) -> new PortForwarding(pod, client));
+        register(IPod.class, IPodLogRetrieval.class, (pod, client) -> new PodLogRetrieval(pod, client));
+        register(IPod.class, IPodLogRetrievalAsync.class, (pod, client) -> new PodLogRetrievalAsync(pod, client));
+        register(IPod.class, IPodExec.class, (pod, client) -> new PodExec(pod, client));
+        register(IPod.class, IRSyncable.class, (pod, client) -> new PodRSync(pod, client));
+
+        register(IProject.class, IProjectTemplateProcessing.class,
+            (project, client) -> new ProjectTemplateProcessing(project, client));
+        register(IProject.class, IProjectTemplateList.class,
+            (project, client) -> new ProjectTemplateListCapability(project, client));
+        register(IProject.class, IImageStreamImportCapability.class,
+            (project, client) -> new ImageStreamImportCapability(project, client));
+        register(IProject.class, IPodLogAggregation.class, (project, client) -> new PodLogAggregation(project, client));
+
+        register(IReplicationController.class, IScalable.class,
+            (rc, client) -> new ScaleCapability(rc, client, new TypeMetaFactory()));
+
+        register(IDeploymentConfig.class, IDeployCapability.class, (config, client) -> new DeployCapability(config, client));
+        register(IDeploymentConfig.class, IDeploymentTriggerable.class,
+            (config, client) -> new DeploymentTrigger(config, client, new TypeMetaFactory()));
     }
 
-    /**
-     * Registers the capability if it is supported
-     * 
-     */
-    private static void initializeCapability(Map<Class<? extends ICapability>, ICapability> capabilities,
-            Class<? extends ICapability> capability, ICapability impl) {
-        if (impl.isSupported()) {
-            capabilities.put(capability, impl);
+    private static final ClassValue<Map<Class<? extends ICapability>, Registration>> CAPABILITIES =
+            new ClassValue<Map<Class<? extends ICapability>, Registration>>() {
+
+        @Override
+        protected Map<Class<? extends ICapability>, Registration> computeValue(Class<?> resourceType) {
+            Map<Class<? extends ICapability>, Registration> capabilities = new LinkedHashMap<>();
+            for (Registration registration : REGISTRATIONS) {
+                if (registration.resourceType.isAssignableFrom(resourceType)) {
+                    capabilities.put(registration.capability, registration);
+                }
+            }
+            return Collections.unmodifiableMap(capabilities);
         }
+    };
+
+    private CapabilityInitializer() {
     }
 
-    /**
-     * Initialize Build specific capabilities
-     * 
-     */
-    public static void initializeCapabilities(Map<Class<? extends ICapability>, ICapability> capabilities, IBuild build,
-            IClient client) {
-        initializeCapability(capabilities, IBuildTriggerable.class, new BuildTrigger(build, client));
-        initializeCapability(capabilities, IBuildCancelable.class, new BuildCanceller(build, client));
+    private static <R extends IResource> void register(Class<R> resourceType, Class<? extends ICapability> capability,
+            BiFunction<R, IClient, ICapability> factory) {
+        REGISTRATIONS.add(new Registration(resourceType, capability, factory));
     }
 
     /**
-     * Initialize BuildConfig specific capabilities
+     * Returns the capabilities that may be supported by resources of the given
+     * type. Whether a resource actually supports them is only known once they
+     * are created.
      * 
+     * @see #createCapability(Class, IResource, IClient)
      */
-    public static void initializeCapabilities(Map<Class<? extends ICapability>, ICapability> capabilities,
-            IBuildConfig buildConfig, IClient client) {
-        initializeCapability(capabilities, IBuildTriggerable.class, new BuildTrigger(buildConfig, client));
-        initializeCapability(capabilities, IBinaryBuildTriggerable.class, new BinaryBuildTrigger(buildConfig, client));
+    public static Set<Class<? extends ICapability>> getCapabilities(Class<? extends IResource> resourceType) {
+        return CAPABILITIES.get(resourceType).keySet();
     }
 
     /**
-     * Initialize Pod specific capabilities
+     * Creates the given capability for the given resource.
      * 
+     * @return the capability or {@code null} if it is not supported by the
+     *         resource
      */
-    public static void initializeCapabilities(Map<Class<? extends ICapability>, ICapability> capabilities, IPod pod,
+    public static ICapability createCapability(Class<? extends ICapability> capability, IResource resource,
             IClient client) {
-        initializeCapability(capabilities, IPortForwardable.class, new OpenShiftBinaryPortForwarding(pod, client));
-        initializeCapability(capabilities, IPodLogRetrieval.class, new OpenShiftBinaryPodLogRetrieval(pod, client));
-        initializeCapability(capabilities, IPodLogRetrievalAsync.class, new PodLogRetrievalAsync(pod, client));
-        initializeCapability(capabilities, IPodExec.class, new PodExec(pod, client));
-        initializeCapability(capabilities, IRSyncable.class, new OpenShiftBinaryRSync(client));
+        Registration registration = CAPABILITIES.get(resource.getClass()).get(capability);
+        if (registration == null) {
+            return null;
+        }
+        ICapability impl = registration.create(resource, client);
+        if (!impl.isSupported()) {
+            return null;
+        }
+        return impl;
     }
 
     /**
-     * Initialize Project specific capabilities
+     * Registers the capability if it is supported
      * 
      */
-    public static void initializeCapabilities(Map<Class<? extends ICapability>, ICapability> capabilities,
-            IProject project, IClient client) {
-        initializeCapability(capabilities, IProjectTemplateProcessing.class,
-                new ProjectTemplateProcessing(project, client));
-        initializeCapability(capabilities, IProjectTemplateList.class,
-                new ProjectTemplateListCapability(project, client));
-        initializeCapability(capabilities, IImageStreamImportCapability.class,
-                new ImageStreamImportCapability(project, client));
-    }
-
-    public static void initializeCapabilities(Map<Class<? extends ICapability>, ICapability> capabilities,
-            Service service, IClient client) {
-    }
-
-    public static void initializeCapabilities(Map<Class<? extends ICapability>, ICapability> capabilities,
-            IDeploymentConfig config, IClient client) {
-        initializeCapability(capabilities, IDeployCapability.class, new DeployCapability(config, client));
-        initializeCapability(capabilities, IDeploymentTriggerable.class,
-                new DeploymentTrigger(config, client, new TypeMetaFactory()));
-    }
-
-    public static void initializeCapabilities(Map<Class<? extends ICapability>, ICapability> capabilities,
-            IReplicationController rc, IClient client) {
-        initializeCapability(capabilities, IScalable.class, new ScaleCapability(rc, client, new TypeMetaFactory()));
-    }
-
-    public static void initializeCapabilities(Map<Class<? extends ICapability>, ICapability> capabilities,
-            IResource resource, IClient client) {
-        initializeCapability(capabilities, ITemplateTraceability.class, new TemplateTraceability(resource));
-        initializeCapability(capabilities, IDeploymentConfigTraceability.class,
-                new DeploymentConfigTraceability(resource, client));
-        initializeCapability(capabilities, IDeploymentTraceability.class, new DeploymentTraceability(resource, client));
-        initializeCapability(capabilities, ITags.class, new TagCapability(resource));
-        initializeCapability(capabilities, IClientCapability.class, new ClientCapability(client));
-        initializeCapability(capabilities, IUpdatable.class, new UpdateableCapability(resource));
-        initializeCapability(capabilities, IPropertyAccessCapability.class, new PropertyAccessCapability(resource));
+    private static void initializeCapability(Map<Class<? extends ICapability>, ICapability> capabilities,
+            Class<? extends ICapability> capability, ICapability impl) {
+        if (impl.isSupported()) {
+            capabilities.put(capability, impl);
+        }
     }
 
     public static void initializeClientCapabilities(Map<Class<? extends ICapability>, ICapability> capabilities,
@@ -173,4 +202,23 @@ public class CapabilityInitializer {
         initializeCapability(capabilities, IBuildConfigBuilder.class, new BuildConfigBuilder(client));
         initializeCapability(capabilities, IConsole.class, new Console(client));
     }
+
+    private static class Registration {
+
+        private final Class<? extends IResource> resourceType;
+        private final Class<? extends ICapability> capability;
+        private final BiFunction<IResource, IClient, ICapability> factory;
+
+        @SuppressWarnings("unchecked")
+        <R extends IResource> Registration(Class<R> resourceType, Class<? extends ICapability> capability,
+                BiFunction<R, IClient, ICapability> factory) {
+            this.resourceType = resourceType;
+            this.capability = capability;
+            this.factory = (BiFunction<IResource, IClient, ICapability>) (BiFunction<?, IClient, ICapability>) factory;
+        }
+
+        ICapability create(IResource resource, IClient client) {
+            return factory.apply(resource, client);
+        }
+    }
 }
@@ -0,0 +1,508 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.capability.resources;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.IInformer;
+import com.openshift.restclient.IOpenShiftWatchListener.OpenShiftWatchListenerAdapter;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.capability.resources.IPodLogAggregation;
+import com.openshift.restclient.capability.resources.IPodLogRetrieval;
+import com.openshift.restclient.capability.resources.IPodLogRetrievalAsync.Options;
+import com.openshift.restclient.model.IContainer;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IProject;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * Follows the logs of the pods that match a label selector. The pods are
+ * tracked with the shared pod informer of the project. Each container is read
+ * by its own thread into a bounded buffer, the thread blocks once the buffer
+ * is full so that the server stops sending. The consumer merges the buffered
+ * lines by their timestamp: it holds back a line for at most
+ * {@link #MAX_DELAY_MILLIS} while a container that has nothing buffered may
+ * still log an older line. Logs that end while the pod is still running are
+ * followed again from the last line that was received.
+ */
+public class PodLogAggregation implements IPodLogAggregation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PodLogAggregation.class);
+
+    /** the lines that are buffered per container */
+    static final int MAX_BUFFERED_LINES = 1024;
+    /** the time a line is held back for a container that has nothing buffered */
+    static final long MAX_DELAY_MILLIS = 1000;
+    /** the time to wait before the logs of a running pod are followed again */
+    static final long RESUME_DELAY_MILLIS = 1000;
+
+    /** the pod states in which the logs can't be followed yet */
+    private static final Collection<String> NOT_STARTED = Arrays.asList("Pending", "ContainerCreating", "PodInitializing");
+    private static final String RUNNING = "Running";
+    /** the options that select where the logs start, they're replaced when the logs are followed again */
+    private static final Collection<String> START_OPTIONS = Arrays.asList("tailLines", "sinceSeconds", "sinceTime");
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "openshift-log-aggregation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final IProject project;
+    private final IClient client;
+    private final Function<IPod, IPodLogRetrieval> retrievals;
+
+    public PodLogAggregation(IProject project, IClient client) {
+        this(project, client, pod -> new PodLogRetrieval(pod, client));
+    }
+
+    PodLogAggregation(IProject project, IClient client, Function<IPod, IPodLogRetrieval> retrievals) {
+        this.project = project;
+        this.client = client;
+        this.retrievals = retrievals;
+    }
+
+    @Override
+    public boolean isSupported() {
+        return client != null && project != null;
+    }
+
+    @Override
+    public String getName() {
+        return PodLogAggregation.class.getSimpleName();
+    }
+
+    @Override
+    public IAggregatedLogs follow(Map<String, String> labels, Options options) {
+        AggregatedLogs logs = new AggregatedLogs(labels, options);
+        logs.start(client.informer(project.getNamespaceName(), ResourceKind.POD));
+        return logs;
+    }
+
+    /**
+     * Parses the given line that is prefixed with a RFC3339 timestamp.
+     * Lines without a timestamp are timestamped with the given time.
+     */
+    static LogLine parse(String pod, String container, String line, Instant received) {
+        int separator = line.indexOf(' ');
+        if (separator > 0) {
+            try {
+                Instant timestamp = DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(line.substring(0, separator), Instant::from);
+                return new LogLine(pod, container, timestamp, line.substring(separator + 1));
+            } catch (DateTimeParseException e) {
+                // not timestamped
+            }
+        }
+        return new LogLine(pod, container, received, line);
+    }
+
+    private static boolean isStarted(IPod pod) {
+        return !NOT_STARTED.contains(pod.getStatus());
+    }
+
+    private static boolean isRunning(IPod pod) {
+        return RUNNING.equals(pod.getStatus());
+    }
+
+    private static Map<String, String> getLabels(IPod pod) {
+        Map<String, String> labels = pod.getLabels();
+        return labels == null ? new HashMap<>() : labels;
+    }
+
+    private class AggregatedLogs extends OpenShiftWatchListenerAdapter implements IAggregatedLogs {
+
+        private final Map<String, String> labels;
+        private final Map<String, String> parameters;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        /** the containers that are (or were) followed, by pod and container name */
+        private final Map<String, Source> followed = new HashMap<>();
+        /** the containers that may have lines left */
+        private final List<Source> sources = new ArrayList<>();
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private IInformer informer;
+
+        AggregatedLogs(Map<String, String> labels, Options options) {
+            this.labels = labels;
+            this.parameters = options == null ? new HashMap<>() : options.getMap();
+        }
+
+        void start(IInformer informer) {
+            this.informer = informer;
+            informer.addListener(this);
+        }
+
+        /**
+         * Forgets the pods that are gone and follows the ones that match.
+         * Pods that were deleted while the watch was disconnected are thus
+         * followed again once they are recreated.
+         */
+        @Override
+        public void connected(List<IResource> resources) {
+            Set<String> listed = new HashSet<>();
+            resources.forEach(resource -> listed.add(resource.getName()));
+            lock.lock();
+            try {
+                followed.values().removeIf(source -> !listed.contains(source.pod));
+            } finally {
+                lock.unlock();
+            }
+            resources.forEach(resource -> update((IPod) resource));
+        }
+
+        @Override
+        public void received(IResource resource, ChangeType change) {
+            if (ChangeType.DELETED.equals(change)) {
+                forget((IPod) resource);
+            } else {
+                update((IPod) resource);
+            }
+        }
+
+        /**
+         * Follows the containers of the given pod if it matches and was
+         * started. Pods that stopped matching are not followed any more.
+         */
+        private void update(IPod pod) {
+            if (!matches(pod)) {
+                forget(pod).forEach(Source::stop);
+                return;
+            }
+            if (!isStarted(pod)) {
+                return;
+            }
+            lock.lock();
+            try {
+                for (String container : getContainers(pod)) {
+                    String key = pod.getName() + "/" + container;
+                    if (!stopped.get()
+                            && !followed.containsKey(key)) {
+                        Source source = new Source(pod, container, key);
+                        followed.put(key, source);
+                        sources.add(source);
+                        source.start();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean matches(IPod pod) {
+            return getLabels(pod).entrySet().containsAll(labels.entrySet());
+        }
+
+        /**
+         * Forgets the containers of the given pod so that a new pod with the
+         * same name is followed. Their logs end once the pod is gone.
+         */
+        private List<Source> forget(IPod pod) {
+            List<Source> forgotten = new ArrayList<>();
+            lock.lock();
+            try {
+                Iterator<Source> iterator = followed.values().iterator();
+                while (iterator.hasNext()) {
+                    Source source = iterator.next();
+                    if (source.pod.equals(pod.getName())) {
+                        iterator.remove();
+                        forgotten.add(source);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            return forgotten;
+        }
+
+        private List<String> getContainers(IPod pod) {
+            String container = parameters.get("container");
+            List<String> containers = new ArrayList<>();
+            for (IContainer candidate : pod.getContainers()) {
+                if (container == null
+                        || container.equals(candidate.getName())) {
+                    containers.add(candidate.getName());
+                }
+            }
+            return containers;
+        }
+
+        @Override
+        public LogLine take() throws InterruptedException {
+            LogLine line;
+            do {
+                line = poll(1, TimeUnit.MINUTES);
+            } while (line == null
+                    && !stopped.get());
+            return line;
+        }
+
+        /**
+         * Returns the oldest buffered line. It is held back while a container
+         * that has nothing buffered may still log an older line, but at most
+         * for {@link #MAX_DELAY_MILLIS}.
+         */
+        @Override
+        public LogLine poll(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            long maxDelay = TimeUnit.MILLISECONDS.toNanos(MAX_DELAY_MILLIS);
+            lock.lockInterruptibly();
+            try {
+                while (!stopped.get()) {
+                    long now = System.nanoTime();
+                    Source oldest = null;
+                    boolean incomplete = false;
+                    Iterator<Source> iterator = sources.iterator();
+                    while (iterator.hasNext()) {
+                        Source source = iterator.next();
+                        Buffered head = source.lines.peek();
+                        if (head == null) {
+                            if (source.finished) {
+                                iterator.remove();
+                            } else {
+                                incomplete = true;
+                            }
+                        } else if (oldest == null
+                                || head.line.getTimestamp().isBefore(oldest.lines.peek().line.getTimestamp())) {
+                            oldest = source;
+                        }
+                    }
+                    long wait = deadline - now;
+                    if (oldest != null) {
+                        long held = now - oldest.lines.peek().received;
+                        if (!incomplete
+                                || held >= maxDelay) {
+                            return oldest.lines.poll().line;
+                        }
+                        wait = Math.min(wait, maxDelay - held);
+                    }
+                    if (deadline - now <= 0) {
+                        return null;
+                    }
+                    changed.awaitNanos(wait);
+                }
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean isStopped() {
+            return stopped.get();
+        }
+
+        @Override
+        public void stop() {
+            if (!stopped.compareAndSet(false, true)) {
+                return;
+            }
+            informer.removeListener(this);
+            informer.stop();
+            lock.lock();
+            try {
+                sources.forEach(Source::stop);
+                sources.clear();
+                followed.clear();
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void signal() {
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * A container whose logs are read into a bounded buffer
+         */
+        private class Source implements Runnable {
+
+            private final String pod;
+            private final String container;
+            private final String key;
+            private final IPodLogRetrieval retrieval;
+            private final BlockingQueue<Buffered> lines = new ArrayBlockingQueue<>(MAX_BUFFERED_LINES);
+            private volatile boolean finished = false;
+            private Future<?> reader;
+
+            Source(IPod pod, String container, String key) {
+                this.pod = pod.getName();
+                this.container = container;
+                this.key = key;
+                this.retrieval = retrievals.apply(pod);
+            }
+
+            void start() {
+                this.reader = EXECUTOR.submit(this);
+            }
+
+            @Override
+            public void run() {
+                Instant last = null;
+                try {
+                    last = read(null);
+                    while (last != null
+                            && isResumable()) {
+                        Thread.sleep(RESUME_DELAY_MILLIS);
+                        Instant resumed = read(last);
+                        last = resumed == null ? last : resumed;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    this.finished = true;
+                    if (last == null) {
+                        // the container may not be ready yet, follow it again once it changes
+                        unfollow();
+                    }
+                    signal();
+                }
+            }
+
+            /**
+             * Reads the logs until they end. Logs that are followed again
+             * start at the second of the given last line, the lines up to it
+             * were already received.
+             *
+             * @return the timestamp of the last line that was received or
+             *         {@code null} if there was none
+             */
+            private Instant read(Instant since) throws InterruptedException {
+                Instant last = null;
+                try (InputStream logs = retrieval.getLogs(getOptions(since))) {
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(logs, StandardCharsets.UTF_8));
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        LogLine parsed = parse(pod, container, line, Instant.now());
+                        if (since == null
+                                || parsed.getTimestamp().isAfter(since)) {
+                            lines.put(new Buffered(parsed, System.nanoTime()));
+                            last = parsed.getTimestamp();
+                            signal();
+                        }
+                    }
+                } catch (IOException | OpenShiftException e) {
+                    if (!stopped.get()) {
+                        LOG.debug("Could not follow the logs of container {} in pod {}", container, pod, e);
+                    }
+                }
+                return last;
+            }
+
+            private Options getOptions(Instant since) {
+                Options options = new Options();
+                parameters.forEach((name, value) -> {
+                    if (since == null
+                            || !START_OPTIONS.contains(name)) {
+                        options.parameter(name, value);
+                    }
+                });
+                if (since != null) {
+                    options.parameter("sinceTime", DateTimeFormatter.ISO_INSTANT.format(since.truncatedTo(ChronoUnit.SECONDS)));
+                }
+                return options.parameter("container", container)
+                        .parameter("follow", "true")
+                        .parameter("timestamps", "true");
+            }
+
+            /**
+             * Returns {@code true} if the logs ended while this container is
+             * still followed and its pod still matches and is running.
+             */
+            private boolean isResumable() {
+                if (stopped.get()
+                        || Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+                lock.lock();
+                try {
+                    if (followed.get(key) != this) {
+                        return false;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                IPod current = informer.get(project.getNamespaceName(), pod);
+                return current != null
+                        && matches(current)
+                        && isRunning(current);
+            }
+
+            void stop() {
+                retrieval.stop();
+                if (reader != null) {
+                    reader.cancel(true);
+                }
+            }
+
+            private void unfollow() {
+                lock.lock();
+                try {
+                    followed.remove(key, this);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * A line and the time it was received at
+     */
+    private static class Buffered {
+
+        private final LogLine line;
+        private final long received;
+
+        Buffered(LogLine line, long received) {
+            this.line = line;
+            this.received = received;
+        }
+    }
+}
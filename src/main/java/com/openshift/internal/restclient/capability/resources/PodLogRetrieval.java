@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.capability.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.openshift.internal.restclient.DefaultClient;
+import com.openshift.internal.restclient.URLBuilder;
+import com.openshift.internal.restclient.okhttp.OpenShiftRequestBuilder;
+import com.openshift.restclient.IApiTypeMapper;
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.UnsupportedEndpointException;
+import com.openshift.restclient.capability.IBinaryCapability.OpenShiftBinaryOption;
+import com.openshift.restclient.capability.resources.IPodLogRetrieval;
+import com.openshift.restclient.capability.resources.IPodLogRetrievalAsync.Options;
+import com.openshift.restclient.http.IHttpConstants;
+import com.openshift.restclient.model.IPod;
+
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * Pod log retrieval that streams the log subresource of the pod. The returned
+ * stream reads straight from the response body, it has to be closed once the
+ * logs aren't needed any more. Followed logs are not subject to the read
+ * timeout of the client. The options for the {@code oc} binary are ignored.
+ */
+public class PodLogRetrieval implements IPodLogRetrieval {
+
+    private static final String CAPABILITY = "log";
+
+    private final IPod pod;
+    private final DefaultClient client;
+    private final IApiTypeMapper mapper;
+    private final Map<String, Set<Call>> calls = new HashMap<>();
+
+    public PodLogRetrieval(IPod pod, IClient client) {
+        this.pod = pod;
+        this.client = client.adapt(DefaultClient.class);
+        this.mapper = client.adapt(IApiTypeMapper.class);
+    }
+
+    @Override
+    public boolean isSupported() {
+        if (client != null && mapper != null) {
+            try {
+                return mapper.getEndpointFor(pod.getApiVersion(), pod.getKind()).isSupported(CAPABILITY);
+            } catch (UnsupportedEndpointException e) {
+                // endpoint not found for version/kind
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return PodLogRetrieval.class.getSimpleName();
+    }
+
+    @Override
+    public InputStream getLogs(boolean follow, OpenShiftBinaryOption... options) {
+        return getLogs(follow, null, options);
+    }
+
+    @Override
+    public InputStream getLogs(boolean follow, String container, OpenShiftBinaryOption... options) {
+        return getLogs(new Options().follow(follow).container(container));
+    }
+
+    /**
+     * @throws OpenShiftException
+     *             if the logs could not be requested
+     */
+    @Override
+    public InputStream getLogs(Options options) {
+        Map<String, String> parameters = options.getMap();
+        String container = StringUtils.defaultIfBlank(parameters.get("container"), "");
+        boolean follow = Boolean.parseBoolean(parameters.get("follow"));
+        String endpoint = new URLBuilder(client.getBaseURL(), mapper)
+                .kind(pod.getKind())
+                .namespace(pod.getNamespaceName())
+                .name(pod.getName())
+                .subresource(CAPABILITY)
+                .addParameters(parameters)
+                .build()
+                .toString();
+        Request request = new OpenShiftRequestBuilder()
+                .url(endpoint)
+                .accept(IHttpConstants.MEDIATYPE_ANY)
+                .authorization(client.getAuthorizationContext())
+                .build();
+        Call call = getHttpClient(follow).newCall(request);
+        add(container, call);
+        try {
+            Response response = call.execute();
+            BufferedSource logs = response.body().source();
+            return Okio.buffer(new ForwardingSource(logs) {
+
+                @Override
+                public void close() throws IOException {
+                    remove(container, call);
+                    super.close();
+                }
+            }).inputStream();
+        } catch (IOException | RuntimeException e) {
+            remove(container, call);
+            if (e instanceof OpenShiftException) {
+                throw (OpenShiftException) e;
+            }
+            throw new OpenShiftException(e, "Could not retrieve the logs of pod %s", pod.getName());
+        }
+    }
+
+    private OkHttpClient getHttpClient(boolean follow) {
+        OkHttpClient okClient = client.adapt(OkHttpClient.class);
+        if (!follow) {
+            return okClient;
+        }
+        // followed logs may be idle for longer than the read timeout
+        return okClient.newBuilder()
+                .readTimeout(0, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Override
+    public void stop() {
+        List<String> containers;
+        synchronized (calls) {
+            containers = new ArrayList<>(calls.keySet());
+        }
+        containers.forEach(this::stop);
+    }
+
+    @Override
+    public void stop(String container) {
+        Set<Call> stopped;
+        synchronized (calls) {
+            stopped = calls.remove(StringUtils.defaultIfBlank(container, ""));
+        }
+        if (stopped != null) {
+            stopped.forEach(Call::cancel);
+        }
+    }
+
+    private void add(String container, Call call) {
+        synchronized (calls) {
+            calls.computeIfAbsent(container, key -> new HashSet<>()).add(call);
+        }
+    }
+
+    private void remove(String container, Call call) {
+        synchronized (calls) {
+            Set<Call> containerCalls = calls.get(container);
+            if (containerCalls != null
+                    && containerCalls.remove(call)
+                    && containerCalls.isEmpty()) {
+                calls.remove(container);
+            }
+        }
+    }
+}
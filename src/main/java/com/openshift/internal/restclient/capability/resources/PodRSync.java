@@ -0,0 +1,737 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.capability.resources;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang.StringUtils;
+import org.jboss.dmr.ModelNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.openshift.internal.restclient.api.capabilities.PodExec;
+import com.openshift.internal.restclient.capability.AbstractCapability;
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.api.capabilities.IPodExec;
+import com.openshift.restclient.api.capabilities.IPodExec.IPodExecChannelListener;
+import com.openshift.restclient.api.capabilities.IPodExec.IPodExecSession;
+import com.openshift.restclient.capability.resources.IRSyncable;
+import com.openshift.restclient.model.IPod;
+
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+import okio.Okio;
+import okio.Pipe;
+
+/**
+ * Syncs a local directory with a directory in a pod by exec'ing {@code tar} in
+ * the pod. The tar archive is created (or extracted) on the fly while it is
+ * streamed. Both sides are listed (size and modification time of each file)
+ * before the transfer so that only the files that differ are transferred.
+ * Like in rsync, a source with a trailing slash syncs its content, one without
+ * syncs the directory itself into the destination.
+ *
+ * {@link IRSyncable#exclude(String...)}, {@link IRSyncable#DELETE} and
+ * {@link IRSyncable#NO_PERMS} are supported, other {@code oc} options are
+ * ignored. Empty directories are not synced.
+ */
+public class PodRSync extends AbstractCapability implements IRSyncable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PodRSync.class);
+    /** the time an exec may go without sending or receiving data */
+    private static final long IDLE_TIMEOUT = 5; // mins
+    /** the time the output of an exec may wait for being consumed */
+    private static final long STDOUT_TIMEOUT = 1; // mins
+    private static final String CAPABILITY = "exec";
+
+    /** lists the files of a directory as "size mtime ./path" */
+    private static final String MANIFEST_SCRIPT = "if [ -d \"$1\" ]; then cd \"$1\" && find . -type f -exec stat -c '%s %Y %n' {} +; fi";
+    private static final String EXTRACT_SCRIPT = "mkdir -p \"$1\" && tar -xf - -C \"$1\"";
+    private static final String ARCHIVE_SCRIPT = "d=$1; shift; cd \"$d\" && tar -cf - -- \"$@\"";
+    private static final String DELETE_SCRIPT = "d=$1; shift; cd \"$d\" && rm -f -- \"$@\"";
+    /** the length of the file names that are passed to a single command (they're url parameters) */
+    private static final int MAX_ARGUMENTS_LENGTH = 8 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MAX_OUTPUT_BYTES = 1024 * 1024;
+    /** syncs run in a bounded pool, they're queued once all threads are busy */
+    private static final int MAX_SYNCS = 4;
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(MAX_SYNCS, MAX_SYNCS, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), PodRSync::newThread);
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final IClient client;
+    private final Set<IPodExecSession> sessions = ConcurrentHashMap.newKeySet();
+    private volatile CompletableFuture<Integer> result;
+    private volatile boolean stopped;
+    private Peer source;
+    private Peer destination;
+    private BufferedSink output;
+
+    public PodRSync(IPod pod, IClient client) {
+        super(pod, client, CAPABILITY);
+        this.client = client;
+    }
+
+    @Override
+    public String getName() {
+        return PodRSync.class.getSimpleName();
+    }
+
+    /**
+     * Starts syncing in the background.
+     *
+     * @return the messages of the sync, the stream ends once it is done
+     */
+    @Override
+    public synchronized InputStream sync(Peer source, Peer destination, OpenShiftBinaryOption... options) {
+        if (source == null
+                || destination == null
+                || source.isPod() == destination.isPod()) {
+            throw new OpenShiftException("Could not sync %s to %s, one of them has to be a pod.", source, destination);
+        }
+        if (result != null
+                && !result.isDone()) {
+            throw new OpenShiftException("Could not sync %s to %s, still syncing %s to %s.", source, destination,
+                    this.source, this.destination);
+        }
+        this.source = source;
+        this.destination = destination;
+        this.stopped = false;
+        Pipe pipe = new Pipe(MAX_OUTPUT_BYTES);
+        pipe.sink().timeout().timeout(1, TimeUnit.SECONDS);
+        this.output = Okio.buffer(pipe.sink());
+        Options syncOptions = new Options(options);
+        this.result = CompletableFuture.supplyAsync(() -> {
+            try {
+                if (source.isPod()) {
+                    return download(source.getPod(), source.getLocation(),
+                            new File(getTarget(source.getLocation(), destination.getLocation())), syncOptions);
+                } else {
+                    return upload(new File(source.getLocation()), destination.getPod(),
+                            getTarget(source.getLocation(), destination.getLocation()), syncOptions);
+                }
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, EXECUTOR);
+        this.result.whenComplete((exit, e) -> {
+            if (e != null) {
+                print("Syncing %s to %s failed: %s", source, destination, getCause(e).getMessage());
+            }
+            closeOutput();
+        });
+        return Okio.buffer(pipe.source()).inputStream();
+    }
+
+    @Override
+    public void stop() {
+        this.stopped = true;
+        sessions.forEach(IPodExecSession::stop);
+    }
+
+    @Override
+    public boolean isDone() {
+        return result == null
+                || result.isDone();
+    }
+
+    @Override
+    public int exitValue() {
+        if (!isDone()) {
+            return -1;
+        }
+        if (result.isCompletedExceptionally()) {
+            return 1;
+        }
+        return result.join();
+    }
+
+    /**
+     * Waits for the sync to finish. There is no limit for the whole sync since
+     * it depends on the amount of data. The execs in the pod are cancelled
+     * instead if they don't send or receive data for a while.
+     */
+    @Override
+    public void await() throws InterruptedException {
+        if (result == null) {
+            throw new OpenShiftException("Could not sync %s to %s, the sync was not started.", source, destination);
+        }
+        int exit;
+        try {
+            exit = result.get();
+        } catch (ExecutionException | CancellationException e) {
+            throw new OpenShiftException(getCause(e), "Syncing %s to %s failed: %s", source, destination,
+                    getCause(e).getMessage());
+        }
+        if (exit != 0) {
+            throw new OpenShiftException("Syncing %s to %s failed with exit code %d", source, destination, exit);
+        }
+    }
+
+    private int upload(File localDirectory, IPod pod, String remoteDirectory, Options options) throws IOException {
+        if (!localDirectory.isDirectory()) {
+            throw new OpenShiftException("Could not sync %s, it is not a directory.", localDirectory);
+        }
+        Map<String, FileState> remote = getRemoteManifest(pod, remoteDirectory, options);
+        Map<String, FileState> local = getLocalManifest(localDirectory.toPath(), options);
+        List<String> changed = getChanged(local, remote);
+        print("Sending %d of %d files to %s:%s", changed.size(), local.size(), pod.getName(), remoteDirectory);
+        int exit = 0;
+        if (!changed.isEmpty()) {
+            Exec exec = exec(pod, true, null, "sh", "-c", EXTRACT_SCRIPT, "sh", remoteDirectory);
+            try (TarArchiveOutputStream tar = new TarArchiveOutputStream(exec.awaitStdIn())) {
+                tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+                tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+                for (String path : changed) {
+                    putArchiveEntry(new File(localDirectory, path), path, options, tar);
+                }
+                // pads the last record so that tar reads the end of the archive and exits
+                tar.finish();
+            }
+            exit = exec.awaitExit();
+        }
+        if (exit == 0
+                && options.delete) {
+            List<String> deleted = getDeleted(local, remote);
+            print("Deleting %d files in %s:%s", deleted.size(), pod.getName(), remoteDirectory);
+            exit = execBatches(pod, DELETE_SCRIPT, remoteDirectory, deleted, null);
+        }
+        return exit;
+    }
+
+    private static void putArchiveEntry(File file, String path, Options options, TarArchiveOutputStream tar)
+            throws IOException {
+        TarArchiveEntry entry = new TarArchiveEntry(file, path);
+        if (!options.noPerms
+                && file.canExecute()) {
+            entry.setMode(TarArchiveEntry.DEFAULT_FILE_MODE | 0111);
+        }
+        tar.putArchiveEntry(entry);
+        Files.copy(file.toPath(), tar);
+        tar.closeArchiveEntry();
+    }
+
+    private int download(IPod pod, String remoteDirectory, File localDirectory, Options options) throws IOException {
+        Map<String, FileState> remote = getRemoteManifest(pod, remoteDirectory, options);
+        Map<String, FileState> local = localDirectory.isDirectory()
+                ? getLocalManifest(localDirectory.toPath(), options)
+                : Collections.emptyMap();
+        List<String> changed = getChanged(remote, local);
+        print("Receiving %d of %d files from %s:%s", changed.size(), remote.size(), pod.getName(), remoteDirectory);
+        int exit = 0;
+        if (!changed.isEmpty()) {
+            Files.createDirectories(localDirectory.toPath());
+            List<String> paths = changed.size() == remote.size() ? Collections.singletonList(".") : changed;
+            exit = execBatches(pod, ARCHIVE_SCRIPT, remoteDirectory, paths,
+                tar -> extract(tar, localDirectory.toPath(), options));
+        }
+        if (exit == 0
+                && options.delete) {
+            List<String> deleted = getDeleted(remote, local);
+            print("Deleting %d files in %s", deleted.size(), localDirectory);
+            for (String path : deleted) {
+                Files.deleteIfExists(localDirectory.toPath().resolve(path));
+            }
+        }
+        return exit;
+    }
+
+    /**
+     * Extracts the given tar archive to the given directory. Entries that are
+     * excluded or outside of the directory are skipped.
+     */
+    static void extract(InputStream archive, Path directory, Options options) throws IOException {
+        Path root = directory.toAbsolutePath().normalize();
+        TarArchiveInputStream tar = new TarArchiveInputStream(archive);
+        TarArchiveEntry entry;
+        while ((entry = tar.getNextTarEntry()) != null) {
+            String path = StringUtils.removeStart(entry.getName(), "./");
+            Path target = root.resolve(path).normalize();
+            if (!target.startsWith(root)
+                    || options.isExcluded(path)) {
+                continue;
+            }
+            if (entry.isDirectory()) {
+                Files.createDirectories(target);
+            } else if (entry.isFile()) {
+                Files.createDirectories(target.getParent());
+                Files.copy(tar, target, StandardCopyOption.REPLACE_EXISTING);
+                File file = target.toFile();
+                file.setLastModified(entry.getModTime().getTime());
+                if (!options.noPerms
+                        && (entry.getMode() & 0100) != 0) {
+                    file.setExecutable(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Execs the given script once per batch of the given paths. The output of
+     * each batch is passed to the given consumer.
+     *
+     * @return the exit code of the first batch that failed or 0
+     */
+    private int execBatches(IPod pod, String script, String directory, List<String> paths, StdOutConsumer stdOut)
+            throws IOException {
+        for (List<String> batch : getBatches(paths)) {
+            List<String> command = new ArrayList<>(Arrays.asList("sh", "-c", script, "sh", directory));
+            command.addAll(batch);
+            int exit;
+            if (stdOut == null) {
+                exit = exec(pod, false, null, command.toArray(new String[command.size()])).awaitExit();
+            } else {
+                exit = execPiped(pod, stdOut, command.toArray(new String[command.size()]));
+            }
+            if (exit != 0) {
+                return exit;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Execs the given command and passes its output to the given consumer while
+     * it is received. The websocket stops reading while the consumer is busy.
+     * The exec fails if the consumer doesn't take the output in time.
+     */
+    private int execPiped(IPod pod, StdOutConsumer stdOut, String... command) throws IOException {
+        Pipe pipe = new Pipe(BUFFER_SIZE * 4);
+        pipe.sink().timeout().timeout(STDOUT_TIMEOUT, TimeUnit.MINUTES);
+        BufferedSink sink = Okio.buffer(pipe.sink());
+        Exec exec = exec(pod, false, buffer -> {
+            sink.write(buffer);
+            sink.emit();
+        }, command);
+        exec.exit.whenComplete((exit, e) -> closeQuietly(sink));
+        try (InputStream in = Okio.buffer(pipe.source()).inputStream()) {
+            stdOut.accept(in);
+        } catch (IOException | RuntimeException e) {
+            exec.cancel();
+            throw e;
+        }
+        return exec.awaitExit();
+    }
+
+    private Map<String, FileState> getRemoteManifest(IPod pod, String directory, Options options) throws IOException {
+        Buffer manifest = new Buffer();
+        Exec exec = exec(pod, false, buffer -> manifest.write(ByteString.of(buffer)), "sh", "-c", MANIFEST_SCRIPT, "sh", directory);
+        int exit = exec.awaitExit();
+        if (exit != 0) {
+            throw new OpenShiftException("Could not list the files in %s:%s, exit code %d", pod.getName(), directory, exit);
+        }
+        return parseManifest(manifest.inputStream(), options);
+    }
+
+    /**
+     * Parses the output of the manifest script, "size mtime ./path" per line.
+     */
+    static Map<String, FileState> parseManifest(InputStream manifest, Options options) throws IOException {
+        Map<String, FileState> files = new HashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(manifest, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] columns = line.split(" ", 3);
+            if (columns.length < 3) {
+                continue;
+            }
+            String path = StringUtils.removeStart(columns[2], "./");
+            if (!options.isExcluded(path)) {
+                files.put(path, new FileState(Long.parseLong(columns[0]), Long.parseLong(columns[1])));
+            }
+        }
+        return files;
+    }
+
+    static Map<String, FileState> getLocalManifest(Path directory, Options options) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .collect(Collectors.toMap(
+                        path -> FilenameUtils.separatorsToUnix(directory.relativize(path).toString()),
+                        path -> new FileState(path.toFile().length(),
+                                TimeUnit.MILLISECONDS.toSeconds(path.toFile().lastModified()))))
+                    .entrySet().stream()
+                    .filter(entry -> !options.isExcluded(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+    }
+
+    /**
+     * Returns the paths of the source files that don't exist in the
+     * destination or differ in size or modification time.
+     */
+    static List<String> getChanged(Map<String, FileState> source, Map<String, FileState> destination) {
+        return source.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(destination.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getDeleted(Map<String, FileState> source, Map<String, FileState> destination) {
+        return destination.keySet().stream()
+                .filter(path -> !source.containsKey(path))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    static List<List<String>> getBatches(List<String> paths) {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+        int length = 0;
+        for (String path : paths) {
+            if (!batch.isEmpty()
+                    && length + path.length() > MAX_ARGUMENTS_LENGTH) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                length = 0;
+            }
+            batch.add(path);
+            length += path.length();
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Returns the destination directory of the given source, like in rsync
+     */
+    static String getTarget(String source, String destination) {
+        if (source.endsWith("/")) {
+            return destination;
+        }
+        return StringUtils.removeEnd(destination, "/") + "/" + FilenameUtils.getName(source);
+    }
+
+    /**
+     * Returns the exit code in the given status of the exec (channel 3)
+     */
+    static int getExitCode(String status) {
+        ModelNode node = ModelNode.fromJSONString(status);
+        if (node.has("status")
+                && "Success".equals(node.get("status").asString())) {
+            return 0;
+        }
+        if (node.hasDefined("details")
+                && node.get("details").hasDefined("causes")) {
+            for (ModelNode cause : node.get("details", "causes").asList()) {
+                if (cause.hasDefined("reason")
+                        && "ExitCode".equals(cause.get("reason").asString())) {
+                    return Integer.parseInt(cause.get("message").asString());
+                }
+            }
+        }
+        return 1;
+    }
+
+    private Exec exec(IPod pod, boolean stdIn, StdOutWriter stdOut, String... command) {
+        if (stopped) {
+            throw new OpenShiftException("Syncing %s to %s was stopped.", source, destination);
+        }
+        Exec exec = new Exec(stdOut);
+        IPodExec.Options options = new IPodExec.Options().stdIn(stdIn);
+        exec.session = new PodExec(pod, client).start(exec, options, command);
+        sessions.add(exec.session);
+        exec.exit.whenComplete((exit, e) -> {
+            sessions.remove(exec.session);
+            if (e != null) {
+                // ex. failed to pass on stdout before the session was started
+                exec.cancel();
+            }
+        });
+        return exec;
+    }
+
+    private synchronized void print(String message, Object... arguments) {
+        try {
+            output.writeUtf8(String.format(message, arguments)).writeUtf8("\n").flush();
+        } catch (IOException e) {
+            LOG.debug("Could not print rsync output, nobody is reading it.", e);
+        }
+    }
+
+    private synchronized void closeOutput() {
+        closeQuietly(output);
+    }
+
+    private static void closeQuietly(BufferedSink sink) {
+        try {
+            sink.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "openshift-rsync");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Throwable getCause(Throwable e) {
+        if ((e instanceof CompletionException || e instanceof ExecutionException)
+                && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
+    /**
+     * The size and modification time (in seconds) of a file
+     */
+    static class FileState {
+
+        private final long size;
+        private final long modified;
+
+        FileState(long size, long modified) {
+            this.size = size;
+            this.modified = modified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + Long.hashCode(modified);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FileState)) {
+                return false;
+            }
+            FileState other = (FileState) obj;
+            return size == other.size
+                    && modified == other.modified;
+        }
+    }
+
+    /**
+     * The supported rsync options
+     */
+    static class Options {
+
+        private final List<String> excludes = new ArrayList<>();
+        private boolean delete;
+        private boolean noPerms;
+
+        Options(OpenShiftBinaryOption... options) {
+            if (options == null) {
+                return;
+            }
+            for (OpenShiftBinaryOption option : options) {
+                if (option instanceof Exclude
+                        && ((Exclude) option).getExpressions() != null) {
+                    excludes.addAll(Arrays.asList(((Exclude) option).getExpressions()));
+                } else if (option instanceof Delete) {
+                    this.delete = true;
+                } else if (option instanceof NoPerms) {
+                    this.noPerms = true;
+                }
+            }
+        }
+
+        /**
+         * Whether the given path or one of its parent directories match an
+         * exclude expression
+         */
+        boolean isExcluded(String path) {
+            if (excludes.isEmpty()) {
+                return false;
+            }
+            Collection<String> segments = Arrays.asList(StringUtils.split(path, '/'));
+            return excludes.stream().anyMatch(exclude -> FilenameUtils.wildcardMatch(path, exclude)
+                    || segments.stream().anyMatch(segment -> FilenameUtils.wildcardMatch(segment, exclude)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface StdOutConsumer {
+        void accept(InputStream stdOut) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface StdOutWriter {
+        void write(ByteBuffer stdOut) throws IOException;
+    }
+
+    /**
+     * A command that is exec'ed in the pod. Stdout is passed to the given
+     * writer on the thread that reads the websocket, the exec fails if the
+     * writer fails. Stderr is printed to the output. The exit code is taken
+     * from the status that the pod sends on the error channel once the command
+     * terminated.
+     */
+    private class Exec implements IPodExecChannelListener {
+
+        private final StdOutWriter stdOut;
+        private final CompletableFuture<Void> open = new CompletableFuture<>();
+        private final CompletableFuture<Integer> exit = new CompletableFuture<>();
+        private volatile int exitCode = 0;
+        private volatile long lastActivity = System.nanoTime();
+        private volatile IPodExecSession session;
+
+        Exec(StdOutWriter stdOut) {
+            this.stdOut = stdOut;
+        }
+
+        @Override
+        public void onOpen() {
+            touch();
+            open.complete(null);
+        }
+
+        @Override
+        public void onStdOut(ByteBuffer data) {
+            touch();
+            if (stdOut == null
+                    || exit.isDone()) {
+                return;
+            }
+            try {
+                stdOut.write(data);
+            } catch (IOException e) {
+                LOG.debug("Could not pass on the output of the exec", e);
+                open.completeExceptionally(e);
+                exit.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onStdErr(ByteBuffer data) {
+            touch();
+            print("%s", StringUtils.chomp(StandardCharsets.UTF_8.decode(data).toString()));
+        }
+
+        @Override
+        public void onExecErr(ByteBuffer data) {
+            touch();
+            this.exitCode = getExitCode(StandardCharsets.UTF_8.decode(data).toString());
+        }
+
+        @Override
+        public void onClose(int code, String reason) {
+            open.completeExceptionally(new OpenShiftException("Exec was closed: %s", reason));
+            exit.complete(exitCode);
+        }
+
+        @Override
+        public void onFailure(Throwable e) {
+            open.completeExceptionally(e);
+            exit.completeExceptionally(e);
+        }
+
+        private void touch() {
+            this.lastActivity = System.nanoTime();
+        }
+
+        void cancel() {
+            IPodExecSession session = this.session;
+            if (session != null) {
+                session.stop();
+            }
+        }
+
+        /**
+         * Returns stdin of the exec once it is open. Writing to it counts as
+         * activity of the exec.
+         */
+        OutputStream awaitStdIn() throws IOException {
+            await(open);
+            return new FilterOutputStream(session.getStdIn()) {
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    out.write(bytes, offset, length);
+                    touch();
+                }
+            };
+        }
+
+        int awaitExit() throws IOException {
+            return await(exit);
+        }
+
+        /**
+         * Waits for the given future as long as the exec sends or receives
+         * data. The exec is cancelled once it is idle for too long.
+         */
+        private <T> T await(CompletableFuture<T> future) throws IOException {
+            long timeout = TimeUnit.MINUTES.toNanos(IDLE_TIMEOUT);
+            try {
+                while (true) {
+                    long idle = System.nanoTime() - lastActivity;
+                    if (idle >= timeout) {
+                        cancel();
+                        throw new InterruptedIOException(String.format("Exec was idle for %d minutes", IDLE_TIMEOUT));
+                    }
+                    try {
+                        return future.get(timeout - idle, TimeUnit.NANOSECONDS);
+                    } catch (TimeoutException e) {
+                        // check whether there was activity meanwhile
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new InterruptedIOException("Interrupted while syncing");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new OpenShiftException(e.getCause(), "Exec failed: %s", e.getCause().getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.capability.resources;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.openshift.internal.restclient.DefaultClient;
+import com.openshift.internal.restclient.URLBuilder;
+import com.openshift.internal.restclient.capability.AbstractCapability;
+import com.openshift.internal.restclient.okhttp.OpenShiftRequestBuilder;
+import com.openshift.internal.restclient.okhttp.ResponseCodeInterceptor;
+import com.openshift.restclient.IApiTypeMapper;
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.capability.resources.IPortForwardable;
+import com.openshift.restclient.http.IHttpConstants;
+import com.openshift.restclient.model.IPod;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+
+/**
+ * Port forwarding that talks the kubernetes portforward websocket
+ * subprotocol. It listens on the local ports and opens a websocket to the pod
+ * for each connection that is accepted. The websocket has a data and an error
+ * channel, each of them starts with the (2 byte, little endian) port number.
+ * The options for the {@code oc} binary are ignored.
+ */
+public class PortForwarding extends AbstractCapability implements IPortForwardable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PortForwarding.class);
+    private static final String CAPABILITY = "portforward";
+    private static final String PARAMETER_PORTS = "ports";
+
+    static final String PROTOCOL_HEADER = "Sec-WebSocket-Protocol";
+    static final String PROTOCOL = "v4.channel.k8s.io";
+
+    public static final int CHANNEL_DATA = 0;
+    public static final int CHANNEL_ERROR = 1;
+
+    private static final int PORT_LENGTH = 2;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** the bytes that may be queued in a websocket before reading from the local socket is paused */
+    private static final long MAX_QUEUED_BYTES = 1024 * 1024;
+    /** the longest pause before checking again whether the queue of a websocket was sent */
+    private static final long MAX_DRAIN_DELAY_MILLIS = 50;
+    /**
+     * The threads that accept and forward connections, one per local port and
+     * one per connection. Connections beyond it are closed right away.
+     */
+    private static final int MAX_THREADS = 256;
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, MAX_THREADS,
+            60, TimeUnit.SECONDS, new SynchronousQueue<>(), PortForwarding::newThread);
+
+    private final IPod pod;
+    private final DefaultClient client;
+    private final IApiTypeMapper mapper;
+    private final Collection<PortPair> pairs = new ArrayList<>();
+    private final List<ServerSocketChannel> servers = new ArrayList<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean forwarding = false;
+
+    public PortForwarding(IPod pod, IClient client) {
+        super(pod, client, CAPABILITY);
+        this.pod = pod;
+        this.client = client.adapt(DefaultClient.class);
+        this.mapper = client.adapt(IApiTypeMapper.class);
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "openshift-port-forward");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public String getName() {
+        return PortForwarding.class.getSimpleName();
+    }
+
+    @Override
+    public Collection<PortPair> getPortPairs() {
+        return pairs;
+    }
+
+    @Override
+    public boolean isForwarding() {
+        return forwarding;
+    }
+
+    /**
+     * Listens on the local ports of the given pairs. Pairs with a local port of
+     * {@code 0} are set to the random port that is listened on.
+     */
+    @Override
+    public synchronized void forwardPorts(Collection<PortPair> ports, OpenShiftBinaryOption... options) {
+        if (ports == null || ports.isEmpty()) {
+            throw new OpenShiftException("Port-forwarding was invoked but no ports were specified.");
+        }
+        if (forwarding) {
+            throw new OpenShiftException("Port-forwarding was invoked but pod %s is already forwarded.", pod.getName());
+        }
+        for (PortPair pair : ports) {
+            servers.add(listen(pair));
+        }
+        this.pairs.addAll(ports);
+        this.forwarding = true;
+        int i = 0;
+        for (PortPair pair : ports) {
+            ServerSocketChannel server = servers.get(i++);
+            try {
+                EXECUTOR.execute(() -> accept(server, pair.getRemotePort()));
+            } catch (RejectedExecutionException e) {
+                stop();
+                throw new OpenShiftException(e, "Could not forward ports of pod %s, too many ports are forwarded",
+                        pod.getName());
+            }
+        }
+    }
+
+    private ServerSocketChannel listen(PortPair pair) {
+        ServerSocketChannel server = null;
+        try {
+            server = ServerSocketChannel.open();
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), pair.getLocalPort()));
+            pair.setLocalPort(((InetSocketAddress) server.getLocalAddress()).getPort());
+            return server;
+        } catch (IOException e) {
+            IOUtils.closeQuietly(server);
+            stop();
+            throw new OpenShiftException(e, "Could not listen on local port %d", pair.getLocalPort());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        this.forwarding = false;
+        servers.forEach(IOUtils::closeQuietly);
+        servers.clear();
+        connections.forEach(Connection::close);
+        pairs.clear();
+    }
+
+    /**
+     * Accepts connections until the port is closed. A connection that can't be
+     * forwarded is closed, the next one is accepted nevertheless.
+     */
+    private void accept(ServerSocketChannel server, int remotePort) {
+        try {
+            while (server.isOpen()) {
+                SocketChannel socket = server.accept();
+                try {
+                    connect(socket, remotePort);
+                } catch (RuntimeException e) {
+                    IOUtils.closeQuietly(socket);
+                    LOG.warn("Could not forward connection to port {} of pod {}", remotePort, pod.getName(), e);
+                }
+            }
+        } catch (ClosedChannelException e) {
+            // stopped
+        } catch (IOException e) {
+            LOG.warn("Could not accept connection to forward to port {} of pod {}", remotePort, pod.getName(), e);
+        }
+    }
+
+    private void connect(SocketChannel socket, int remotePort) {
+        String endpoint = new URLBuilder(client.getBaseURL(), mapper)
+                .resource(pod)
+                .subresource(CAPABILITY)
+                .addParmeter(PARAMETER_PORTS, String.valueOf(remotePort))
+                .websocket();
+        Request request = new OpenShiftRequestBuilder()
+                .url(endpoint)
+                .method("GET", null)
+                .accept(IHttpConstants.MEDIATYPE_ANY)
+                .authorization(client.getAuthorizationContext())
+                .addHeader(PROTOCOL_HEADER, PROTOCOL)
+                // Unless we mark this as ignored, exceptions triggered by interceptor would be
+                // lost in dispatcher thread
+                .tag(new ResponseCodeInterceptor.Ignore() {})
+                .build();
+        Connection connection = new Connection(socket, connections::remove);
+        connections.add(connection);
+        try {
+            connection.setWebSocket(client.adapt(OkHttpClient.class).newWebSocket(request, connection));
+        } catch (RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        if (!forwarding) {
+            connection.close();
+        }
+    }
+
+    /**
+     * A local connection that is bridged to a websocket. Data from the pod is
+     * written to the local socket straight from the websocket frame. The
+     * websocket reader thread blocks while the local socket doesn't take the
+     * data, which stops reading from the pod instead of buffering without
+     * bounds. Data from the local socket is read by a thread of its own into a
+     * buffer that leaves room for the channel byte, sending it copies it once
+     * into the (immutable) frame.
+     */
+    static class Connection extends WebSocketListener {
+
+        private final SocketChannel socket;
+        private final Consumer<Connection> onClose;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private volatile WebSocket webSocket;
+        private boolean dataPortReceived = false;
+        private boolean errorPortReceived = false;
+
+        Connection(SocketChannel socket, Consumer<Connection> onClose) {
+            this.socket = socket;
+            this.onClose = onClose;
+        }
+
+        private void setWebSocket(WebSocket webSocket) {
+            this.webSocket = webSocket;
+            if (closed.get()) {
+                webSocket.cancel();
+            }
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            setWebSocket(webSocket);
+            try {
+                EXECUTOR.execute(this::forwardToPod);
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Could not forward connection, too many connections are forwarded", e);
+                close();
+            }
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, ByteString message) {
+            if (message.size() == 0) {
+                return;
+            }
+            ByteBuffer buffer = message.asByteBuffer();
+            int channel = buffer.get();
+            switch (channel) {
+            case CHANNEL_DATA:
+                if (!dataPortReceived) {
+                    dataPortReceived = true;
+                    skipPort(buffer);
+                }
+                writeToSocket(buffer);
+                break;
+            case CHANNEL_ERROR:
+                if (!errorPortReceived) {
+                    errorPortReceived = true;
+                    skipPort(buffer);
+                }
+                if (buffer.hasRemaining()) {
+                    LOG.warn("Port forwarding failed: {}", ByteString.of(buffer).utf8());
+                    close();
+                }
+                break;
+            default:
+                LOG.warn("Unable to deliver port forwarding message of channel [{}]", channel);
+            }
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            throw new IllegalStateException("Should not receive text message on port forwarding sockets");
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            close();
+        }
+
+        @Override
+        public void onFailure(WebSocket webSocket, Throwable e, Response response) {
+            LOG.debug("Port forwarding connection failed", e);
+            close();
+        }
+
+        private void skipPort(ByteBuffer buffer) {
+            buffer.position(Math.min(buffer.limit(), buffer.position() + PORT_LENGTH));
+        }
+
+        private void writeToSocket(ByteBuffer buffer) {
+            try {
+                while (buffer.hasRemaining()) {
+                    socket.write(buffer);
+                }
+            } catch (IOException e) {
+                LOG.debug("Could not write to local connection", e);
+                close();
+            }
+        }
+
+        private void forwardToPod() {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            try {
+                while (!closed.get()) {
+                    buffer.clear();
+                    buffer.put((byte) CHANNEL_DATA);
+                    int read = socket.read(buffer);
+                    if (read < 0) {
+                        break;
+                    }
+                    awaitQueueDrained();
+                    if (read > 0
+                            && !webSocket.send(ByteString.of(buffer.array(), 0, buffer.position()))) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                LOG.debug("Could not read from local connection", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Waits for the websocket to send the queued frames. Okhttp fails the
+         * websocket if more than 16MB are queued. It doesn't tell once frames
+         * were sent, the queue is thus checked again after a growing pause.
+         * Closing the connection ends the wait right away.
+         */
+        private synchronized void awaitQueueDrained() throws InterruptedException {
+            long delay = 1;
+            while (webSocket.queueSize() > MAX_QUEUED_BYTES
+                    && !closed.get()) {
+                wait(delay);
+                delay = Math.min(delay * 2, MAX_DRAIN_DELAY_MILLIS);
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            synchronized (this) {
+                notifyAll();
+            }
+            IOUtils.closeQuietly(socket);
+            if (webSocket != null) {
+                webSocket.close(1000, null);
+            }
+            onClose.accept(this);
+        }
+    }
+}
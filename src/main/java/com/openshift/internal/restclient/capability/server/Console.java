@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.openshift.internal.restclient.ClusterFacts;
 import com.openshift.restclient.IClient;
 import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.capability.server.IConsole;
@@ -90,17 +91,11 @@ public class Console implements IConsole {
     }
 
     private String getOpenShift4ConsoleUrl() {
-        IConfigMap configMap = client.get(
-                ResourceKind.CONFIG_MAP, CONFIGMAP_CONSOLE_PUBLIC, NAMESPACE_OPENSHIFT_CONFIG_MANAGED);
-        if (configMap == null) {
-            return null;
-        }
-        Map<String, String> data = configMap.getData();
-        if (data == null
-                || data.isEmpty()) {
-            return null;
+        ClusterFacts facts = client.adapt(ClusterFacts.class);
+        if (facts == null) {
+            return requestOpenShift4ConsoleUrl();
         }
-        return data.get(CONFIGMAP_DATA_CONSOLE_URL);
+        return facts.get(ClusterFacts.CONSOLE_URL, this::requestOpenShift4ConsoleUrl);
     }
 
     private <R extends IResource> String getOpenShift4ConsoleUrl(R resource) {
@@ -124,6 +119,20 @@ public class Console implements IConsole {
         }
         return builder.toString();
     }
+
+    private String requestOpenShift4ConsoleUrl() {
+        IConfigMap configMap = client.get(
+                ResourceKind.CONFIG_MAP, CONFIGMAP_CONSOLE_PUBLIC, NAMESPACE_OPENSHIFT_CONFIG_MANAGED);
+        if (configMap == null) {
+            return null;
+        }
+        Map<String, String> data = configMap.getData();
+        if (data == null
+                || data.isEmpty()) {
+            return null;
+        }
+        return data.get(CONFIGMAP_DATA_CONSOLE_URL);
+    }
     
     protected String getOpenShiftResourceURL(IResource resource, Stream<OpenShiftConsoleResourceUrls> resourceUrls) {
         return resourceUrls
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.informers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.IInformer;
+import com.openshift.restclient.IOpenShiftWatchListener;
+import com.openshift.restclient.IWatcher;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * An informer that keeps the resources of a kind in a namespace in a
+ * {@link ResourceStore}. It is the listener of a watch and passes the changes
+ * on to its own listeners once the store is updated.
+ */
+public class Informer implements IInformer, IOpenShiftWatchListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Informer.class);
+
+    static final String INDEX_LABELS = "labels";
+    static final String INDEX_OWNERS = "owners";
+
+    private final IClient client;
+    private final String kind;
+    private final String namespace;
+    private final ResourceStore store;
+    private final List<IOpenShiftWatchListener> listeners = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> started = new CompletableFuture<>();
+    private volatile boolean synced = false;
+    private IWatcher watcher;
+    private boolean shutdown = false;
+    /** guarded by the shared informers */
+    int references = 0;
+
+    Informer(IClient client, String namespace, String kind) {
+        this.client = client;
+        this.namespace = namespace;
+        this.kind = kind;
+        Map<String, Function<IResource, Collection<String>>> indexFunctions = new HashMap<>();
+        indexFunctions.put(INDEX_LABELS, Informer::labelsOf);
+        indexFunctions.put(INDEX_OWNERS, Informer::ownersOf);
+        this.store = new ResourceStore(indexFunctions);
+    }
+
+    private static Collection<String> labelsOf(IResource resource) {
+        Map<String, String> labels = resource.getLabels();
+        if (labels == null) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(labels.size());
+        labels.forEach((key, value) -> values.add(indexValue(key, value)));
+        return values;
+    }
+
+    private static Collection<String> ownersOf(IResource resource) {
+        Map<String, String> annotations = resource.getAnnotations();
+        if (annotations == null) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(OWNER_ANNOTATIONS.length);
+        for (String annotation : OWNER_ANNOTATIONS) {
+            String owner = annotations.get(annotation);
+            if (owner != null) {
+                values.add(indexValue(annotation, owner));
+            }
+        }
+        return values;
+    }
+
+    private static String indexValue(String key, String value) {
+        return key + "=" + value;
+    }
+
+    /**
+     * Lists and watches the resources. Blocks until the initial list was
+     * received.
+     */
+    void start() {
+        try {
+            watch();
+            started.complete(null);
+        } catch (RuntimeException e) {
+            started.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void watch() {
+        IWatcher started = client.watch(namespace, this, kind);
+        synchronized (this) {
+            if (!shutdown) {
+                this.watcher = started;
+                return;
+            }
+        }
+        // released while it was listing
+        started.stop();
+    }
+
+    /**
+     * Waits until the informer that is started by another user listed the
+     * resources. Throws the error of the listing if it failed.
+     */
+    void awaitStarted() {
+        try {
+            started.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenShiftException(e, "Interrupted while waiting for the informer for %s in namespace %s", kind, namespace);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OpenShiftException(e.getCause(), "Could not start the informer for %s in namespace %s", kind, namespace);
+        }
+    }
+
+    void shutdown() {
+        IWatcher stopped;
+        synchronized (this) {
+            this.shutdown = true;
+            stopped = watcher;
+            this.watcher = null;
+            listeners.clear();
+            this.synced = false;
+        }
+        if (stopped != null) {
+            stopped.stop();
+        }
+    }
+
+    /**
+     * Stops the watch. Users release the informer through the reference that
+     * they acquired instead.
+     */
+    @Override
+    public void stop() {
+        shutdown();
+    }
+
+    @Override
+    public String getKind() {
+        return kind;
+    }
+
+    @Override
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public boolean hasSynced() {
+        return synced;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IResource> T get(String namespace, String name) {
+        return (T) store.get(ResourceStore.keyOf(namespace, name));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IResource> List<T> list() {
+        return (List<T>) store.list();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IResource> List<T> byLabel(String key, String value) {
+        return (List<T>) store.byIndex(INDEX_LABELS, indexValue(key, value));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IResource> List<T> byOwner(String annotation, String owner) {
+        return (List<T>) store.byIndex(INDEX_OWNERS, indexValue(annotation, owner));
+    }
+
+    @Override
+    public synchronized void addListener(IOpenShiftWatchListener listener) {
+        listeners.add(listener);
+        if (synced) {
+            listener.connected(Collections.unmodifiableList(store.list()));
+        }
+    }
+
+    @Override
+    public void removeListener(IOpenShiftWatchListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public synchronized void connected(List<IResource> resources) {
+        store.replace(resources);
+        synced = true;
+        notifyListeners(l -> l.connected(resources));
+    }
+
+    @Override
+    public void disconnected() {
+        notifyListeners(IOpenShiftWatchListener::disconnected);
+    }
+
+    @Override
+    public synchronized void received(IResource resource, ChangeType change) {
+        if (ChangeType.DELETED.equals(change)) {
+            store.remove(resource);
+        } else {
+            store.put(resource);
+        }
+        notifyListeners(l -> l.received(resource, change));
+    }
+
+    @Override
+    public void error(Throwable err) {
+        notifyListeners(l -> l.error(err));
+    }
+
+    private void notifyListeners(Consumer<IOpenShiftWatchListener> notification) {
+        for (IOpenShiftWatchListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Listener for {} in namespace {} failed", kind, namespace, e);
+            }
+        }
+    }
+}
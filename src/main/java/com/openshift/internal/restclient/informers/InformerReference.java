@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.informers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.openshift.restclient.IInformer;
+import com.openshift.restclient.IOpenShiftWatchListener;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * The reference of a single user to a shared {@link Informer}. Stopping it
+ * removes the listeners that were added through it and releases the informer
+ * once, no matter how often it is stopped.
+ */
+class InformerReference implements IInformer {
+
+    private final SharedInformers informers;
+    private final Informer informer;
+    private final List<IOpenShiftWatchListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    InformerReference(SharedInformers informers, Informer informer) {
+        this.informers = informers;
+        this.informer = informer;
+    }
+
+    Informer getInformer() {
+        return informer;
+    }
+
+    @Override
+    public void stop() {
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+        listeners.forEach(informer::removeListener);
+        listeners.clear();
+        informers.release(informer);
+    }
+
+    @Override
+    public String getKind() {
+        return informer.getKind();
+    }
+
+    @Override
+    public String getNamespace() {
+        return informer.getNamespace();
+    }
+
+    @Override
+    public boolean hasSynced() {
+        return informer.hasSynced();
+    }
+
+    @Override
+    public <T extends IResource> T get(String namespace, String name) {
+        return informer.get(namespace, name);
+    }
+
+    @Override
+    public <T extends IResource> List<T> list() {
+        return informer.list();
+    }
+
+    @Override
+    public <T extends IResource> List<T> byLabel(String key, String value) {
+        return informer.byLabel(key, value);
+    }
+
+    @Override
+    public <T extends IResource> List<T> byOwner(String annotation, String owner) {
+        return informer.byOwner(annotation, owner);
+    }
+
+    @Override
+    public void addListener(IOpenShiftWatchListener listener) {
+        if (released.get()) {
+            throw new IllegalStateException("The informer for " + getKind() + " in namespace " + getNamespace() + " was stopped");
+        }
+        listeners.add(listener);
+        informer.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(IOpenShiftWatchListener listener) {
+        listeners.remove(listener);
+        informer.removeListener(listener);
+    }
+}
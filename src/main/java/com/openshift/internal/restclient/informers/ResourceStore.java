@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.informers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.openshift.restclient.model.IResource;
+
+/**
+ * A thread-safe store of resources keyed by namespace/name. Resources are
+ * additionally indexed by the values that the index functions return for them.
+ */
+public class ResourceStore {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IResource> resources = new LinkedHashMap<>();
+    private final Map<String, Function<IResource, Collection<String>>> indexFunctions;
+    /** keys of the resources by index name and index value */
+    private final Map<String, Map<String, Set<String>>> indexes = new HashMap<>();
+
+    /**
+     * @param indexFunctions
+     *            the functions that return the index values for a resource, by
+     *            index name
+     */
+    public ResourceStore(Map<String, Function<IResource, Collection<String>>> indexFunctions) {
+        this.indexFunctions = indexFunctions;
+        indexFunctions.keySet().forEach(name -> indexes.put(name, new HashMap<>()));
+    }
+
+    public static String keyOf(String namespace, String name) {
+        if (StringUtils.isEmpty(namespace)) {
+            return name;
+        }
+        return namespace + "/" + name;
+    }
+
+    public static String keyOf(IResource resource) {
+        return keyOf(resource.getNamespaceName(), resource.getName());
+    }
+
+    /**
+     * Replaces all resources with the given ones
+     */
+    public void replace(Collection<? extends IResource> replacements) {
+        lock.writeLock().lock();
+        try {
+            resources.clear();
+            indexes.values().forEach(Map::clear);
+            replacements.forEach(this::doPut);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(IResource resource) {
+        lock.writeLock().lock();
+        try {
+            doPut(resource);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void doPut(IResource resource) {
+        String key = keyOf(resource);
+        IResource previous = resources.put(key, resource);
+        if (previous != null) {
+            unindex(key, previous);
+        }
+        index(key, resource);
+    }
+
+    public void remove(IResource resource) {
+        lock.writeLock().lock();
+        try {
+            String key = keyOf(resource);
+            IResource removed = resources.remove(key);
+            if (removed != null) {
+                unindex(key, removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(String key, IResource resource) {
+        indexFunctions.forEach((name, function) -> {
+            Map<String, Set<String>> index = indexes.get(name);
+            for (String value : function.apply(resource)) {
+                index.computeIfAbsent(value, v -> new HashSet<>()).add(key);
+            }
+        });
+    }
+
+    private void unindex(String key, IResource resource) {
+        indexFunctions.forEach((name, function) -> {
+            Map<String, Set<String>> index = indexes.get(name);
+            for (String value : function.apply(resource)) {
+                Set<String> keys = index.get(value);
+                if (keys != null
+                        && keys.remove(key)
+                        && keys.isEmpty()) {
+                    index.remove(value);
+                }
+            }
+        });
+    }
+
+    public IResource get(String key) {
+        lock.readLock().lock();
+        try {
+            return resources.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<IResource> list() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(resources.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the resources that the given index holds for the given value
+     */
+    public List<IResource> byIndex(String name, String value) {
+        lock.readLock().lock();
+        try {
+            Map<String, Set<String>> index = indexes.get(name);
+            if (index == null) {
+                throw new IllegalArgumentException("There is no index " + name);
+            }
+            Set<String> keys = index.getOrDefault(value, Collections.emptySet());
+            List<IResource> matching = new ArrayList<>(keys.size());
+            keys.forEach(key -> matching.add(resources.get(key)));
+            return matching;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return resources.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
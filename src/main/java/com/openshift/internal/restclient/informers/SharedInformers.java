@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.informers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.IInformer;
+
+/**
+ * The informers of a client, one per kind and namespace. Informers are
+ * reference counted and stopped once the last user released them.
+ */
+public class SharedInformers {
+
+    private final IClient client;
+    private final Map<String, Informer> informers = new HashMap<>();
+
+    public SharedInformers(IClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Returns the informer for the given kind in the given namespace. The
+     * informer is created and started if there is none yet. Each call returns
+     * its own reference that has to be stopped once it isn't needed any more.
+     */
+    public IInformer acquire(String namespace, String kind) {
+        String key = keyOf(namespace, kind);
+        Informer informer;
+        boolean created = false;
+        synchronized (this) {
+            informer = informers.get(key);
+            if (informer == null) {
+                informer = new Informer(client, StringUtils.defaultString(namespace), kind);
+                informers.put(key, informer);
+                created = true;
+            }
+            informer.references++;
+        }
+        // listing may take long, it must not block the users of other informers
+        if (created) {
+            start(key, informer);
+        } else {
+            awaitStarted(informer);
+        }
+        return new InformerReference(this, informer);
+    }
+
+    private void start(String key, Informer informer) {
+        try {
+            informer.start();
+        } catch (RuntimeException e) {
+            // users that acquire it from now on start a new one
+            synchronized (this) {
+                informers.remove(key, informer);
+            }
+            release(informer);
+            throw e;
+        }
+    }
+
+    private void awaitStarted(Informer informer) {
+        try {
+            informer.awaitStarted();
+        } catch (RuntimeException e) {
+            release(informer);
+            throw e;
+        }
+    }
+
+    synchronized void release(Informer informer) {
+        String key = keyOf(informer.getNamespace(), informer.getKind());
+        if (--informer.references > 0) {
+            return;
+        }
+        informers.remove(key, informer);
+        informer.shutdown();
+    }
+
+    private static String keyOf(String namespace, String kind) {
+        return StringUtils.defaultString(namespace) + "/" + kind;
+    }
+}
@@ -18,7 +18,6 @@ import java.util.Map;
 
 import org.jboss.dmr.ModelNode;
 
-import com.openshift.internal.restclient.capability.CapabilityInitializer;
 import com.openshift.internal.restclient.model.build.BinaryBuildSource;
 import com.openshift.internal.restclient.model.build.BuildStatus;
 import com.openshift.internal.restclient.model.build.CustomBuildStrategy;
@@ -52,7 +51,6 @@ public class Build extends KubernetesResource implements IBuild {
     public Build(ModelNode node, IClient client, Map<String, String[]> propertyKeys) {
         super(node, client, propertyKeys);
         this.propertyKeys = propertyKeys;
-        CapabilityInitializer.initializeCapabilities(getModifiableCapabilities(), this, client);
     }
 
     @Override
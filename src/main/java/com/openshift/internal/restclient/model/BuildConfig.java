@@ -16,7 +16,6 @@ import java.util.Map;
 import org.apache.commons.lang.StringUtils;
 import org.jboss.dmr.ModelNode;
 
-import com.openshift.internal.restclient.capability.CapabilityInitializer;
 import com.openshift.internal.restclient.model.build.BinaryBuildSource;
 import com.openshift.internal.restclient.model.build.CustomBuildStrategy;
 import com.openshift.internal.restclient.model.build.DockerBuildStrategy;
@@ -69,7 +68,6 @@ public class BuildConfig extends KubernetesResource implements IBuildConfig {
 
     public BuildConfig(ModelNode node, IClient client, Map<String, String[]> overrideProperties) {
         super(node, client, null);
-        CapabilityInitializer.initializeCapabilities(getModifiableCapabilities(), this, client);
     }
 
     @Override
@@ -11,8 +11,6 @@
 
 package com.openshift.internal.restclient.model;
 
-import static com.openshift.internal.restclient.capability.CapabilityInitializer.initializeCapabilities;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -54,7 +52,6 @@ public class DeploymentConfig extends ReplicationController implements IDeployme
     public DeploymentConfig(ModelNode node, IClient client, Map<String, String[]> propertyKeys) {
         super(node, client, propertyKeys);
         this.propertyKeys = propertyKeys;
-        initializeCapabilities(getModifiableCapabilities(), this, getClient());
     }
 
     @Override
@@ -9,16 +9,20 @@
 
 package com.openshift.internal.restclient.model;
 
-import static com.openshift.internal.restclient.capability.CapabilityInitializer.initializeCapabilities;
-
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
+import com.openshift.internal.restclient.capability.CapabilityInitializer;
 import com.openshift.internal.restclient.model.properties.ResourcePropertyKeys;
 import com.openshift.internal.util.JBossDmrExtentions;
 import com.openshift.restclient.IClient;
@@ -37,7 +41,10 @@ public class KubernetesResource implements IResource, ResourcePropertyKeys {
 
     private ModelNode node;
     private IClient client;
-    private Map<Class<? extends ICapability>, ICapability> capabilities = new HashMap<Class<? extends ICapability>, ICapability>();
+    /** the supported capabilities that were created so far */
+    private Map<Class<? extends ICapability>, ICapability> capabilities;
+    /** the capabilities that were not created yet */
+    private Set<Class<? extends ICapability>> pendingCapabilities;
     private Map<String, String[]> propertyKeys;
     private IProject project;
     private INamespace namespace;
@@ -54,7 +61,6 @@ public class KubernetesResource implements IResource, ResourcePropertyKeys {
         this.node = node;
         this.client = client;
         this.propertyKeys = overrideProperties;
-        initializeCapabilities(capabilities, this, client);
     }
 
     @Override
@@ -70,32 +76,65 @@ public class KubernetesResource implements IResource, ResourcePropertyKeys {
     @SuppressWarnings("unchecked")
     @Override
     public <T extends ICapability> T getCapability(Class<T> capability) {
-        return (T) capabilities.get(capability);
+        return (T) resolveCapability(capability);
     }
 
     public Set<Class<? extends ICapability>> getCapabilities() {
-        return Collections.unmodifiableSet(capabilities.keySet());
+        return Collections.unmodifiableSet(getModifiableCapabilities().keySet());
     }
 
-    protected Map<Class<? extends ICapability>, ICapability> getModifiableCapabilities() {
+    protected synchronized Map<Class<? extends ICapability>, ICapability> getModifiableCapabilities() {
+        initCapabilities();
+        for (Class<? extends ICapability> capability : new ArrayList<>(pendingCapabilities)) {
+            resolveCapability(capability);
+        }
         return capabilities;
     }
 
     @Override
     public boolean supports(Class<? extends ICapability> capability) {
-        return capabilities.containsKey(capability);
+        return resolveCapability(capability) != null;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T extends ICapability, R> R accept(CapabilityVisitor<T, R> visitor, R unsupportedValue) {
-        if (capabilities.containsKey(visitor.getCapabilityType())) {
-            T capability = (T) capabilities.get(visitor.getCapabilityType());
+        Type type = visitor.getCapabilityType();
+        if (!(type instanceof Class)) {
+            return unsupportedValue;
+        }
+        T capability = (T) resolveCapability((Class<? extends ICapability>) type);
+        if (capability != null) {
             return (R) visitor.visit(capability);
         }
         return unsupportedValue;
     }
 
+    /**
+     * Returns the given capability, creating it if it wasn't asked for before.
+     * Capabilities are created on demand since most resources are never asked
+     * for any of them.
+     * 
+     * @return the capability or {@code null} if it is not supported
+     */
+    private synchronized ICapability resolveCapability(Class<? extends ICapability> capability) {
+        initCapabilities();
+        if (pendingCapabilities.remove(capability)) {
+            ICapability impl = CapabilityInitializer.createCapability(capability, this, client);
+            if (impl != null) {
+                capabilities.put(capability, impl);
+            }
+        }
+        return capabilities.get(capability);
+    }
+
+    private void initCapabilities() {
+        if (capabilities == null) {
+            this.capabilities = new HashMap<>();
+            this.pendingCapabilities = new HashSet<>(CapabilityInitializer.getCapabilities(getClass()));
+        }
+    }
+
     @Override
     public IProject getProject() {
         if (this.project == null) {
@@ -384,4 +423,9 @@ public class KubernetesResource implements IResource, ResourcePropertyKeys {
         return JBossDmrExtentions.toJsonString(node, compact);
     }
 
+    @Override
+    public void writeJson(OutputStream out) throws IOException {
+        JBossDmrExtentions.writeJson(node, out);
+    }
+
 }
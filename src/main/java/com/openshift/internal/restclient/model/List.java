@@ -17,6 +17,7 @@ import java.util.Map;
 import org.apache.commons.lang.StringUtils;
 import org.jboss.dmr.ModelNode;
 
+import com.openshift.internal.restclient.ResourceFactory;
 import com.openshift.restclient.IClient;
 import com.openshift.restclient.IResourceFactory;
 import com.openshift.restclient.model.IList;
@@ -53,7 +54,7 @@ public class List extends KubernetesResource implements IList {
                         if (!node.get(APIVERSION).isDefined()) {
                             set(node, APIVERSION, getApiVersion());
                         }
-                        IResource resource = factory.create(node.toJSONString(true));
+                        IResource resource = ResourceFactory.create(factory, node);
                         items.add(resource);
                     }
                 }
@@ -76,4 +77,9 @@ public class List extends KubernetesResource implements IList {
         }
     }
 
+    @Override
+    public String getContinue() {
+        return asString(METADATA_CONTINUE);
+    }
+
 }
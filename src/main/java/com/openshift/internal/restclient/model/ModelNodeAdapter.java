@@ -11,6 +11,8 @@
 
 package com.openshift.internal.restclient.model;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 
 import org.jboss.dmr.ModelNode;
@@ -46,6 +48,11 @@ public class ModelNodeAdapter implements JSONSerializeable {
         return JBossDmrExtentions.toJsonString(node, compact);
     }
 
+    @Override
+    public void writeJson(OutputStream out) throws IOException {
+        JBossDmrExtentions.writeJson(node, out);
+    }
+
     protected Map<String, String[]> getPropertyKeys() {
         return propertyKeys;
     }
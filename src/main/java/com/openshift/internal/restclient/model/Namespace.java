@@ -1,7 +1,5 @@
 package com.openshift.internal.restclient.model;
 
-import static com.openshift.internal.restclient.capability.CapabilityInitializer.initializeCapabilities;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -20,7 +18,6 @@ public class Namespace extends KubernetesResource implements INamespace {
 
     public Namespace(ModelNode node, IClient client, Map<String, String []> propertyKeys) {
         super(node, client, propertyKeys);
-        initializeCapabilities(getModifiableCapabilities(), this, getClient());
     }
 
     @Override
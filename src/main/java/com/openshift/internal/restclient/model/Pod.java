@@ -9,8 +9,6 @@
 
 package com.openshift.internal.restclient.model;
 
-import static com.openshift.internal.restclient.capability.CapabilityInitializer.initializeCapabilities;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -53,7 +51,6 @@ public class Pod extends KubernetesResource implements IPod {
 
     public Pod(ModelNode node, IClient client, Map<String, String[]> propertyKeys) {
         super(node, client, propertyKeys);
-        initializeCapabilities(getModifiableCapabilities(), this, client);
     }
 
     @Override
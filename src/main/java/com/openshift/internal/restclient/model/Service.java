@@ -9,8 +9,6 @@
 
 package com.openshift.internal.restclient.model;
 
-import static com.openshift.internal.restclient.capability.CapabilityInitializer.initializeCapabilities;
-
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -33,7 +31,6 @@ public class Service extends KubernetesResource implements IService {
 
     public Service(ModelNode node, IClient client, Map<String, String[]> propertyKeys) {
         super(node, client, propertyKeys);
-        initializeCapabilities(getModifiableCapabilities(), this, getClient());
     }
 
     @Override
@@ -23,6 +23,7 @@ public interface ResourcePropertyKeys {
     static final String CREATION_TIMESTAMP = "metadata.creationTimestamp";
     static final String LABELS = "metadata.labels";
     static final String METADATA = "metadata";
+    static final String METADATA_CONTINUE = "metadata.continue";
     static final String METADATA_NAME = "metadata.name";
     static final String METADATA_RESOURCE_VERSION = "metadata.resourceVersion";
     static final String METADATA_NAMESPACE = "metadata.namespace";
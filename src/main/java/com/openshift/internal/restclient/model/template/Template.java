@@ -19,6 +19,7 @@ import java.util.Map;
 import org.apache.commons.lang.StringUtils;
 import org.jboss.dmr.ModelNode;
 
+import com.openshift.internal.restclient.ResourceFactory;
 import com.openshift.internal.restclient.model.KubernetesResource;
 import com.openshift.restclient.IClient;
 import com.openshift.restclient.IResourceFactory;
@@ -62,6 +63,9 @@ public class Template extends KubernetesResource implements ITemplate {
         return params;
     }
 
+    /**
+     * Returns copies of the objects, changing them doesn't change this template.
+     */
     @Override
     public Collection<IResource> getObjects() {
         if (!getNode().has(OBJECTS)) {
@@ -72,7 +76,7 @@ public class Template extends KubernetesResource implements ITemplate {
         IResourceFactory factory = getClient().getResourceFactory();
         if (factory != null) {
             for (ModelNode node : nodes) {
-                resources.add(factory.create(node.toJSONString(true)));
+                resources.add(ResourceFactory.create(factory, node.clone()));
             }
         }
         return resources;
@@ -14,11 +14,16 @@ package com.openshift.internal.restclient.okhttp;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.openshift.internal.restclient.AuthorizationEndpoints;
 import com.openshift.internal.restclient.DefaultClient;
+import com.openshift.internal.restclient.authorization.AuthorizationContext;
 import com.openshift.internal.restclient.authorization.AuthorizationDetails;
 import com.openshift.internal.util.URIUtils;
 import com.openshift.restclient.IClient;
@@ -28,6 +33,7 @@ import com.openshift.restclient.authorization.UnauthorizedException;
 import com.openshift.restclient.http.IHttpConstants;
 
 import okhttp3.Headers;
+import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -35,15 +41,24 @@ import okhttp3.Request.Builder;
 import okhttp3.Response;
 
 /**
- * Adds authorization means to every request. Authorizes and retrieves the token
- * if it's not present yet.
+ * Adds authorization means to the requests to the cluster that are not
+ * authorized yet or that are authorized with the token of the client. Requests
+ * to other hosts or with an authorization of their own are left untouched.
+ * Authorizes and retrieves the token if it's not present yet. Concurrent requests that lack a token wait for a
+ * single one of them to retrieve it. If the client has credentials, tokens are
+ * refreshed shortly before they expire and requests that are unauthorized are
+ * retried once with a new token.
  */
 public class AuthenticatorInterceptor implements Interceptor, IHttpConstants {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuthenticatorInterceptor.class);
+
     public static final String ACCESS_TOKEN = "access_token";
+    public static final String EXPIRES_IN = "expires_in";
     private static final String CSRF_TOKEN = "X-CSRF-Token";
     private static final String ERROR = "error";
     private static final String ERROR_DETAILS = "error_details";
+    private static final long MAX_REFRESH_MARGIN = TimeUnit.MINUTES.toMillis(5);
 
     private IClient client;
     
@@ -52,31 +67,119 @@ public class AuthenticatorInterceptor implements Interceptor, IHttpConstants {
         Request request = chain.request();
         String url = request.url().toString();
         if (AuthAttempHeader.isContainedIn(request.headers())
-                || isUrlWithoutAuthorization(url)) {
+                || isUrlWithoutAuthorization(url)
+                || !isClusterRequest(request)
+                || !isAuthorizedByClient(request)) {
             return chain.proceed(request);
         }
         IAuthorizationContext authorizationContext = client.getAuthorizationContext();
-        if (StringUtils.isBlank(authorizationContext.getToken())) {
-            request = createAuthorizationRequest(request, url, authorizationContext);
+        String token = authorizationContext.getToken();
+        if (StringUtils.isBlank(token)) {
+            token = acquireToken(null, url, authorizationContext);
+        } else if (isExpiring(authorizationContext)) {
+            token = refreshToken(token, url, authorizationContext);
+        }
+        Request authorized = authorize(request, token);
+        Response response = chain.proceed(authorized);
+        if (response.code() == STATUS_UNAUTHORIZED
+                && hasCredentials(authorizationContext)
+                && isReplayable(request)) {
+            response.close();
+            String refreshed = acquireToken(token, url, authorizationContext);
+            response = chain.proceed(authorize(request, refreshed));
         }
-        return chain.proceed(request);
+        return response;
     }
 
-    private Request createAuthorizationRequest(Request request, String url, IAuthorizationContext authorizationContext) throws IOException {
-        try (Response authResponse = authenticate()) {
-            if (authResponse != null) {
+    /**
+     * Returns the current token or retrieves a new one if there is none or if
+     * the current one is the given stale token. Only a single request per
+     * authorization context retrieves the token, the others wait for it.
+     */
+    private String acquireToken(String staleToken, String url, IAuthorizationContext authorizationContext)
+            throws IOException {
+        synchronized (authorizationContext) {
+            String token = authorizationContext.getToken();
+            if (StringUtils.isNotBlank(token)
+                    && !token.equals(staleToken)) {
+                return token;
+            }
+            try (Response authResponse = authenticate()) {
+                if (authResponse == null) {
+                    return token;
+                }
                 if (!authResponse.isSuccessful()) {
                     throw new UnauthorizedException(getAuthorizationDetails(url),
                             ResponseCodeInterceptor.getStatus(authResponse.body().string()));
                 }
-                String token = getToken(authResponse);
-                setToken(token, client.getAuthorizationContext());
-                request = new OpenShiftRequestBuilder(request.newBuilder()).acceptJson()
-                        .authorization(authorizationContext)
-                        .build();
+                Map<String, String> pairs = URIUtils.splitFragment(authResponse.header(PROPERTY_LOCATION));
+                token = pairs.get(ACCESS_TOKEN);
+                authorizationContext.setToken(token);
+                if (authorizationContext instanceof AuthorizationContext) {
+                    ((AuthorizationContext) authorizationContext).setExpiresIn(pairs.get(EXPIRES_IN));
+                }
+                return token;
             }
+        }
+    }
+
+    /**
+     * Retrieves a new token before the given one expires. The given token keeps
+     * being used if the refresh fails.
+     */
+    private String refreshToken(String token, String url, IAuthorizationContext authorizationContext) {
+        try {
+            String refreshed = acquireToken(token, url, authorizationContext);
+            return StringUtils.isBlank(refreshed) ? token : refreshed;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not refresh the token that is about to expire", e);
+            return token;
+        }
+    }
+
+    private boolean isExpiring(IAuthorizationContext authorizationContext) {
+        if (!(authorizationContext instanceof AuthorizationContext)
+                || !hasCredentials(authorizationContext)) {
+            return false;
+        }
+        long lifetime = TimeUnit.SECONDS.toMillis(NumberUtils.toLong(authorizationContext.getExpiresIn(), 0));
+        return ((AuthorizationContext) authorizationContext).isExpiring(Math.min(MAX_REFRESH_MARGIN, lifetime / 10));
+    }
+
+    private boolean hasCredentials(IAuthorizationContext authorizationContext) {
+        return StringUtils.isNotBlank(authorizationContext.getUserName())
+                && authorizationContext.getPassword() != null;
+    }
+
+    private boolean isReplayable(Request request) {
+        return request.body() == null
+                || !request.body().isOneShot();
+    }
+
+    private Request authorize(Request request, String token) {
+        if (StringUtils.isBlank(token)) {
             return request;
         }
+        return new OpenShiftRequestBuilder(request.newBuilder())
+                .authorization(token)
+                .build();
+    }
+
+    private boolean isClusterRequest(Request request) {
+        URL baseURL = client.getBaseURL();
+        if (baseURL == null) {
+            return false;
+        }
+        int port = baseURL.getPort() == -1 ? baseURL.getDefaultPort() : baseURL.getPort();
+        HttpUrl url = request.url();
+        return url.scheme().equalsIgnoreCase(baseURL.getProtocol())
+                && url.host().equalsIgnoreCase(baseURL.getHost())
+                && url.port() == port;
+    }
+
+    private boolean isAuthorizedByClient(Request request) {
+        return request.header(PROPERTY_AUTHORIZATION) == null
+                || request.tag(OpenShiftRequestBuilder.ClientAuthorization.class) != null;
     }
 
     private boolean isUrlWithoutAuthorization(String url) {
@@ -123,24 +226,6 @@ public class AuthenticatorInterceptor implements Interceptor, IHttpConstants {
         return details;
     }
 
-    private String getToken(Response response) {
-        if (response == null) {
-            return null;
-        }
-        String token = null;
-        Map<String, String> pairs = URIUtils.splitFragment(response.header(PROPERTY_LOCATION));
-        if (pairs.containsKey(ACCESS_TOKEN)) {
-            token = pairs.get(ACCESS_TOKEN);
-        }
-        return token;
-    }
-
-    private void setToken(String token, IAuthorizationContext authorizationContext) {
-        if (authorizationContext != null) {
-            authorizationContext.setToken(token);
-        }
-    }
-
     public void setClient(IClient client) {
         this.client = client;
     }
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter. The delay doubles with each attempt up to a
+ * maximum, a random half of it is added so that clients that failed at the same
+ * time dont retry at the same time.
+ */
+public class Backoff {
+
+    private final long initialDelay;
+    private final long maxDelay;
+    private int attempts = 0;
+
+    /**
+     * @param initialDelay
+     *            the delay before the first attempt, in milliseconds
+     * @param maxDelay
+     *            the maximum delay, in milliseconds
+     */
+    public Backoff(long initialDelay, long maxDelay) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Returns the delay in milliseconds before the next attempt
+     */
+    public synchronized long nextDelay() {
+        long ceiling = Math.min(maxDelay, initialDelay << Math.min(attempts, 30));
+        attempts++;
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    public synchronized int getAttempts() {
+        return attempts;
+    }
+
+    public synchronized void reset() {
+        this.attempts = 0;
+    }
+}
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.openshift.restclient.metrics.ICallTimings;
+import com.openshift.restclient.metrics.ICallTimingsListener;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+
+/**
+ * Measures the phases of a call. The timings are handed to the listener once
+ * the call ended and are logged if the call took longer than the slow call
+ * threshold.
+ */
+public class CallTimingsEventListener extends EventListener implements ICallTimings {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CallTimingsEventListener.class);
+
+    private final String method;
+    private final String url;
+    private final ICallTimingsListener listener;
+    private final long slowCallThreshold;
+
+    private long callStart = -1;
+    private long dnsStart = -1;
+    private long dns = -1;
+    private long connectStart = -1;
+    private long connect = -1;
+    private long tlsStart = -1;
+    private long tls = -1;
+    private boolean connectionReused = true;
+    private long requestStart = -1;
+    private long timeToFirstByte = -1;
+    private long responseBodyStart = -1;
+    private long responseBody = -1;
+    private long responseBytes = 0;
+    private long total = -1;
+    private Throwable failure;
+
+    CallTimingsEventListener(Call call, ICallTimingsListener listener, long slowCallThreshold) {
+        this.method = call.request().method();
+        this.url = call.request().url().toString();
+        this.listener = listener;
+        this.slowCallThreshold = slowCallThreshold;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        dns = add(dns, System.nanoTime() - dnsStart);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectionReused = false;
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        tlsStart = System.nanoTime();
+        connect = add(connect, tlsStart - connectStart);
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        tls = add(tls, System.nanoTime() - tlsStart);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        if (tlsStart < connectStart) {
+            connect = add(connect, System.nanoTime() - connectStart);
+        }
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+            IOException ioe) {
+        connectEnd(call, inetSocketAddress, proxy, protocol);
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        timeToFirstByte = System.nanoTime() - requestStart;
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        responseBodyStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        responseBody = System.nanoTime() - responseBodyStart;
+        responseBytes = byteCount;
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        ended();
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        this.failure = ioe;
+        ended();
+    }
+
+    private void ended() {
+        total = System.nanoTime() - callStart;
+        if (slowCallThreshold >= 0
+                && total >= slowCallThreshold) {
+            LOGGER.warn("Slow call: {}", this);
+        }
+        if (listener != null) {
+            try {
+                listener.callEnded(this);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Call timings listener failed", e);
+            }
+        }
+    }
+
+    private static long add(long duration, long added) {
+        return duration < 0 ? added : duration + added;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public long getDnsNanos() {
+        return dns;
+    }
+
+    @Override
+    public long getConnectNanos() {
+        return connect;
+    }
+
+    @Override
+    public long getTlsHandshakeNanos() {
+        return tls;
+    }
+
+    @Override
+    public boolean isConnectionReused() {
+        return connectionReused;
+    }
+
+    @Override
+    public long getTimeToFirstByteNanos() {
+        return timeToFirstByte;
+    }
+
+    @Override
+    public long getResponseBodyNanos() {
+        return responseBody;
+    }
+
+    @Override
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return total;
+    }
+
+    @Override
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s total=%dms dns=%dms connect=%dms tls=%dms reused=%s ttfb=%dms body=%dms bytes=%d%s",
+                method, url, millis(total), millis(dns), millis(connect), millis(tls), connectionReused,
+                millis(timeToFirstByte), millis(responseBody), responseBytes,
+                failure == null ? "" : " failure=" + failure);
+    }
+
+    private static long millis(long nanos) {
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Creates a listener per call
+     */
+    public static class Factory implements EventListener.Factory {
+
+        private final ICallTimingsListener listener;
+        private final long slowCallThreshold;
+
+        /**
+         * @param listener
+         *            the listener to notify, may be {@code null}
+         * @param slowCallThreshold
+         *            the duration in nanoseconds above which calls are logged,
+         *            -1 to not log any
+         */
+        public Factory(ICallTimingsListener listener, long slowCallThreshold) {
+            this.listener = listener;
+            this.slowCallThreshold = slowCallThreshold;
+        }
+
+        @Override
+        public EventListener create(Call call) {
+            return new CallTimingsEventListener(call, listener, slowCallThreshold);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.openshift.internal.restclient.DefaultClient;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Opens connections to a cluster ahead of the first request. OkHttp has no api
+ * to open a connection without a request, the connections are thus opened by
+ * concurrent requests to the health check. They are unauthenticated and their
+ * response codes are ignored, the connections are pooled once the responses
+ * are read. Servers that speak http/2 multiplex the requests on a single
+ * connection.
+ */
+public class ConnectionWarmup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionWarmup.class);
+
+    private ConnectionWarmup() {
+    }
+
+    /**
+     * Opens up to the given number of connections and waits for them at most
+     * the given time. Failures are logged and ignored, the client then connects
+     * with its first request as usual.
+     *
+     * @return the number of connections in the pool afterwards
+     */
+    public static int warmUp(OkHttpClient client, URL baseUrl, int connections, long timeout, TimeUnit unit) {
+        String url = baseUrl.toExternalForm().replaceAll("/+$", "") + "/" + DefaultClient.PATH_HEALTH_CHECK;
+        Request request = new Request.Builder()
+                .url(url)
+                .header(ResponseCodeInterceptor.X_OPENSHIFT_IGNORE_RCI, "true")
+                .build();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            responses[i] = ResponseFutures.enqueue(client, request).thenAccept(ConnectionWarmup::consume);
+        }
+        try {
+            CompletableFuture.allOf(responses).get(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.debug("Could not warm up the connections to {}", url, e);
+        }
+        return client.connectionPool().connectionCount();
+    }
+
+    private static void consume(Response response) {
+        try (Response closed = response) {
+            closed.body().bytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
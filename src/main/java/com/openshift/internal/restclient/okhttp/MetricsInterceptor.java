@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.openshift.restclient.http.IHttpConstants;
+import com.openshift.restclient.metrics.IClientMetrics;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * Records the requests to the given {@link IClientMetrics}. It is a network
+ * interceptor so that each request that reaches the server is recorded,
+ * retries included, and the time waiting for the rate limiter is not. A
+ * request is recorded once its response body is closed so that the bytes
+ * that were read are known. Requests tagged with a {@link Tag} are recorded
+ * with its kind and scope.
+ */
+public class MetricsInterceptor implements Interceptor {
+
+    private final IClientMetrics metrics;
+
+    public MetricsInterceptor(IClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Tag tag = request.tag(Tag.class);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            record(request, tag, 0, System.nanoTime() - start, 0);
+            throw e;
+        }
+        long duration = System.nanoTime() - start;
+        ResponseBody body = response.body();
+        if (body == null
+                || response.code() == IHttpConstants.STATUS_UPGRADE_PROTOCOL) {
+            record(request, tag, response.code(), duration, 0);
+            return response;
+        }
+        return response.newBuilder()
+                .body(new CountingBody(body, bytes -> record(request, tag, response.code(), duration, bytes)))
+                .build();
+    }
+
+    private void record(Request request, Tag tag, int status, long duration, long bytes) {
+        metrics.recordRequest(request.method(), tag == null ? null : tag.kind, tag != null && tag.namespaced,
+                status, duration, bytes);
+    }
+
+    public IClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * The resource kind and scope of a request
+     */
+    public static class Tag {
+
+        private final String kind;
+        private final boolean namespaced;
+
+        public Tag(String kind, boolean namespaced) {
+            this.kind = kind;
+            this.namespaced = namespaced;
+        }
+    }
+
+    private interface BytesListener {
+
+        void closed(long bytes);
+    }
+
+    /**
+     * A response body that counts the bytes that are read and reports them
+     * once when it is closed.
+     */
+    private static class CountingBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final BytesListener listener;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private BufferedSource source;
+        private long bytes = 0;
+
+        private CountingBody(ResponseBody delegate, BytesListener listener) {
+            this.delegate = delegate;
+            this.listener = listener;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public synchronized BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new ForwardingSource(delegate.source()) {
+
+                    @Override
+                    public long read(Buffer sink, long byteCount) throws IOException {
+                        long read = super.read(sink, byteCount);
+                        if (read > 0) {
+                            bytes += read;
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            if (closed.compareAndSet(false, true)) {
+                                listener.closed(bytes);
+                            }
+                        }
+                    }
+                });
+            }
+            return source;
+        }
+    }
+}
@@ -52,6 +52,7 @@ public class OpenShiftRequestBuilder {
         if (authorizationContext != null 
                 && StringUtils.isNotBlank(authorizationContext.getToken())) {
             token = authorizationContext.getToken();
+            builder.tag(ClientAuthorization.class, ClientAuthorization.INSTANCE);
         }
         return authorization(token);
     }
@@ -93,6 +94,11 @@ public class OpenShiftRequestBuilder {
         return this;
     }
 
+    public <T> OpenShiftRequestBuilder tag(Class<? super T> type, T tag) {
+        builder.tag(type, tag);
+        return this;
+    }
+
     public Builder builder() {
         return builder;
     }
@@ -100,4 +106,16 @@ public class OpenShiftRequestBuilder {
     public Request build() {
         return builder.build();
     }
+
+    /**
+     * Tag for requests that are authorized with the token of the client. The
+     * {@link AuthenticatorInterceptor} may replace it with a new one.
+     */
+    static final class ClientAuthorization {
+
+        static final ClientAuthorization INSTANCE = new ClientAuthorization();
+
+        private ClientAuthorization() {
+        }
+    }
 }
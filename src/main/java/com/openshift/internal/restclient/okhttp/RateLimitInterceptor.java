@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Delays requests so that they dont exceed the rate of the given
+ * {@link RateLimiter}. Each attempt of a request takes a permit, retries
+ * included.
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+    private final RateLimiter limiter;
+
+    public RateLimitInterceptor(RateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for the rate limiter");
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+        return chain.proceed(chain.request());
+    }
+
+    public RateLimiter getLimiter() {
+        return limiter;
+    }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that allows a sustained rate of permits per second and bursts
+ * up to a given size. The bucket starts full. Permits are handed out in the
+ * order they were asked for, callers that find the bucket empty reserve a
+ * future token and wait for it.
+ */
+public class RateLimiter {
+
+    private final double qps;
+    private final int burst;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * @param qps
+     *            the permits per second
+     * @param burst
+     *            the maximum number of permits that are handed out at once
+     */
+    public RateLimiter(double qps, int burst) {
+        this(qps, burst, System::nanoTime);
+    }
+
+    RateLimiter(double qps, int burst, LongSupplier nanoClock) {
+        if (qps <= 0) {
+            throw new IllegalArgumentException("QPS must be positive but was " + qps);
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("Burst must be positive but was " + burst);
+        }
+        this.qps = qps;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Blocks until a permit is available.
+     *
+     * @throws InterruptedException
+     *             if the thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Takes a permit and returns the nanoseconds that the caller has to wait
+     * until it may use it.
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * qps / TimeUnit.SECONDS.toNanos(1));
+        lastRefill = now;
+        tokens--;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-tokens / qps * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public double getQps() {
+        return qps;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Enqueues requests on the dispatcher of a client and exposes their responses
+ * as futures. Concurrency is thus bounded by the max requests (per host) of the
+ * dispatcher.
+ *
+ * Exceptions that the interceptors throw (ex. {@link ResponseCodeInterceptor})
+ * complete the future as they are, they are not wrapped in an
+ * {@link IOException}.
+ */
+public class ResponseFutures {
+
+    private ResponseFutures() {
+    }
+
+    /**
+     * Enqueues the given request. Cancelling the returned future cancels the call.
+     * The caller is responsible for closing the response.
+     */
+    public static CompletableFuture<Response> enqueue(OkHttpClient client, Request request) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        Call call = client.newCall(request.newBuilder()
+                .tag(Async.class, Async.INSTANCE)
+                .build());
+        call.enqueue(new Callback() {
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (!future.complete(response)) {
+                    response.close();
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(unwrap(e));
+            }
+        });
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the exception that an interceptor threw while executing an
+     * asynchronous call. Okhttp reports those as a cancellation with the original
+     * exception being suppressed.
+     */
+    static Throwable unwrap(IOException e) {
+        if (e instanceof InterceptorException) {
+            return e.getCause();
+        }
+        for (Throwable suppressed : e.getSuppressed()) {
+            if (suppressed instanceof RuntimeException) {
+                return suppressed;
+            }
+        }
+        return e;
+    }
+
+    /**
+     * Tag for requests that were enqueued via {@link ResponseFutures}
+     */
+    static final class Async {
+
+        static final Async INSTANCE = new Async();
+
+        private Async() {
+        }
+    }
+
+    /**
+     * Passes runtime exceptions that the inner interceptors throw for
+     * asynchronous calls on to the callback. Okhttp would otherwise rethrow them
+     * on the dispatcher thread, once the callback was notified. Should be the
+     * first interceptor of the client.
+     */
+    public static class AsyncExceptionInterceptor implements Interceptor {
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            if (request.tag(Async.class) == null) {
+                return chain.proceed(request);
+            }
+            try {
+                return chain.proceed(request);
+            } catch (RuntimeException e) {
+                throw new InterceptorException(e);
+            }
+        }
+    }
+
+    private static class InterceptorException extends IOException {
+
+        private static final long serialVersionUID = 6418837095541311740L;
+
+        InterceptorException(RuntimeException cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.openshift.restclient.http.IHttpConstants;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Retries idempotent requests that the server throttled. A request is retried
+ * if the response is a 429 (too many requests) or a 503 (service unavailable)
+ * with a {@code Retry-After} header. The retry waits for the time the server
+ * asked for plus some jitter, or backs off exponentially if the server did not
+ * say. Once the retries are exhausted or the server asks to wait longer than
+ * the maximum delay, the throttled response is returned as is.
+ */
+public class RetryAfterInterceptor implements Interceptor, IHttpConstants {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryAfterInterceptor.class);
+
+    private static final List<String> IDEMPOTENT_METHODS = Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final long INITIAL_DELAY = 500;
+    private static final long MIN_JITTER = 100;
+
+    private final int maxRetries;
+    private final long maxDelay;
+
+    /**
+     * @param maxRetries
+     *            the maximum number of times a request is retried
+     * @param maxDelay
+     *            the maximum time to wait before a retry, in milliseconds
+     */
+    public RetryAfterInterceptor(int maxRetries, long maxDelay) {
+        this.maxRetries = maxRetries;
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+        if (!isRetryable(request)) {
+            return response;
+        }
+        Backoff backoff = new Backoff(INITIAL_DELAY, maxDelay);
+        for (int retries = 0; retries < maxRetries && isThrottled(response); retries++) {
+            long delay = getDelay(response, backoff);
+            if (delay < 0) {
+                break;
+            }
+            LOGGER.debug("{} {} was throttled with {}, retrying in {}ms", request.method(), request.url(), response.code(), delay);
+            response.close();
+            sleep(delay);
+            response = chain.proceed(request);
+        }
+        return response;
+    }
+
+    private boolean isRetryable(Request request) {
+        return IDEMPOTENT_METHODS.contains(request.method())
+                && (request.body() == null || !request.body().isOneShot());
+    }
+
+    private boolean isThrottled(Response response) {
+        return response.code() == STATUS_TOO_MANY_REQUESTS
+                || (response.code() == STATUS_SERVICE_UNAVAILABLE && response.header(PROPERTY_RETRY_AFTER) != null);
+    }
+
+    /**
+     * Returns the milliseconds to wait before retrying or -1 if the server
+     * asked to wait longer than the maximum delay.
+     */
+    private long getDelay(Response response, Backoff backoff) {
+        long retryAfter = getRetryAfter(response.header(PROPERTY_RETRY_AFTER));
+        if (retryAfter < 0) {
+            return backoff.nextDelay();
+        }
+        if (retryAfter > maxDelay) {
+            return -1;
+        }
+        long jitter = ThreadLocalRandom.current().nextLong(Math.max(retryAfter / 4, MIN_JITTER) + 1);
+        return Math.min(maxDelay, retryAfter + jitter);
+    }
+
+    /**
+     * Returns the milliseconds that the given {@code Retry-After} header asks to
+     * wait, or -1 if it is missing or invalid. The header is either a number of
+     * seconds or a http date.
+     */
+    static long getRetryAfter(String header) {
+        if (StringUtils.isBlank(header)) {
+            return -1;
+        }
+        String value = header.trim();
+        if (StringUtils.isNumeric(value)) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(value)).toMillis();
+            } catch (NumberFormatException | ArithmeticException e) {
+                return -1;
+            }
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting to retry");
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+    }
+}
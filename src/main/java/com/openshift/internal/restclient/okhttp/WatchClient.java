@@ -19,6 +19,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang.StringUtils;
@@ -27,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.openshift.internal.restclient.DefaultClient;
+import com.openshift.internal.restclient.ResourceFactory;
 import com.openshift.internal.restclient.URLBuilder;
 import com.openshift.internal.restclient.model.properties.ResourcePropertyKeys;
 import com.openshift.restclient.IApiTypeMapper;
@@ -47,6 +51,17 @@ import okhttp3.WebSocketListener;
 public class WatchClient implements IWatcher, IHttpConstants {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WatchClient.class);
+    private static final String EVENT_ERROR = "ERROR";
+
+    private static final long RECONNECT_INITIAL_DELAY = 500;
+    private static final long RECONNECT_MAX_DELAY = 30 * 1000L;
+    /** only times the reconnects, they run on the dispatcher of the client */
+    private static final ScheduledExecutorService RECONNECTS = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "openshift-watch-reconnect");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private DefaultClient client;
     private OkHttpClient okClient;
     private AtomicReference<Status> status = new AtomicReference<>(Status.Stopped);
@@ -78,22 +93,8 @@ public class WatchClient implements IWatcher, IHttpConstants {
         if (status.compareAndSet(Status.Stopped, Status.Starting)) {
             try {
                 for (String kind : kinds) {
-                    WatchEndpoint socket = new WatchEndpoint(client, listener, kind);
-                    final String resourceVersion = getResourceVersion(kind, namespace, socket);
-
-                    final String endpoint = new URLBuilder(client.getBaseURL(), this.typeMappings)
-                            .kind(kind)
-                            .namespace(namespace)
-                            .watch()
-                            .addParmeter(ResourcePropertyKeys.RESOURCE_VERSION, resourceVersion).websocket();
-                    Request request = new OpenShiftRequestBuilder()
-                            .url(endpoint)
-                            .acceptJson()
-                            .authorization(client.getAuthorizationContext())
-                            .header(PROPERTY_ORIGIN, client.getBaseURL().toString())
-                            .header(PROPERTY_USER_AGENT, "openshift-restclient-java")
-                            .build();
-                    okClient.newWebSocket(request, socket);
+                    WatchEndpoint socket = new WatchEndpoint(client, listener, kind, namespace, this);
+                    connect(socket);
                     endpointMap.put(kind, socket);
                 }
                 status.set(Status.Started);
@@ -108,6 +109,62 @@ public class WatchClient implements IWatcher, IHttpConstants {
         return this;
     }
 
+    /**
+     * Opens the websocket for the given endpoint. The watch starts at the last
+     * resource version that the endpoint saw, the resources are listed (again) if
+     * there is none. The list runs without holding the endpoint so that closing
+     * it doesn't wait for the list.
+     */
+    private void connect(WatchEndpoint endpoint) throws Exception {
+        String resourceVersion = endpoint.getResourceVersion();
+        if (resourceVersion == null) {
+            resourceVersion = getResourceVersion(endpoint.kind, endpoint.namespace, endpoint);
+        }
+        final String url = new URLBuilder(client.getBaseURL(), this.typeMappings)
+                .kind(endpoint.kind)
+                .namespace(endpoint.namespace)
+                .watch()
+                .addParmeter(ResourcePropertyKeys.RESOURCE_VERSION, resourceVersion).websocket();
+        Request request = new OpenShiftRequestBuilder()
+                .url(url)
+                .acceptJson()
+                .authorization(client.getAuthorizationContext())
+                .header(PROPERTY_ORIGIN, client.getBaseURL().toString())
+                .header(PROPERTY_USER_AGENT, "openshift-restclient-java")
+                .build();
+        synchronized (endpoint) {
+            if (!endpoint.isClosed()) {
+                endpoint.setWebSocket(okClient.newWebSocket(request, endpoint));
+            }
+        }
+    }
+
+    /**
+     * Reconnects the given endpoint after the delay of its backoff. Failures to
+     * reconnect are retried with an increasing delay until the endpoint is
+     * closed. The shared scheduler only waits for the delay, connecting (and
+     * listing the resources again) runs on the dispatcher of this client so
+     * that a slow list doesn't hold up the watches of other clients.
+     */
+    void reconnect(WatchEndpoint endpoint) {
+        long delay = endpoint.backoff.nextDelay();
+        LOGGER.debug("Reconnecting watch for kind {} in {} ms", endpoint.kind, delay);
+        RECONNECTS.schedule(() -> okClient.dispatcher().executorService().execute(() -> reconnectNow(endpoint)),
+                delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void reconnectNow(WatchEndpoint endpoint) {
+        if (endpoint.isClosed()) {
+            return;
+        }
+        try {
+            connect(endpoint);
+        } catch (Exception e) {
+            LOGGER.debug("Could not reconnect watch for kind {}", endpoint.kind, e);
+            reconnect(endpoint);
+        }
+    }
+
     private String getResourceVersion(String kind, String namespace, WatchEndpoint endpoint) throws Exception {
         IList list = client.get(kind, namespace);
         Collection<IResource> items = list.getItems();
@@ -122,16 +179,38 @@ public class WatchClient implements IWatcher, IHttpConstants {
         private IOpenShiftWatchListener listener;
         private List<IResource> resources;
         private final String kind;
+        private final String namespace;
         private final IClient client;
-        private WebSocket wsClient;
+        private final WatchClient watchClient;
+        private final Backoff backoff = new Backoff(RECONNECT_INITIAL_DELAY, RECONNECT_MAX_DELAY);
+        private volatile WebSocket wsClient;
+        private volatile String resourceVersion;
+        private volatile boolean closed = false;
+        private volatile boolean eventReceived = false;
 
+        /**
+         * Creates an endpoint that notifies the listener when the watch is dropped.
+         */
         public WatchEndpoint(IClient client, IOpenShiftWatchListener listener, String kind) {
+            this(client, listener, kind, null, null);
+        }
+
+        /**
+         * Creates an endpoint that the given watch client reconnects when the watch
+         * is dropped. It resumes at the last resource version that was seen and lists
+         * the resources again only if the server no longer has this version.
+         */
+        WatchEndpoint(IClient client, IOpenShiftWatchListener listener, String kind, String namespace,
+                WatchClient watchClient) {
             this.listener = listener;
             this.kind = kind;
+            this.namespace = namespace;
             this.client = client;
+            this.watchClient = watchClient;
         }
 
-        void close() {
+        synchronized void close() {
+            this.closed = true;
             try {
                 if (wsClient != null) {
                     wsClient.close(STATUS_NORMAL_STOP, "Client was asked to stop.");
@@ -145,29 +224,81 @@ public class WatchClient implements IWatcher, IHttpConstants {
             }
         }
 
+        boolean isClosed() {
+            return closed;
+        }
+
+        private boolean isResumable() {
+            return watchClient != null
+                    && !closed;
+        }
+
         public void setResources(List<IResource> resources) {
             this.resources = resources;
         }
 
+        void setWebSocket(WebSocket socket) {
+            this.wsClient = socket;
+        }
+
+        String getResourceVersion() {
+            return resourceVersion;
+        }
+
+        int getReconnectAttempts() {
+            return backoff.getAttempts();
+        }
+
+        /**
+         * Forgets the last resource version so that the resources are listed again
+         * when reconnecting.
+         */
+        private void expireResourceVersion() {
+            LOGGER.debug("Resource version {} of kind {} is gone, resources will be listed again",
+                    resourceVersion, kind);
+            this.resourceVersion = null;
+        }
+
         @Override
         public void onClosing(WebSocket socket, int statusCode, String reason) {
             LOGGER.debug("WatchSocket closed for kind: {}, code: {}, reason: {}",
                     new Object[] { kind, statusCode, reason });
-            listener.disconnected();
+            if (closed) {
+                return;
+            }
+            if (isResumable()) {
+                socket.close(STATUS_NORMAL_STOP, null);
+                watchClient.reconnect(this);
+            } else {
+                listener.disconnected();
+            }
         }
 
         @Override
         public void onFailure(WebSocket socket, Throwable err, Response response) {
             LOGGER.debug("WatchSocket Error for kind {}: {}", kind, err);
+            if (closed) {
+                return;
+            }
             try {
                 if (response == null) {
-                    listener.error(ResponseCodeInterceptor.createOpenShiftException(client, 0, "", "", err));
+                    if (isResumable()) {
+                        watchClient.reconnect(this);
+                    } else {
+                        listener.error(ResponseCodeInterceptor.createOpenShiftException(client, 0, "", "", err));
+                    }
                 } else if (response.code() == IHttpConstants.STATUS_OK && err instanceof ProtocolException) {
                     // Just swallow it. Means the feature isn't supported in this OS server version
                     // yet.
                     // WebSocket creates error "Expected HTTP 101 response but was '200 OK'"
                     // This is described in the web socket specification.
                     LOGGER.debug("The feature isn't supported", err);
+                } else if (isResumable()
+                        && isRetriable(response.code())) {
+                    if (response.code() == STATUS_GONE) {
+                        expireResourceVersion();
+                    }
+                    watchClient.reconnect(this);
                 } else {
                     listener.error(ResponseCodeInterceptor.createOpenShiftException(client, response.code(),
                             response.body().string(), response.request().url().toString(), err));
@@ -178,14 +309,39 @@ public class WatchClient implements IWatcher, IHttpConstants {
             }
         }
 
+        private boolean isRetriable(int code) {
+            return code == STATUS_GONE
+                    || code >= STATUS_INTERNAL_SERVER_ERROR;
+        }
+
         @Override
         public void onMessage(WebSocket socket, String body) {
             LOGGER.debug(body);
             ModelNode node = ModelNode.fromJSONString(body);
-            IOpenShiftWatchListener.ChangeType event = new ChangeType(node.get("type").asString());
-            IResource resource = client.getResourceFactory().create(node.get("object").toJSONString(true));
+            ModelNode object = node.get("object");
+            String type = node.get("type").asString();
+            if (EVENT_ERROR.equals(type)
+                    && isResumable()
+                    && object.has("code")
+                    && object.get("code").asInt() == STATUS_GONE) {
+                // the server closes the socket after this event, resume with a fresh list
+                expireResourceVersion();
+                return;
+            }
+            if (!eventReceived) {
+                // the watch works, a server that closes right after the upgrade keeps backing off
+                this.eventReceived = true;
+                backoff.reset();
+            }
+            if (object.has(ResourcePropertyKeys.METADATA)
+                    && object.get(ResourcePropertyKeys.METADATA).has(ResourcePropertyKeys.RESOURCE_VERSION)) {
+                this.resourceVersion = object.get(ResourcePropertyKeys.METADATA, ResourcePropertyKeys.RESOURCE_VERSION)
+                        .asString();
+            }
+            IOpenShiftWatchListener.ChangeType event = new ChangeType(type);
+            IResource resource = ResourceFactory.create(client.getResourceFactory(), object);
             if (StringUtils.isEmpty(resource.getKind())) {
-                LOGGER.error("Unable to determine resource kind from: " + node.get("object").toJSONString(false));
+                LOGGER.error("Unable to determine resource kind from: " + object.toJSONString(false));
             }
             listener.received(resource, event);
         }
@@ -194,7 +350,13 @@ public class WatchClient implements IWatcher, IHttpConstants {
         public void onOpen(WebSocket socket, Response response) {
             LOGGER.debug("WatchSocket connected for {}", kind);
             wsClient = socket;
-            listener.connected(resources);
+            this.eventReceived = false;
+            if (resources != null) {
+                // only notify of the resources that were listed, not when resuming
+                List<IResource> listed = resources;
+                this.resources = null;
+                listener.connected(listed);
+            }
         }
     }
 }
@@ -9,8 +9,11 @@
 
 package com.openshift.internal.util;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,9 +23,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+import org.jboss.dmr.stream.ModelException;
+import org.jboss.dmr.stream.ModelStreamFactory;
+import org.jboss.dmr.stream.ModelWriter;
 
 /**
  * Helper extensions to those provided by JBoss DMR library
@@ -30,6 +38,15 @@ import org.jboss.dmr.ModelType;
  */
 public class JBossDmrExtentions {
 
+    /**
+     * The maximum number of paths that are cached. Keys are constants in
+     * practice, the limit only protects against callers that build them.
+     */
+    private static final int MAX_CACHED_PATHS = 4096;
+
+    /** the paths of the keys that were split before */
+    private static final Map<String, String[]> PATHS = new ConcurrentHashMap<>();
+
     private JBossDmrExtentions() {
     }
 
@@ -44,6 +61,105 @@ public class JBossDmrExtentions {
         return writer.toString();
     }
 
+    /**
+     * Writes the given node as compact JSON to the given stream. Undefined values
+     * and empty lists are skipped the same way {@link #toJsonString(ModelNode, boolean)}
+     * removes them, but without modifying the node. The stream is flushed but not
+     * closed.
+     */
+    public static void writeJson(ModelNode node, OutputStream out) throws IOException {
+        ModelWriter writer = ModelStreamFactory.getInstance(true).newModelWriter(out, StandardCharsets.UTF_8);
+        try {
+            write(node, writer);
+        } catch (ModelException e) {
+            throw new IOException("Could not write node as json", e);
+        }
+        writer.flush();
+    }
+
+    private static void write(ModelNode node, ModelWriter writer) throws IOException, ModelException {
+        switch (node.getType()) {
+        case OBJECT:
+            writer.writeObjectStart();
+            for (String key : node.keys()) {
+                ModelNode child = node.get(key);
+                if (!isSkipped(child)) {
+                    writer.writeString(key);
+                    write(child, writer);
+                }
+            }
+            writer.writeObjectEnd();
+            break;
+        case LIST:
+            writer.writeListStart();
+            for (ModelNode entry : node.asList()) {
+                if (entry.isDefined()) {
+                    write(entry, writer);
+                }
+            }
+            writer.writeListEnd();
+            break;
+        case PROPERTY:
+            Property property = node.asProperty();
+            writer.writeObjectStart();
+            writer.writeString(property.getName());
+            write(property.getValue(), writer);
+            writer.writeObjectEnd();
+            break;
+        case STRING:
+            writer.writeString(node.asString());
+            break;
+        case BOOLEAN:
+            writer.writeBoolean(node.asBoolean());
+            break;
+        case INT:
+            writer.writeInt(node.asInt());
+            break;
+        case LONG:
+            writer.writeLong(node.asLong());
+            break;
+        case DOUBLE:
+            writer.writeDouble(node.asDouble());
+            break;
+        case BIG_INTEGER:
+            writer.writeBigInteger(node.asBigInteger());
+            break;
+        case BIG_DECIMAL:
+            writer.writeBigDecimal(node.asBigDecimal());
+            break;
+        case BYTES:
+            writer.writeBytes(node.asBytes());
+            break;
+        case EXPRESSION:
+            writer.writeExpression(node.asExpression().getExpressionString());
+            break;
+        case TYPE:
+            writer.writeType(node.asType());
+            break;
+        default:
+            writer.writeUndefined();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the given child of an object is omitted when
+     * serializing. Mirrors {@link #sanitize(ModelNode)}.
+     */
+    private static boolean isSkipped(ModelNode child) {
+        if (child.getType() == ModelType.UNDEFINED) {
+            return true;
+        }
+        if (child.getType() == ModelType.LIST) {
+            for (ModelNode entry : child.asList()) {
+                if (entry.isDefined()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
     private static void sanitize(ModelNode node) {
         if (node.getType() == ModelType.OBJECT) {
             Collection<String> emptyKeys = new ArrayList<>(node.keys().size());
@@ -285,11 +401,25 @@ public class JBossDmrExtentions {
         return node.get(getPath(propertyKeys, key));
     }
 
+    /**
+     * Returns the path for the given key. The path is shared, callers must not
+     * modify it.
+     */
     public static String[] getPath(Map<String, String[]> propertyKeys, String key) {
-        if (propertyKeys != null && propertyKeys.containsKey(key)) {
-            return propertyKeys.get(key); // allow override
+        if (propertyKeys != null) {
+            String[] path = propertyKeys.get(key); // allow override
+            if (path != null) {
+                return path;
+            }
+        }
+        String[] path = PATHS.get(key);
+        if (path == null) {
+            path = key.split("\\.");
+            if (PATHS.size() < MAX_CACHED_PATHS) {
+                PATHS.putIfAbsent(key, path);
+            }
         }
-        return key.split("\\.");
+        return path;
     }
 
     @SuppressWarnings("unchecked")
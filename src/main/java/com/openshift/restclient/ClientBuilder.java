@@ -11,6 +11,7 @@
 
 package com.openshift.restclient;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.Proxy;
 import java.net.ProxySelector;
@@ -21,7 +22,9 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
@@ -31,19 +34,33 @@ import javax.net.ssl.X509TrustManager;
 import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang.StringUtils;
 
+import com.openshift.internal.restclient.ApiTypeMapper;
+import com.openshift.internal.restclient.ClusterFacts;
 import com.openshift.internal.restclient.DefaultClient;
+import com.openshift.internal.restclient.DiscoveryCache;
 import com.openshift.internal.restclient.ResourceFactory;
 import com.openshift.internal.restclient.authorization.AuthorizationContext;
 import com.openshift.internal.restclient.okhttp.AuthenticatorInterceptor;
+import com.openshift.internal.restclient.okhttp.CallTimingsEventListener;
+import com.openshift.internal.restclient.okhttp.ConnectionWarmup;
+import com.openshift.internal.restclient.okhttp.MetricsInterceptor;
+import com.openshift.internal.restclient.okhttp.RateLimitInterceptor;
+import com.openshift.internal.restclient.okhttp.RateLimiter;
 import com.openshift.internal.restclient.okhttp.ResponseCodeInterceptor;
+import com.openshift.internal.restclient.okhttp.ResponseFutures;
+import com.openshift.internal.restclient.okhttp.RetryAfterInterceptor;
 import com.openshift.restclient.http.IHttpConstants;
+import com.openshift.restclient.metrics.ICallTimingsListener;
+import com.openshift.restclient.metrics.IClientMetrics;
 import com.openshift.restclient.utils.SSLUtils;
 
 import okhttp3.Authenticator;
+import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.OkHttp;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 
@@ -71,6 +88,16 @@ public class ClientBuilder {
 
     private int maxRequests = 64;
     private int maxRequestsPerHost = 10;
+    private int maxIdleConnections = -1;
+    private long keepAlive = TimeUnit.MINUTES.toMillis(5);
+    private boolean http2 = true;
+    private int warmupConnections = 0;
+    private boolean warmupClusterFacts = false;
+    private long clusterFactsTimeToLive = -1;
+    private double qps = 0;
+    private int burst = 0;
+    private int maxRetries = 3;
+    private long maxRetryDelay = TimeUnit.SECONDS.toMillis(10);
 
     private int readTimeout = IHttpConstants.DEFAULT_READ_TIMEOUT;
     private TimeUnit readTimeoutUnit = TimeUnit.MILLISECONDS;
@@ -81,6 +108,11 @@ public class ClientBuilder {
     private int pingInterval = 0;
     private TimeUnit pingIntervalUnit = TimeUnit.MILLISECONDS;
 
+    private DiscoveryCache discoveryCache;
+    private IClientMetrics metrics;
+    private ICallTimingsListener callTimingsListener;
+    private long slowCallThreshold = -1;
+
     public ClientBuilder() {
         this(null);
     }
@@ -218,6 +250,177 @@ public class ClientBuilder {
         return this;
     }
 
+    /**
+     * Configures the pool that keeps connections open for reuse. The pool is
+     * shared by the clones of the client. By default it keeps as many idle
+     * connections as there may be concurrent requests per host, for 5
+     * minutes.
+     *
+     * @param maxIdleConnections
+     *            the maximum number of idle connections that are kept open
+     * @param keepAlive
+     *            the time after which idle connections are closed
+     * @param unit
+     *            the unit of the keep alive time
+     * @return the client builder
+     */
+    public ClientBuilder withConnectionPool(int maxIdleConnections, long keepAlive, TimeUnit unit) {
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAlive = unit.toMillis(keepAlive);
+        return this;
+    }
+
+    /**
+     * Whether http/2 is offered to the server. If the server accepts it,
+     * concurrent requests are multiplexed on a single connection. Enabled by
+     * default, http/1.1 is used otherwise.
+     *
+     * @param enabled
+     *            {@code true} to prefer http/2
+     * @return the client builder
+     */
+    public ClientBuilder withHttp2(boolean enabled) {
+        this.http2 = enabled;
+        return this;
+    }
+
+    /**
+     * Opens up to the given number of connections to the cluster when the
+     * client is built so that the first requests don't wait for the connect
+     * and the tls handshake. {@link #build()} waits for the connections at most
+     * for the connect timeout. Disabled by default.
+     *
+     * @param connections
+     *            the number of connections to open, 0 disables the warm up
+     * @return the client builder
+     */
+    public ClientBuilder withConnectionWarmup(int connections) {
+        this.warmupConnections = connections;
+        return this;
+    }
+
+    /**
+     * Looks up the facts about the cluster in the background right after the
+     * client is built: the versions, the authorization endpoints, the api
+     * discovery and the console url. {@link #build()} doesn't wait for them.
+     * The facts are kept for the given time to live and looked up again
+     * once they're used after that. Disabled by default, the facts are then
+     * looked up when they're first used and kept forever.
+     *
+     * @param timeToLive
+     *            the duration after which the facts are looked up again, a
+     *            negative duration keeps them forever
+     * @param unit
+     *            the unit of the duration
+     * @return the client builder
+     */
+    public ClientBuilder withClusterFactsWarmup(long timeToLive, TimeUnit unit) {
+        this.warmupClusterFacts = true;
+        this.clusterFactsTimeToLive = unit.toMillis(timeToLive);
+        return this;
+    }
+
+    /**
+     * Limits the rate of the requests of this client. Requests that exceed the
+     * rate wait until they may be sent. Clones of the client share the limit
+     * with it. A rate of 0 disables the limit, which is the default.
+     *
+     * @param qps
+     *            the sustained number of requests per second
+     * @param burst
+     *            the number of requests that may be sent at once, in excess of
+     *            the rate
+     * @return the client builder
+     */
+    public ClientBuilder withRateLimit(double qps, int burst) {
+        this.qps = qps;
+        this.burst = burst;
+        return this;
+    }
+
+    /**
+     * Retries idempotent requests (GET, HEAD, OPTIONS, PUT and DELETE) that the
+     * server throttled with a 429 or a 503 with a Retry-After header. The retry
+     * waits for the time the server asked for. Requests are retried up to 3
+     * times by default, waiting at most 10 seconds.
+     *
+     * @param maxRetries
+     *            the maximum number of retries, 0 disables retrying
+     * @param maxDelay
+     *            the maximum time to wait before a retry. Responses that ask to
+     *            wait longer are not retried.
+     * @param unit
+     *            the unit of the maximum time
+     * @return the client builder
+     */
+    public ClientBuilder withRetries(int maxRetries, long maxDelay, TimeUnit unit) {
+        this.maxRetries = maxRetries;
+        this.maxRetryDelay = unit.toMillis(maxDelay);
+        return this;
+    }
+
+    /**
+     * Records the requests of this client and the decoding of their responses
+     * to the given metrics. Clones of the client record to the same metrics.
+     * Nothing is recorded by default.
+     *
+     * @param metrics
+     *            the metrics to record to, ex. an
+     *            {@link com.openshift.restclient.metrics.InMemoryClientMetrics}
+     * @return the client builder
+     */
+    public ClientBuilder withMetrics(IClientMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Notifies the given listener of the phase timings (dns, connect, tls
+     * handshake, time to first byte, response body) of each call once it
+     * ended.
+     *
+     * @param listener
+     *            the listener to notify
+     * @return the client builder
+     */
+    public ClientBuilder withCallTimingsListener(ICallTimingsListener listener) {
+        this.callTimingsListener = listener;
+        return this;
+    }
+
+    /**
+     * Logs the phase timings of calls that take longer than the given
+     * threshold, as a warning.
+     *
+     * @param threshold
+     *            the duration above which calls are logged
+     * @param unit
+     *            the unit of the duration
+     * @return the client builder
+     */
+    public ClientBuilder withSlowCallLogging(long threshold, TimeUnit unit) {
+        this.slowCallThreshold = unit.toNanos(threshold);
+        return this;
+    }
+
+    /**
+     * Caches the api discovery of the cluster in the given directory. Clients for
+     * the same cluster url and version then skip the discovery for the given time
+     * to live.
+     *
+     * @param directory
+     *            the directory to store the cache in
+     * @param timeToLive
+     *            the duration after which a cached discovery is refreshed
+     * @param unit
+     *            the unit of the duration
+     * @return the client builder
+     */
+    public ClientBuilder withDiscoveryCache(File directory, long timeToLive, TimeUnit unit) {
+        this.discoveryCache = new DiscoveryCache(directory, timeToLive, unit);
+        return this;
+    }
+
     /**
      * Build a client
      *
@@ -239,12 +442,21 @@ public class ClientBuilder {
 
             IResourceFactory factory = (IResourceFactory) ObjectUtils.defaultIfNull(resourceFactory, new ResourceFactory(null));
             AuthorizationContext authContext = new AuthorizationContext(token, userName, password);
-            DefaultClient client = new DefaultClient(new URL(this.baseUrl), okClient, factory, null, authContext);
+            URL url = new URL(this.baseUrl);
+            ApiTypeMapper typeMapper = new ApiTypeMapper(url.toString(), okClient, authContext, discoveryCache);
+            DefaultClient client = new DefaultClient(url, okClient, factory, typeMapper, authContext);
 
             authContext.setClient(client);
             authenticatorInterceptor.setClient(client);
             responseCodeInterceptor.setClient(client);
             factory.setClient(client);
+            if (warmupConnections > 0) {
+                ConnectionWarmup.warmUp(okClient, url, warmupConnections, connectTimeout, connectTimeoutUnit);
+            }
+            if (warmupClusterFacts) {
+                client.adapt(ClusterFacts.class).setTimeToLive(clusterFactsTimeToLive, TimeUnit.MILLISECONDS);
+                client.warmUpClusterFacts(dispatcher.executorService());
+            }
             return client;
         } catch (KeyManagementException | NoSuchAlgorithmException | KeyStoreException | CertificateException
                 | IOException e) {
@@ -262,13 +474,34 @@ public class ClientBuilder {
         return dispatcher;
     }
 
+    private ConnectionPool createConnectionPool() {
+        int maxIdle = maxIdleConnections < 0 ? maxRequestsPerHost : maxIdleConnections;
+        return new ConnectionPool(maxIdle, keepAlive, TimeUnit.MILLISECONDS);
+    }
+
     private OkHttpClient createOkHttpClient(X509TrustManager trustManager, SSLContext sslContext,
             AuthenticatorInterceptor authenticatorInterceptor, ResponseCodeInterceptor responseCodeInterceptor, Dispatcher dispatcher) {
         OkHttpClient.Builder builder = new OkHttpClient.Builder()
                 .addNetworkInterceptor(new UserAgentInterceptor(userAgentPrefix))
-                .addInterceptor(responseCodeInterceptor)
-                .addInterceptor(authenticatorInterceptor)
+                .addInterceptor(new ResponseFutures.AsyncExceptionInterceptor())
+                .addInterceptor(responseCodeInterceptor);
+        if (maxRetries > 0) {
+            builder.addInterceptor(new RetryAfterInterceptor(maxRetries, maxRetryDelay));
+        }
+        if (qps > 0) {
+            builder.addInterceptor(new RateLimitInterceptor(new RateLimiter(qps, Math.max(1, burst))));
+        }
+        if (metrics != null) {
+            builder.addNetworkInterceptor(new MetricsInterceptor(metrics));
+        }
+        if (callTimingsListener != null
+                || slowCallThreshold >= 0) {
+            builder.eventListenerFactory(new CallTimingsEventListener.Factory(callTimingsListener, slowCallThreshold));
+        }
+        builder.addInterceptor(authenticatorInterceptor)
                 .dispatcher(dispatcher)
+                .connectionPool(createConnectionPool())
+                .protocols(http2 ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1) : Collections.singletonList(Protocol.HTTP_1_1))
                 .readTimeout(readTimeout, readTimeoutUnit)
                 .writeTimeout(writeTimeout, writeTimeoutUnit)
                 .connectTimeout(connectTimeout, connectTimeoutUnit)
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.restclient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.openshift.restclient.model.IList;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * Asynchronous variants of the {@link IClient} operations. Requests are queued
+ * on the dispatcher of the client and are thus limited by its max requests (per
+ * host). The returned futures are completed once the response was received and
+ * decoded. They complete exceptionally with the {@link OpenShiftException} that
+ * the blocking operation would throw.
+ *
+ * The endpoint of a request is determined when the operation is called, which
+ * may trigger the (blocking) api discovery the first time.
+ *
+ * @see IClient#async()
+ */
+public interface IAsyncClient {
+
+    <T extends IResource> CompletableFuture<T> get(String kind, String name, String namespace);
+
+    /**
+     * @return A raw list of the kind in the given namespace (e.g. ServiceList)
+     */
+    CompletableFuture<IList> get(String kind, String namespace);
+
+    /**
+     * Lists the given given resource kind scoping it to a specific namespace
+     *
+     * @param labelQuery
+     *            The label used to filter the resource, may be {@code null}
+     */
+    <T extends IResource> CompletableFuture<List<T>> list(String kind, String namespace, String labelQuery);
+
+    <T extends IResource> CompletableFuture<T> create(T resource, String namespace);
+
+    <T extends IResource> CompletableFuture<T> update(T resource);
+
+    CompletableFuture<Void> delete(IResource resource);
+
+    CompletableFuture<Void> delete(String kind, String namespace, String name);
+
+    /**
+     * Executes the given method for the given kind
+     *
+     * @param method
+     *            the http method
+     * @param params
+     *            the query parameters, may be {@code null}
+     */
+    <T extends IResource> CompletableFuture<T> execute(String method, String kind, String namespace, String name,
+            String subresource, IResource payload, Map<String, String> params);
+}
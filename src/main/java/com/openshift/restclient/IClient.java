@@ -14,6 +14,7 @@ import java.net.URL;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import com.openshift.internal.restclient.KubernetesVersion;
 import com.openshift.restclient.api.ITypeFactory;
@@ -51,6 +52,22 @@ public interface IClient extends ICapable, Cloneable {
      */
     IWatcher watch(IOpenShiftWatchListener listener, String... kinds);
 
+    /**
+     * Returns the informer for the given kind in the given namespace. Informers
+     * are shared, there is a single list and watch per kind and namespace no
+     * matter how many times this is called. Callers have to {@link IInformer#stop()}
+     * the informer once they dont need it any more.
+     *
+     * @param namespace The namespace to cache the resources of
+     * @param kind The kind to cache the resources of
+     */
+    IInformer informer(String namespace, String kind);
+
+    /**
+     * Returns the asynchronous variants of the operations of this client
+     */
+    IAsyncClient async();
+
     /**
      * Lists all possible resources of the given kind in the default namespace
      * 
@@ -103,6 +120,26 @@ public interface IClient extends ICapable, Cloneable {
      */
     <T extends IResource> List<T> list(String kind, String namespace, String labelQuery);
 
+    /**
+     * Lists the given resource kind page by page. Pages are requested lazily,
+     * the next one once the resources of the current one were consumed. Memory
+     * usage is thus bounded by the page size no matter how many resources there
+     * are. Use {@link Stream#iterator()} to iterate the resources. Clients that
+     * can't paginate return all resources at once.
+     *
+     * @param kind
+     * @param namespace
+     *            The namespace to scope the possible results of this list
+     * @param labelQuery
+     *            The label used to filter the resource, may be {@code null}
+     * @param pageSize
+     *            The maximum number of resources that are requested at once
+     * @return
+     */
+    default <T extends IResource> Stream<T> stream(String kind, String namespace, String labelQuery, int pageSize) {
+        return this.<T>list(kind, namespace, labelQuery).stream();
+    }
+
     /**
      *
      * @param kind
@@ -193,6 +230,28 @@ public interface IClient extends ICapable, Cloneable {
      */
     Collection<IResource> create(IList list, String namespace);
 
+    /**
+     * Creates a list of resources in the given namespace sending up to the
+     * given number of requests at once. Namespaces are created first, then
+     * service accounts, secrets and config maps, then all other resources.
+     * Clients that can't create concurrently create one resource after the
+     * other.
+     * 
+     * @param list
+     *            The resource definitions
+     * @param namespace
+     *            the namespace for the resources
+     * @param parallelism
+     *            the maximum number of concurrent requests
+     * @return A collection of the resources created or the status instance of why
+     *         the creation failed, in the order of the list.
+     * @throws OpenShiftException
+     *             if a status can not be determined from the exception
+     */
+    default Collection<IResource> create(IList list, String namespace, int parallelism) {
+        return create(list, namespace);
+    }
+
     /**
      * Updates the given resource
      * 
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.restclient;
+
+import java.util.List;
+
+import com.openshift.restclient.model.IResource;
+
+/**
+ * A local cache of the resources of a kind in a namespace. It lists and then
+ * watches the resources once and is shared by all its users. Reads are served
+ * from memory.
+ *
+ * Informers are reference counted: {@link #stop()} releases the informer and
+ * the watch is stopped once all users released it.
+ *
+ * @see IClient#informer(String, String)
+ */
+public interface IInformer extends IWatcher {
+
+    /**
+     * The annotations that resources are indexed by in {@link #byOwner(String, String)}
+     */
+    static final String[] OWNER_ANNOTATIONS = new String[] {
+        "openshift.io/deployment-config.name",
+        "openshift.io/deployment.name",
+        "openshift.io/build-config.name",
+        "openshift.io/build.name" };
+
+    String getKind();
+
+    String getNamespace();
+
+    /**
+     * Returns {@code true} once the initial list of resources was received
+     */
+    boolean hasSynced();
+
+    /**
+     * Returns the resource with the given namespace and name or {@code null} if
+     * it is not known.
+     */
+    <T extends IResource> T get(String namespace, String name);
+
+    /**
+     * Returns all resources that are known
+     */
+    <T extends IResource> List<T> list();
+
+    /**
+     * Returns the resources that have the given label
+     */
+    <T extends IResource> List<T> byLabel(String key, String value);
+
+    /**
+     * Returns the resources that have the given owner annotation
+     *
+     * @param annotation
+     *            one of the {@link #OWNER_ANNOTATIONS}
+     * @param owner
+     *            the name of the owner
+     */
+    <T extends IResource> List<T> byOwner(String annotation, String owner);
+
+    /**
+     * Adds a listener that is notified of the changes to the resources. A
+     * listener that is added once the informer synced is notified of the
+     * resources that are known right away.
+     */
+    void addListener(IOpenShiftWatchListener listener);
+
+    void removeListener(IOpenShiftWatchListener listener);
+}
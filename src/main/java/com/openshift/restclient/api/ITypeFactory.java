@@ -11,8 +11,13 @@
 
 package com.openshift.restclient.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
+import org.apache.commons.io.IOUtils;
+
 import com.openshift.restclient.ResourceFactoryException;
 
 /**
@@ -29,6 +34,22 @@ public interface ITypeFactory {
      */
     Object createInstanceFrom(String response);
 
+    /**
+     * Create a resource from a response stream. The stream is consumed but not
+     * closed. Factories should override this to decode the stream directly
+     * instead of buffering it into a string first.
+     * 
+     * @throws ResourceFactoryException
+     *             if it is unable to create resources
+     */
+    default Object createInstanceFrom(InputStream response) {
+        try {
+            return createInstanceFrom(IOUtils.toString(response, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new ResourceFactoryException(e, "There was an exception reading the response stream");
+        }
+    }
+
     /**
      * Stub out the given resource kind using a version determined by the factory
      * 
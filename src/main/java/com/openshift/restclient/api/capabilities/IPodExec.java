@@ -11,6 +11,9 @@
 
 package com.openshift.restclient.api.capabilities;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +39,25 @@ public interface IPodExec extends ICapability {
      */
     IStoppable start(IPodExecOutputListener listener, Options options, String... commands);
 
+    /**
+     * Execute a command on a named container in this pod and receive its output
+     * as bytes. Stdin is only available if it is enabled in the options,
+     * resizing the terminal requires a tty.
+     * 
+     * @param listener
+     *            Listener for command output
+     * @param options
+     *            Options for the exec
+     * @param commands
+     *            A command to run and any arguments
+     * @return A session to send stdin to and to terminate the connection
+     * @throws UnsupportedOperationException
+     *             if the implementation only supports text output
+     */
+    default IPodExecSession start(IPodExecChannelListener listener, Options options, String... commands) {
+        throw new UnsupportedOperationException("Byte level exec is not supported by " + getClass().getName());
+    }
+
     /**
      * A callback for exec output
      *
@@ -85,6 +107,86 @@ public interface IPodExec extends ICapability {
         void onClose(int code, String reason);
     }
 
+    /**
+     * A callback for exec output that is received as bytes. The buffers are
+     * only valid during the callback, they're read-only views of the received
+     * frames.
+     */
+    interface IPodExecChannelListener {
+
+        /**
+         * Callback received on initial connection
+         */
+        default void onOpen() {
+        }
+
+        /**
+         * Exec received stdout (channel 1)
+         * 
+         */
+        void onStdOut(ByteBuffer data);
+
+        /**
+         * Exec received stderr (channel 2)
+         * 
+         */
+        void onStdErr(ByteBuffer data);
+
+        /**
+         * Exec (channel 3) error or status message
+         * 
+         */
+        void onExecErr(ByteBuffer data);
+
+        /**
+         * Called by lower level errors
+         * 
+         * @param t
+         *            Exception causing failure
+         */
+        void onFailure(Throwable t);
+
+        /**
+         * Callback received when the connection to the pod is terminated from the
+         * server-side
+         * 
+         * @param code
+         *            a valid http response code
+         * @param reason
+         *            a reason for termination, may be null
+         */
+        void onClose(int code, String reason);
+    }
+
+    /**
+     * A running exec
+     */
+    interface IPodExecSession extends IStoppable {
+
+        /**
+         * The stdin (channel 0) of the command. Writes are buffered until the
+         * stream is flushed and block while too much is waiting to be sent.
+         * 
+         */
+        OutputStream getStdIn();
+
+        /**
+         * The stdin (channel 0) of the command. Each write is sent right away.
+         * 
+         */
+        WritableByteChannel getStdInChannel();
+
+        /**
+         * Resizes the terminal (channel 4) of the command
+         * 
+         * @param width
+         *            the number of columns
+         * @param height
+         *            the number of rows
+         */
+        void resize(int width, int height);
+    }
+
     /**
      * Options for exec
      */
@@ -93,6 +195,8 @@ public interface IPodExec extends ICapability {
         public static final String CONTAINER = "container";
         public static final String STDOUT = "stdout";
         public static final String STDERR = "stderr";
+        public static final String STDIN = "stdin";
+        public static final String TTY = "tty";
         private Map<String, String> options = new HashMap<>();
         private Map<String, String> secondaries = new HashMap<>();
 
@@ -125,6 +229,22 @@ public interface IPodExec extends ICapability {
             return storeSecondary(STDERR, value);
         }
 
+        /**
+         * Enable stdin
+         * 
+         */
+        public Options stdIn(boolean value) {
+            return storeSecondary(STDIN, value);
+        }
+
+        /**
+         * Allocate a terminal
+         * 
+         */
+        public Options tty(boolean value) {
+            return storeSecondary(TTY, value);
+        }
+
         /**
          * Add an option that is not explicitly defined. These will override any
          * explicit options if there are collisions
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.restclient.capability.resources;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.openshift.restclient.capability.ICapability;
+import com.openshift.restclient.capability.IStoppable;
+import com.openshift.restclient.capability.resources.IPodLogRetrievalAsync.Options;
+
+/**
+ * Follows the logs of all the pods in a project that match a label selector.
+ * Pods that start matching later on are followed once they're started.
+ */
+public interface IPodLogAggregation extends ICapability {
+
+    /**
+     * Follows the logs of the pods that have all of the given labels. The lines
+     * of all pods are merged by their timestamp. Each pod is only read while
+     * the lines that it buffers are consumed.
+     *
+     * @param labels
+     *            the labels that the pods have to match
+     * @param options
+     *            options for retrieving the logs of each pod, they're always
+     *            followed and timestamped
+     * @return the merged logs, they have to be stopped once they aren't needed
+     *         any more
+     */
+    IAggregatedLogs follow(Map<String, String> labels, Options options);
+
+    /**
+     * The merged logs of several pods
+     */
+    interface IAggregatedLogs extends IStoppable {
+
+        /**
+         * Returns the next line, waiting for it if necessary.
+         *
+         * @return the next line or {@code null} if the logs were stopped
+         */
+        LogLine take() throws InterruptedException;
+
+        /**
+         * Returns the next line, waiting up to the given time for it.
+         *
+         * @return the next line or {@code null} if the logs were stopped or no
+         *         line was received in time
+         */
+        LogLine poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+        /**
+         * Returns {@code true} if the logs were stopped.
+         */
+        boolean isStopped();
+    }
+
+    /**
+     * A line in the logs of a container
+     */
+    class LogLine {
+
+        private final String pod;
+        private final String container;
+        private final Instant timestamp;
+        private final String message;
+
+        public LogLine(String pod, String container, Instant timestamp, String message) {
+            this.pod = pod;
+            this.container = container;
+            this.timestamp = timestamp;
+            this.message = message;
+        }
+
+        public String getPod() {
+            return pod;
+        }
+
+        public String getContainer() {
+            return container;
+        }
+
+        /**
+         * The time the line was logged at, or was received at if the line
+         * had no timestamp.
+         */
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * The line without its timestamp
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return pod + "/" + container + " " + timestamp + " " + message;
+        }
+    }
+}
@@ -12,9 +12,11 @@
 package com.openshift.restclient.capability.resources;
 
 import java.io.InputStream;
+import java.util.Map;
 
 import com.openshift.restclient.capability.IBinaryCapability.OpenShiftBinaryOption;
 import com.openshift.restclient.capability.ICapability;
+import com.openshift.restclient.capability.resources.IPodLogRetrievalAsync.Options;
 
 public interface IPodLogRetrieval extends ICapability {
 
@@ -43,6 +45,20 @@ public interface IPodLogRetrieval extends ICapability {
      */
     InputStream getLogs(boolean follow, String container, OpenShiftBinaryOption... options);
 
+    /**
+     * Return the logs from the pod using the given options (ex. follow, the
+     * container, the lines to tail). Implementations that can't pass the
+     * options to the server only follow the logs of the given container.
+     * 
+     * @param options
+     *            options for retrieving logs
+     * @return the log output stream
+     */
+    default InputStream getLogs(Options options) {
+        Map<String, String> parameters = options.getMap();
+        return getLogs(Boolean.parseBoolean(parameters.get("follow")), parameters.get("container"));
+    }
+
     /**
      * Stop retrieving logs for all containers
      */
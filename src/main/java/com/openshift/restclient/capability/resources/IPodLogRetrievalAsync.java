@@ -93,8 +93,16 @@ public interface IPodLogRetrievalAsync extends ICapability {
 
         private static final String CONTAINER = "container";
         private static final String FOLLOW = "follow";
+        private static final String TAIL_LINES = "tailLines";
+        private static final String SINCE_SECONDS = "sinceSeconds";
+        private static final String LIMIT_BYTES = "limitBytes";
+        private static final String TIMESTAMPS = "timestamps";
         private boolean follow = false;
         private String container = null;
+        private int tailLines = -1;
+        private long sinceSeconds = -1;
+        private long limitBytes = -1;
+        private boolean timestamps = false;
         private Map<String, String> options = new HashMap<>();
 
         /**
@@ -123,6 +131,43 @@ public interface IPodLogRetrievalAsync extends ICapability {
             return this;
         }
 
+        /**
+         * Only the given number of lines from the end of the logs
+         * 
+         */
+        public Options tailLines(int lines) {
+            this.tailLines = lines;
+            return this;
+        }
+
+        /**
+         * Only the logs of the given last seconds
+         * 
+         */
+        public Options sinceSeconds(long seconds) {
+            this.sinceSeconds = seconds;
+            return this;
+        }
+
+        /**
+         * At most the given number of bytes, the logs are cut off once they
+         * exceed them
+         * 
+         */
+        public Options limitBytes(long bytes) {
+            this.limitBytes = bytes;
+            return this;
+        }
+
+        /**
+         * Prefix each line with its timestamp
+         * 
+         */
+        public Options timestamps(boolean value) {
+            this.timestamps = value;
+            return this;
+        }
+
         /**
          * Add an option that is not explicitly defined. These will override any
          * explicit options if there are collisions
@@ -145,6 +190,18 @@ public interface IPodLogRetrievalAsync extends ICapability {
             if (!options.containsKey(CONTAINER) && StringUtils.isNotBlank(container)) {
                 options.put(CONTAINER, container);
             }
+            if (!options.containsKey(TAIL_LINES) && tailLines >= 0) {
+                options.put(TAIL_LINES, String.valueOf(tailLines));
+            }
+            if (!options.containsKey(SINCE_SECONDS) && sinceSeconds > 0) {
+                options.put(SINCE_SECONDS, String.valueOf(sinceSeconds));
+            }
+            if (!options.containsKey(LIMIT_BYTES) && limitBytes > 0) {
+                options.put(LIMIT_BYTES, String.valueOf(limitBytes));
+            }
+            if (!options.containsKey(TIMESTAMPS) && timestamps) {
+                options.put(TIMESTAMPS, "true");
+            }
             return Collections.unmodifiableMap(options);
         }
     }
@@ -51,6 +51,10 @@ public interface IRSyncable extends IBinaryCapability {
             this.expressions = expressions;
         }
 
+        public String[] getExpressions() {
+            return expressions;
+        }
+
         @Override
         public void append(StringBuilder arguments) {
             if (ArrayUtils.isEmpty(expressions)) {
@@ -150,7 +154,7 @@ public interface IRSyncable extends IBinaryCapability {
             this.location = path;
         }
 
-        protected String getLocation() {
+        public String getLocation() {
             return location;
         }
 
@@ -28,6 +28,9 @@ public interface IHttpConstants {
     public static final int STATUS_UNAUTHORIZED = 401;
     public static final int STATUS_FORBIDDEN = 403;
     public static final int STATUS_NOT_FOUND = 404;
+    public static final int STATUS_GONE = 410;
+    public static final int STATUS_TOO_MANY_REQUESTS = 429;
+    public static final int STATUS_SERVICE_UNAVAILABLE = 503;
 
     public static final int STATUS_NORMAL_STOP = 1000;
 
@@ -38,6 +41,7 @@ public interface IHttpConstants {
     public static final String PROPERTY_LOCATION = "Location";
     public static final String PROPERTY_USER_AGENT = "User-Agent";
     public static final String PROPERTY_WWW_AUTHENTICATE = "WWW-Authenticate";
+    public static final String PROPERTY_RETRY_AFTER = "Retry-After";
 
     public static final String PROPERTY_AUTHKEY = "broker_auth_key";
     public static final String PROPERTY_AUTHIV = "broker_auth_iv";
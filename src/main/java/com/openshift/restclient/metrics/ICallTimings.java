@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.restclient.metrics;
+
+/**
+ * The time that a call spent in each of its phases. Durations are in
+ * nanoseconds and are -1 if the phase did not happen, ex. there is no dns
+ * lookup, connect and tls handshake if a pooled connection was reused. If a
+ * call is retried the connection phases add up while the request phases are
+ * those of the last attempt.
+ */
+public interface ICallTimings {
+
+    String getMethod();
+
+    String getUrl();
+
+    long getDnsNanos();
+
+    /**
+     * Returns the time it took to establish the tcp connection, without the
+     * tls handshake.
+     */
+    long getConnectNanos();
+
+    long getTlsHandshakeNanos();
+
+    /**
+     * Returns {@code true} if the call used a pooled connection instead of
+     * opening a new one.
+     */
+    boolean isConnectionReused();
+
+    /**
+     * Returns the time from sending the request headers until the response
+     * headers started to arrive.
+     */
+    long getTimeToFirstByteNanos();
+
+    /**
+     * Returns the time it took to read the response body. Responses that are
+     * decoded while they are read include the decoding.
+     */
+    long getResponseBodyNanos();
+
+    long getResponseBytes();
+
+    long getTotalNanos();
+
+    /**
+     * Returns the exception the call failed with or {@code null} if it
+     * succeeded.
+     */
+    Throwable getFailure();
+}
@@ -0,0 +1,24 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.restclient.metrics;
+
+/**
+ * Is notified of the phase timings of each call a client makes. It is called
+ * on the thread that completed the call and should thus return quickly.
+ *
+ * @see com.openshift.restclient.ClientBuilder#withCallTimingsListener(ICallTimingsListener)
+ */
+@FunctionalInterface
+public interface ICallTimingsListener {
+
+    void callEnded(ICallTimings timings);
+}
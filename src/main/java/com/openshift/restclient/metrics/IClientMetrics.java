@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.restclient.metrics;
+
+/**
+ * Receives the measurements of the requests that a client sends and of the
+ * decoding of the responses. Implementations are called concurrently from the
+ * threads that execute the requests and must thus be thread safe and should
+ * not block.
+ *
+ * @see com.openshift.restclient.ClientBuilder#withMetrics(IClientMetrics)
+ * @see InMemoryClientMetrics
+ */
+public interface IClientMetrics {
+
+    /**
+     * A request was answered or failed.
+     *
+     * @param verb
+     *            the http method of the request
+     * @param kind
+     *            the resource kind of the request or {@code null} if the
+     *            request is not about a resource (ex. api discovery)
+     * @param namespaced
+     *            whether the request is scoped to a namespace
+     * @param status
+     *            the response code or 0 if no response was received
+     * @param durationNanos
+     *            the time until the response headers were received, in
+     *            nanoseconds
+     * @param responseBytes
+     *            the number of response body bytes that were read
+     */
+    void recordRequest(String verb, String kind, boolean namespaced, int status, long durationNanos, long responseBytes);
+
+    /**
+     * Json was decoded to a resource. This is recorded for the responses, the
+     * items of lists and the resources of watch events and templates. Parsing
+     * the json is not included since it is part of reading a streamed response
+     * body.
+     *
+     * @param kind
+     *            the kind of the decoded resource (ex. PodList)
+     * @param durationNanos
+     *            the time it took to create the resource from the parsed json,
+     *            in nanoseconds
+     */
+    void recordDecode(String kind, long durationNanos);
+}
@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.restclient.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the metrics of a client in memory. The requests are counted per verb,
+ * kind, scope and status, the decoding per kind. Durations are kept in a
+ * histogram with fixed buckets. Recording does not lock, it only takes a lock
+ * the first time a combination of verb, kind, scope and status is seen. Use
+ * {@link #getSnapshot()} to export the current values.
+ */
+public class InMemoryClientMetrics implements IClientMetrics {
+
+    /**
+     * The upper bounds of the histogram buckets, in milliseconds. There is an
+     * additional bucket for durations that exceed the last bound.
+     */
+    public static final long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+    private final Map<RequestKey, Recorder> requests = new ConcurrentHashMap<>();
+    private final Map<String, Recorder> decodes = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordRequest(String verb, String kind, boolean namespaced, int status, long durationNanos,
+            long responseBytes) {
+        RequestKey key = new RequestKey(verb, kind, namespaced, status);
+        Recorder recorder = requests.get(key);
+        if (recorder == null) {
+            recorder = requests.computeIfAbsent(key, k -> new Recorder());
+        }
+        recorder.record(durationNanos, responseBytes);
+    }
+
+    @Override
+    public void recordDecode(String kind, long durationNanos) {
+        String key = Objects.toString(kind, "");
+        Recorder recorder = decodes.get(key);
+        if (recorder == null) {
+            recorder = decodes.computeIfAbsent(key, k -> new Recorder());
+        }
+        recorder.record(durationNanos, 0);
+    }
+
+    /**
+     * Returns the current values. Values that are recorded while the snapshot
+     * is taken may or may not be included.
+     */
+    public Snapshot getSnapshot() {
+        List<RequestStatistics> requestStatistics = new ArrayList<>(requests.size());
+        requests.forEach((key, recorder) -> requestStatistics.add(new RequestStatistics(key, recorder)));
+        requestStatistics.sort(Comparator.comparingLong(Statistics::getTotalNanos).reversed());
+        List<Statistics> decodeStatistics = new ArrayList<>(decodes.size());
+        decodes.forEach((kind, recorder) -> decodeStatistics.add(new Statistics(kind, recorder)));
+        decodeStatistics.sort(Comparator.comparingLong(Statistics::getTotalNanos).reversed());
+        return new Snapshot(requestStatistics, decodeStatistics);
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void reset() {
+        requests.clear();
+        decodes.clear();
+    }
+
+    static int getBucket(long durationNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            if (millis < BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS.length;
+    }
+
+    private static class RequestKey {
+
+        private final String verb;
+        private final String kind;
+        private final boolean namespaced;
+        private final int status;
+
+        private RequestKey(String verb, String kind, boolean namespaced, int status) {
+            this.verb = verb;
+            this.kind = kind;
+            this.namespaced = namespaced;
+            this.status = status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(verb, kind, namespaced, status);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof RequestKey)) {
+                return false;
+            }
+            RequestKey other = (RequestKey) obj;
+            return namespaced == other.namespaced
+                    && status == other.status
+                    && Objects.equals(verb, other.verb)
+                    && Objects.equals(kind, other.kind);
+        }
+    }
+
+    private static class Recorder {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+
+        private Recorder() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long durationNanos, long responseBytes) {
+            count.increment();
+            totalNanos.add(durationNanos);
+            if (responseBytes > 0) {
+                bytes.add(responseBytes);
+            }
+            buckets[getBucket(durationNanos)].increment();
+        }
+    }
+
+    /**
+     * The values of all requests and decodings at the time the snapshot was
+     * taken, the most expensive first.
+     */
+    public static class Snapshot {
+
+        private final List<RequestStatistics> requests;
+        private final List<Statistics> decodes;
+
+        private Snapshot(List<RequestStatistics> requests, List<Statistics> decodes) {
+            this.requests = Collections.unmodifiableList(requests);
+            this.decodes = Collections.unmodifiableList(decodes);
+        }
+
+        public List<RequestStatistics> getRequests() {
+            return requests;
+        }
+
+        /**
+         * Returns the decoding values, their name is the decoded kind.
+         */
+        public List<Statistics> getDecodes() {
+            return decodes;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            requests.forEach(statistics -> builder.append(statistics).append('\n'));
+            decodes.forEach(statistics -> builder.append("decode ").append(statistics).append('\n'));
+            return builder.toString();
+        }
+    }
+
+    /**
+     * The number, duration and size of what was recorded under a name.
+     */
+    public static class Statistics {
+
+        private final String name;
+        private final long count;
+        private final long totalNanos;
+        private final long bytes;
+        private final long[] buckets;
+
+        private Statistics(String name, Recorder recorder) {
+            this.name = name;
+            this.count = recorder.count.sum();
+            this.totalNanos = recorder.totalNanos.sum();
+            this.bytes = recorder.bytes.sum();
+            this.buckets = Arrays.stream(recorder.buckets).mapToLong(LongAdder::sum).toArray();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Returns the number of durations per bucket of
+         * {@link InMemoryClientMetrics#BUCKET_BOUNDS}, plus the number of
+         * durations that exceeded the last bound.
+         */
+        public long[] getBuckets() {
+            return buckets.clone();
+        }
+
+        /**
+         * Returns the upper bound of the bucket that contains the given
+         * percentile of the durations, in milliseconds, or
+         * {@link Long#MAX_VALUE} if it is beyond the last bound. Returns 0 if
+         * nothing was recorded.
+         *
+         * @param percentile
+         *            the percentile, between 0 and 100
+         */
+        public long getPercentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return BUCKET_BOUNDS[i];
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s count=%d total=%dms p50<=%dms p99<=%dms bytes=%d", name, count,
+                    TimeUnit.NANOSECONDS.toMillis(totalNanos), getPercentileMillis(50), getPercentileMillis(99), bytes);
+        }
+    }
+
+    /**
+     * The values of the requests of a verb, kind, scope and status.
+     */
+    public static class RequestStatistics extends Statistics {
+
+        private final String verb;
+        private final String kind;
+        private final boolean namespaced;
+        private final int status;
+
+        private RequestStatistics(RequestKey key, Recorder recorder) {
+            super(String.format("%s %s %s %d", key.verb, Objects.toString(key.kind, "-"),
+                    key.namespaced ? "namespaced" : "cluster", key.status), recorder);
+            this.verb = key.verb;
+            this.kind = key.kind;
+            this.namespaced = key.namespaced;
+            this.status = key.status;
+        }
+
+        public String getVerb() {
+            return verb;
+        }
+
+        /**
+         * Returns the resource kind or {@code null} if the requests were not
+         * about a resource.
+         */
+        public String getKind() {
+            return kind;
+        }
+
+        public boolean isNamespaced() {
+            return namespaced;
+        }
+
+        /**
+         * Returns the response code or 0 if no response was received.
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        public boolean isError() {
+            return status == 0 || status >= 400;
+        }
+    }
+}
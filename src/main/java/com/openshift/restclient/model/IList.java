@@ -17,7 +17,8 @@ import java.util.Collection;
  */
 public interface IList extends IResource {
     /**
-     * Retrieve the list of resources for this config
+     * Retrieve the list of resources for this config. The resources are backed
+     * by this list, changing them changes the list.
      * 
      */
     Collection<IResource> getItems();
@@ -27,4 +28,12 @@ public interface IList extends IResource {
      * 
      */
     void addAll(Collection<IResource> items);
+
+    /**
+     * The token to retrieve the next page of a paginated list with. Blank if this
+     * is the last page or the list was not paginated.
+     */
+    default String getContinue() {
+        return null;
+    }
 }
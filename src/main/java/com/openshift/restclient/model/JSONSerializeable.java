@@ -11,6 +11,10 @@
 
 package com.openshift.restclient.model;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Something that can be serialized to JSON
  *
@@ -32,4 +36,15 @@ public interface JSONSerializeable {
     default String toJson(boolean compact) {
         return toJson();
     }
+
+    /**
+     * Writes the compact JSON representation to the given stream. The stream is
+     * not closed.
+     * 
+     * @param out
+     *            the stream to write to
+     */
+    default void writeJson(OutputStream out) throws IOException {
+        out.write(toJson(true).getBytes(StandardCharsets.UTF_8));
+    }
 }
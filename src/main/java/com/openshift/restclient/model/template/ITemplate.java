@@ -21,7 +21,8 @@ import com.openshift.restclient.model.IResource;
 public interface ITemplate extends IResource {
 
     /**
-     * Retrieves the list of resources this template creates
+     * Retrieves the list of resources this template creates. The resources are
+     * copies, changing them doesn't change the template.
      * 
      */
     Collection<IResource> getObjects();
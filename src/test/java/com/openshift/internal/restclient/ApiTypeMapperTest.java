@@ -11,26 +11,44 @@
 
 package com.openshift.internal.restclient;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.openshift.restclient.IApiTypeMapper;
 import com.openshift.restclient.IApiTypeMapper.IVersionedApiResource;
+import com.openshift.restclient.IApiTypeMapper.IVersionedType;
+import com.openshift.restclient.OpenShiftException;
 import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.model.IBuildConfig;
 import com.openshift.restclient.model.IResource;
 import com.openshift.restclient.model.IService;
 import com.openshift.restclient.model.MocksFactory;
 
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ApiTypeMapperTest extends TypeMapperFixture {
 
+    @Rule
+    public TemporaryFolder cacheFolder = new TemporaryFolder();
+
     private MocksFactory factory = new MocksFactory();
 
     @Test
@@ -85,4 +103,82 @@ public class ApiTypeMapperTest extends TypeMapperFixture {
         assertTrue(endpoint.isSupported("status"));
     }
 
+    @Test
+    public void testApiGroupResourceIsFoundByVersionOnly() {
+        IVersionedApiResource endpoint = mapper.getEndpointFor("v1beta1", "DaemonSet");
+        assertEquals("extensions", endpoint.getApiGroupName());
+        assertEquals("daemonsets", endpoint.getName());
+    }
+
+    @Test
+    public void testApiGroupResourceIsNotFoundInOtherGroup() {
+        assertFalse(mapper.isSupported("apps/v1beta1", "DaemonSet"));
+        assertFalse(mapper.isSupported("v2", ResourceKind.SERVICE));
+    }
+
+    @Test
+    public void testTypeIsFoundByGroupAndVersion() {
+        IVersionedType type = mapper.getType("extensions/v1beta1", "DaemonSet");
+        assertEquals("extensions", type.getApiGroupName());
+        assertEquals("v1beta1", type.getVersion());
+
+        type = mapper.getType(null, ResourceKind.SERVICE);
+        assertEquals("v1", type.getVersion());
+    }
+
+
+    @Test
+    public void testDiscoveryIsReadFromCache() {
+        DiscoveryCache cache = new DiscoveryCache(cacheFolder.getRoot(), 1, TimeUnit.HOURS);
+        IApiTypeMapper discovering = new ApiTypeMapper(base, getHttpClient(), null, cache);
+        assertTrue(discovering.isSupported(ResourceKind.BUILD_CONFIG));
+
+        IApiTypeMapper cached = new ApiTypeMapper(base, getHttpClient(), null, cache);
+        assertTrue(cached.isSupported(ResourceKind.BUILD_CONFIG));
+        assertEquals("extensions", cached.getEndpointFor("extensions/v1beta1", "DaemonSet").getApiGroupName());
+        verify(getHttpClient(), times(1)).newCall(requestTo(base + "/apis"));
+        verify(getHttpClient(), times(1)).newCall(requestTo(base + "/api/v1"));
+    }
+
+    @Test
+    public void testDiscoveryRequestTimesOutWithTimeoutOfClient() throws Exception {
+        // a dispatcher that never runs the requests
+        OkHttpClient client = new OkHttpClient.Builder()
+                .dispatcher(new Dispatcher(mock(ExecutorService.class)))
+                .callTimeout(100, TimeUnit.MILLISECONDS)
+                .build();
+        IApiTypeMapper mapper = new ApiTypeMapper(base, client, null);
+
+        Throwable thrown = catchThrowable(() -> mapper.isSupported(ResourceKind.BUILD_CONFIG));
+
+        assertThat(thrown).isInstanceOf(OpenShiftException.class).hasMessageContaining("within 100 ms");
+    }
+
+    @Test
+    public void testConcurrentDiscoveryRequestsShareTheTimeout() throws Exception {
+        // a dispatcher that never runs the requests
+        OkHttpClient client = new OkHttpClient.Builder()
+                .dispatcher(new Dispatcher(mock(ExecutorService.class)))
+                .callTimeout(300, TimeUnit.MILLISECONDS)
+                .build();
+        IApiTypeMapper mapper = new ApiTypeMapper(base, client, null);
+
+        long start = System.currentTimeMillis();
+        Throwable thrown = catchThrowable(() -> mapper.isSupported(ResourceKind.BUILD_CONFIG));
+
+        assertThat(thrown).isInstanceOf(OpenShiftException.class);
+        // the 3 root documents are awaited together
+        assertThat(System.currentTimeMillis() - start).isLessThan(600);
+    }
+
+    @Test
+    public void testIncompleteDiscoveryIsNotCached() throws Exception {
+        getHttpClient().whenRequestTo(base + "/apis/extensions/v1beta1").thenThrow(new RuntimeException());
+        DiscoveryCache cache = new DiscoveryCache(cacheFolder.getRoot(), 1, TimeUnit.HOURS);
+        IApiTypeMapper mapper = new ApiTypeMapper(base, getHttpClient(), null, cache);
+
+        assertTrue(mapper.isSupported(ResourceKind.BUILD_CONFIG));
+        assertFalse(mapper.isSupported("extensions/v1beta1", "DaemonSet"));
+        assertEquals(0, cacheFolder.getRoot().list().length);
+    }
 }
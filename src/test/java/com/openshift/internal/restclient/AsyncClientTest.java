@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.openshift.restclient.IAsyncClient;
+import com.openshift.restclient.NotFoundException;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IPod;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncClientTest extends TypeMapperFixture {
+
+    private static final String PODS_URL = base + "/api/v1/namespaces/aNamespace/pods";
+
+    private IAsyncClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        this.client = getIClient().async();
+    }
+
+    @Test
+    public void testListIsRequestedAsynchronously() throws Exception {
+        getHttpClient().whenRequestTo(PODS_URL + "?labelSelector=name%3Dfrontend")
+                .thenReturn(responseOf(podList("frontend")));
+
+        CompletableFuture<List<IPod>> pods = client.list(ResourceKind.POD, "aNamespace", "name=frontend");
+
+        assertThat(pods.get()).extracting(IPod::getName).containsExactly("frontend");
+    }
+
+    @Test
+    public void testGetIsRequestedAsynchronously() throws Exception {
+        getHttpClient().whenRequestTo(PODS_URL + "/frontend")
+                .thenReturn(responseOf(pod("frontend").toJSONString(true)));
+
+        IPod pod = client.<IPod>get(ResourceKind.POD, "frontend", "aNamespace").get();
+
+        assertThat(pod.getName()).isEqualTo("frontend");
+    }
+
+    @Test
+    public void testInterceptorExceptionCompletesFuture() throws Exception {
+        getHttpClient().whenRequestTo(PODS_URL + "/frontend")
+                .thenThrow(new NotFoundException("pod frontend not found"));
+
+        Throwable e = catchThrowable(() -> client.get(ResourceKind.POD, "frontend", "aNamespace").get());
+
+        assertThat(e).isInstanceOf(ExecutionException.class);
+        assertThat(e.getCause()).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    public void testIOExceptionIsWrapped() throws Exception {
+        getHttpClient().whenRequestTo(PODS_URL + "/frontend").thenThrow(new IOException("connection reset"));
+
+        Throwable e = catchThrowable(() -> client.get(ResourceKind.POD, "frontend", "aNamespace").get());
+
+        assertThat(e.getCause()).isInstanceOf(OpenShiftException.class);
+        assertThat(e.getCause().getCause()).hasMessage("connection reset");
+    }
+
+    @Test
+    public void testUnknownKindFailsFuture() {
+        CompletableFuture<?> future = client.get("UnknownKind", "frontend", "aNamespace");
+
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    private static ModelNode pod(String name) {
+        ModelNode pod = new ModelNode();
+        pod.get("apiVersion").set("v1");
+        pod.get("kind").set(ResourceKind.POD);
+        pod.get("metadata", "name").set(name);
+        pod.get("metadata", "namespace").set("aNamespace");
+        return pod;
+    }
+
+    private static String podList(String... names) {
+        ModelNode list = new ModelNode();
+        list.get("apiVersion").set("v1");
+        list.get("kind").set("PodList");
+        ModelNode items = list.get("items").setEmptyList();
+        for (String name : names) {
+            items.add(pod(name));
+        }
+        return list.toJSONString(true);
+    }
+}
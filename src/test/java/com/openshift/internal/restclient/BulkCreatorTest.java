@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.openshift.restclient.IAsyncClient;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IResource;
+import com.openshift.restclient.model.IStatus;
+
+public class BulkCreatorTest {
+
+    private IAsyncClient client = mock(IAsyncClient.class);
+
+    @Test
+    public void testResultsAreInTheOrderOfTheResources() {
+        IResource service = resource(ResourceKind.SERVICE);
+        IResource secret = resource(ResourceKind.SECRET);
+        IStatus status = mock(IStatus.class);
+        when(client.create(any(IResource.class), anyString())).thenAnswer(invocation -> {
+            IResource resource = invocation.getArgument(0);
+            if (resource == secret) {
+                return failed(new OpenShiftException((Throwable) null, status, "exists"));
+            }
+            return CompletableFuture.completedFuture(resource);
+        });
+
+        Collection<IResource> results = new BulkCreator(client, 2).create(Arrays.asList(service, secret), "aNamespace");
+
+        assertThat(results).containsExactly(service, status);
+    }
+
+    @Test
+    public void testNamespacesAndSecretsAreCreatedBeforeWorkloads() {
+        IResource deployment = resource(ResourceKind.DEPLOYMENT_CONFIG);
+        IResource secret = resource(ResourceKind.SECRET);
+        IResource namespace = resource(ResourceKind.NAMESPACE);
+        IResource account = resource(ResourceKind.SERVICE_ACCOUNT);
+        List<IResource> created = Collections.synchronizedList(new ArrayList<>());
+        when(client.create(any(IResource.class), anyString())).thenAnswer(invocation -> {
+            IResource resource = invocation.getArgument(0);
+            created.add(resource);
+            return CompletableFuture.completedFuture(resource);
+        });
+
+        new BulkCreator(client, 1).create(Arrays.asList(deployment, secret, namespace, account), "aNamespace");
+
+        assertThat(created).containsExactly(namespace, secret, account, deployment);
+    }
+
+    @Test
+    public void testConcurrentRequestsAreLimitedToParallelism() {
+        List<IResource> resources = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            resources.add(resource(ResourceKind.SERVICE));
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(client.create(any(IResource.class), anyString())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            IResource resource = invocation.getArgument(0);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(5);
+                inFlight.decrementAndGet();
+                return resource;
+            });
+        });
+
+        Collection<IResource> results = new BulkCreator(client, 3).create(resources, "aNamespace");
+
+        assertThat(results).containsExactlyElementsOf(resources);
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    public void testFailureWithoutStatusIsThrownAndStopsLaterPhases() {
+        IResource secret = resource(ResourceKind.SECRET);
+        IResource deployment = resource(ResourceKind.DEPLOYMENT_CONFIG);
+        OpenShiftException failure = new OpenShiftException("connection refused");
+        when(client.create(secret, "aNamespace")).thenReturn(failed(failure));
+
+        Throwable thrown = catchThrowable(
+            () -> new BulkCreator(client, 2).create(Arrays.asList(deployment, secret), "aNamespace"));
+
+        assertThat(thrown).isSameAs(failure);
+        verify(client, never()).create(deployment, "aNamespace");
+    }
+
+    private static IResource resource(String kind) {
+        IResource resource = mock(IResource.class);
+        when(resource.getKind()).thenReturn(kind);
+        return resource;
+    }
+
+    private static CompletableFuture<IResource> failed(Throwable e) {
+        CompletableFuture<IResource> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class ClusterFactsTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ClusterFacts facts = new ClusterFacts(clock::get);
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Test
+    public void testFactIsLookedUpAgainOnceItExpired() {
+        facts.setTimeToLive(10, TimeUnit.SECONDS);
+
+        assertThat(facts.get("version", this::lookup)).isEqualTo("v1");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertThat(facts.get("version", this::lookup)).isEqualTo("v1");
+        assertThat(facts.contains("version")).isTrue();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(facts.contains("version")).isFalse();
+        assertThat(facts.get("version", this::lookup)).isEqualTo("v2");
+    }
+
+    @Test
+    public void testFactIsKeptForeverWithoutTimeToLive() {
+        facts.get("version", this::lookup);
+        clock.addAndGet(TimeUnit.DAYS.toNanos(365));
+
+        assertThat(facts.get("version", this::lookup)).isEqualTo("v1");
+        assertThat(lookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailedLookupIsNotKept() {
+        IllegalStateException failure = new IllegalStateException("unreachable");
+
+        Throwable thrown = catchThrowable(() -> facts.get("version", () -> {
+            throw failure;
+        }));
+
+        assertThat(thrown).isSameAs(failure);
+        assertThat(facts.contains("version")).isFalse();
+        assertThat(facts.get("version", this::lookup)).isEqualTo("v1");
+    }
+
+    @Test
+    public void testConcurrentCallersWaitForASingleLookup() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch lookupMayEnd = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> facts.get("version", () -> {
+            lookupStarted.countDown();
+            await(lookupMayEnd);
+            return lookup();
+        }));
+        lookupStarted.await();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> facts.get("version", this::lookup));
+
+        lookupMayEnd.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        assertThat(lookups.get()).isEqualTo(1);
+    }
+
+    private String lookup() {
+        return "v" + lookups.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -12,9 +12,15 @@
 package com.openshift.internal.restclient;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.net.URL;
 
 import org.junit.Test;
 
+import com.openshift.internal.restclient.authorization.AuthorizationContext;
+import com.openshift.restclient.IClient;
 import com.openshift.restclient.utils.Samples;
 
 public class ClusterVersionsTest extends TypeMapperFixture {
@@ -58,4 +64,39 @@ public class ClusterVersionsTest extends TypeMapperFixture {
         assertThat(getIClient().getOpenshiftMasterVersion()).isEqualTo(null);
     }
 
+    @Test
+    public void testVersionIsRequestedOnceAndSharedWithClones() throws Exception {
+        getHttpClient().whenRequestTo(base + "/version",
+            responseOf(Samples.KUBERNETES_VERSION.getContentAsString()));
+        DefaultClient client = givenClient();
+
+        client.getKubernetesMasterVersion();
+        IClient clone = client.clone();
+
+        assertThat(clone.getKubernetesMasterVersion()).isEqualTo("v1.6.1+5115d708d7");
+        verify(getHttpClient(), times(1)).newCall(requestTo(base + "/version"));
+    }
+
+    @Test
+    public void testWarmUpLooksUpClusterFacts() throws Exception {
+        getHttpClient().whenRequestTo(base + "/version",
+            responseOf(Samples.KUBERNETES_VERSION.getContentAsString()));
+        getHttpClient().whenRequestTo(base + "/version/openshift",
+            responseOf(Samples.OPENSHIFT_VERSION.getContentAsString()));
+        DefaultClient client = givenClient();
+
+        client.warmUpClusterFacts(Runnable::run).join();
+
+        ClusterFacts facts = client.adapt(ClusterFacts.class);
+        assertThat(facts.contains(base + "/version")).isTrue();
+        assertThat(facts.contains(base + "/version/openshift")).isTrue();
+        assertThat(facts.contains(ClusterFacts.OPENSHIFT_MAJOR_VERSION)).isTrue();
+        assertThat(client.getOpenshiftMasterVersion()).isEqualTo("v3.6.0-alpha.2+3c221d5");
+        verify(getHttpClient(), times(1)).newCall(requestTo(base + "/version/openshift"));
+    }
+
+    private DefaultClient givenClient() throws Exception {
+        return new DefaultClient(new URL(base), getHttpClient(), null, getApiTypeMapper(),
+                new AuthorizationContext(null, null, null));
+    }
 }
@@ -12,8 +12,12 @@
 package com.openshift.internal.restclient;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -21,6 +25,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.util.AbstractMap;
 import java.util.Arrays;
@@ -37,12 +43,16 @@ import org.mockito.junit.MockitoJUnitRunner;
 import com.openshift.internal.restclient.DefaultClient.HttpMethod;
 import com.openshift.internal.restclient.authorization.AuthorizationContext;
 import com.openshift.internal.restclient.model.Pod;
+import com.openshift.internal.restclient.okhttp.MetricsInterceptor;
 import com.openshift.internal.restclient.okhttp.OpenShiftRequestBuilder;
 import com.openshift.restclient.IResourceFactory;
 import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.api.ITypeFactory;
+import com.openshift.restclient.metrics.IClientMetrics;
+import com.openshift.restclient.model.IPod;
 import com.openshift.restclient.model.JSONSerializeable;
 
+import okhttp3.OkHttpClient;
 import okhttp3.Request.Builder;
 import okhttp3.RequestBody;
 import okio.Buffer;
@@ -128,9 +138,32 @@ public class DefaultClientTest extends TypeMapperFixture {
     private JSONSerializeable givenJsonPayload(String string) {
         JSONSerializeable json = mock(JSONSerializeable.class);
         when(json.toJson(anyBoolean())).thenReturn(string);
+        try {
+            doCallRealMethod().when(json).writeJson(any(OutputStream.class));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
         return json;
     }
 
+    @Test
+    public void testGetRecordsDecodeToClientMetrics() throws Exception {
+        IClientMetrics metrics = mock(IClientMetrics.class);
+        OkHttpClient okClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> responseOf(podFrontEnd.toJson()).newBuilder()
+                        .request(chain.request())
+                        .build())
+                .addNetworkInterceptor(new MetricsInterceptor(metrics))
+                .build();
+        DefaultClient client = new DefaultClient(baseUrl, okClient, new ResourceFactory(null), mapper,
+                new AuthorizationContext("token", null, null));
+
+        IPod pod = client.get(ResourceKind.POD, "frontend", "aNamespace");
+
+        assertThat(pod.getName()).isEqualTo("frontend");
+        verify(metrics).recordDecode(eq(ResourceKind.POD), anyLong());
+    }
+
     @Test
     public void clientShouldEqualClientWithSameUrl() throws Exception {
         assertThat(givenClient(baseUrl, null, null)).isEqualTo(givenClient(baseUrl, null, null));
@@ -276,7 +309,7 @@ public class DefaultClientTest extends TypeMapperFixture {
     public void should_transform_input_to_empty_string_when_payload_is_null() throws IOException {
         // given
         DefaultClient client = spy(this.client);
-        RequestBody payload = client.getPayload(null, HttpMethod.DELETE.name());
+        RequestBody payload = client.getPayload((InputStream) null, HttpMethod.DELETE.name());
 
         BufferedSink bufferedSink = mock(BufferedSink.class);
         ArgumentCaptor<Source> bodyCaptor = ArgumentCaptor.forClass(Source.class);
@@ -291,6 +324,25 @@ public class DefaultClientTest extends TypeMapperFixture {
         assertThat(actualPayload).isEqualTo("");
     }
 
+    @Test
+    public void should_send_payload_as_it_was_when_request_was_built() throws IOException {
+        // given
+        RequestBody payload = client.getPayload(podFrontEnd, HttpMethod.PUT.name());
+
+        // when
+        podFrontEnd.addLabel("changed", "later");
+        Buffer first = new Buffer();
+        payload.writeTo(first);
+        Buffer retried = new Buffer();
+        payload.writeTo(retried);
+
+        // then
+        assertThat(first.readUtf8())
+                .contains("\"name\":\"frontend\"")
+                .doesNotContain("changed")
+                .isEqualTo(retried.readUtf8());
+    }
+
     private String getPayload(Builder builder, ArgumentCaptor<RequestBody> builderCaptor) throws IOException {
         verify(builder).method(anyString(), builderCaptor.capture());
         RequestBody requestBody = builderCaptor.getValue();
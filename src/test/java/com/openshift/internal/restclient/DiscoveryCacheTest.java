@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiscoveryCacheTest {
+
+    private static final String SERVER = "https://localhost:8443";
+    private static final String VERSION = "v1.18.3";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Map<String, ModelNode> documents;
+
+    @Before
+    public void setUp() {
+        this.documents = new LinkedHashMap<>();
+        documents.put("api", ModelNode.fromJSONString("{ \"versions\": [\"v1\"]}"));
+        documents.put("api/v1", ModelNode.fromJSONString("{ \"resources\": []}"));
+    }
+
+    @Test
+    public void testDocumentsAreCachedByServerAndVersion() {
+        DiscoveryCache cache = new DiscoveryCache(folder.getRoot(), 1, TimeUnit.HOURS);
+        cache.put(SERVER, VERSION, documents);
+
+        assertThat(cache.get(SERVER, VERSION)).containsExactlyEntriesOf(documents);
+        assertThat(cache.get(SERVER, "v1.19.0")).isNull();
+        assertThat(cache.get("https://127.0.0.1:8443", VERSION)).isNull();
+    }
+
+    @Test
+    public void testExpiredDocumentsAreNotReturned() {
+        DiscoveryCache cache = new DiscoveryCache(folder.getRoot(), -1, TimeUnit.MILLISECONDS);
+        cache.put(SERVER, VERSION, documents);
+
+        assertThat(cache.get(SERVER, VERSION)).isNull();
+    }
+
+    @Test
+    public void testCorruptCacheIsIgnored() throws Exception {
+        DiscoveryCache cache = new DiscoveryCache(folder.getRoot(), 1, TimeUnit.HOURS);
+        File file = cache.fileFor(SERVER, VERSION);
+        Files.write(file.toPath(), "{ \"server\": ".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(cache.get(SERVER, VERSION)).isNull();
+    }
+}
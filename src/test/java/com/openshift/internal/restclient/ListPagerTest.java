@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.http.IHttpConstants;
+import com.openshift.restclient.model.IList;
+import com.openshift.restclient.model.IResource;
+import com.openshift.restclient.model.IStatus;
+
+public class ListPagerTest {
+
+    private static final String NAMESPACE = "myproject";
+
+    private IClient client;
+    private IResource pod1 = mock(IResource.class);
+    private IResource pod2 = mock(IResource.class);
+    private IResource pod3 = mock(IResource.class);
+
+    @Before
+    public void setUp() {
+        this.client = mock(IClient.class);
+        IList first = page("token-1", pod1, pod2);
+        IList second = page("", pod3);
+        when(client.execute(eq("GET"), eq(ResourceKind.POD), eq(NAMESPACE), isNull(), isNull(), isNull(), anyMap()))
+                .thenReturn(first, second);
+    }
+
+    @Test
+    public void testNextPageIsRequestedOnceCurrentPageIsConsumed() {
+        ListPager<IResource> pager = new ListPager<>(client, ResourceKind.POD, NAMESPACE, "app=frontend", 2);
+
+        assertThat(pager.next()).isSameAs(pod1);
+        assertThat(pager.next()).isSameAs(pod2);
+        verifyRequests(1);
+
+        assertThat(pager.next()).isSameAs(pod3);
+        assertThat(pager.hasNext()).isFalse();
+        List<Map<String, String>> params = verifyRequests(2);
+
+        assertThat(params.get(0))
+                .containsEntry(ListPager.PARAMETER_LIMIT, "2")
+                .containsEntry(ListPager.PARAMETER_LABEL_SELECTOR, "app=frontend")
+                .doesNotContainKey(ListPager.PARAMETER_CONTINUE);
+        assertThat(params.get(1))
+                .containsEntry(ListPager.PARAMETER_LIMIT, "2")
+                .containsEntry(ListPager.PARAMETER_CONTINUE, "token-1");
+    }
+
+    @Test
+    public void testEmptyPagesAreSkipped() {
+        IList empty = page("token-1");
+        IList last = page(null, pod1);
+        when(client.execute(eq("GET"), eq(ResourceKind.POD), eq(NAMESPACE), isNull(), isNull(), isNull(), anyMap()))
+                .thenReturn(empty, last);
+
+        List<IResource> resources = new ArrayList<>();
+        new ListPager<>(client, ResourceKind.POD, NAMESPACE, null, 10).forEachRemaining(resources::add);
+
+        assertThat(resources).containsExactly(pod1);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextThrowsAfterLastPage() {
+        ListPager<IResource> pager = new ListPager<>(client, ResourceKind.POD, NAMESPACE, null, 2);
+        pager.forEachRemaining(r -> { });
+        pager.next();
+    }
+
+    @Test
+    public void testExpiredContinueTokenFailsWithGone() {
+        IStatus gone = mock(IStatus.class);
+        when(gone.getCode()).thenReturn(IHttpConstants.STATUS_GONE);
+        IList first = page("token-1", pod1, pod2);
+        when(client.execute(eq("GET"), eq(ResourceKind.POD), eq(NAMESPACE), isNull(), isNull(), isNull(), anyMap()))
+                .thenReturn(first)
+                .thenThrow(new OpenShiftException(new RuntimeException(), gone, "Gone"));
+        ListPager<IResource> pager = new ListPager<>(client, ResourceKind.POD, NAMESPACE, null, 2);
+        pager.next();
+        pager.next();
+
+        assertThatThrownBy(pager::hasNext)
+                .isInstanceOf(OpenShiftException.class)
+                .hasMessageContaining("expired after 2 resources")
+                .satisfies(e -> assertThat(((OpenShiftException) e).getStatus()).isSameAs(gone));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageSizeMustBePositive() {
+        new ListPager<>(client, ResourceKind.POD, NAMESPACE, null, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, String>> verifyRequests(int count) {
+        ArgumentCaptor<Map<String, String>> params = ArgumentCaptor.forClass(Map.class);
+        verify(client, times(count)).execute(any(), any(), any(), any(), any(), any(), params.capture());
+        return params.getAllValues();
+    }
+
+    private static IList page(String continueToken, IResource... items) {
+        IList list = mock(IList.class);
+        Collection<IResource> resources = items.length == 0 ? Collections.emptyList() : Arrays.asList(items);
+        when(list.getItems()).thenReturn(resources);
+        when(list.getContinue()).thenReturn(continueToken);
+        return list;
+    }
+}
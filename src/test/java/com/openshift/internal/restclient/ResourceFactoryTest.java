@@ -12,28 +12,43 @@
 package com.openshift.internal.restclient;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.dmr.ModelNode;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.openshift.restclient.IApiTypeMapper;
 import com.openshift.restclient.IApiTypeMapper.IVersionedType;
 import com.openshift.restclient.IClient;
+import com.openshift.restclient.ResourceFactoryException;
 import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.metrics.IClientMetrics;
+import com.openshift.restclient.model.IList;
+import com.openshift.restclient.model.IPod;
 import com.openshift.restclient.model.IService;
+import com.openshift.restclient.utils.Samples;
 
 public class ResourceFactoryTest {
 
     private ResourceFactory factory;
+    private IClient client;
+    private IApiTypeMapper mapper;
 
     @Before
     public void setup() {
-        IClient client = mock(IClient.class);
-        IApiTypeMapper mapper = mock(IApiTypeMapper.class);
+        client = mock(IClient.class);
+        mapper = mock(IApiTypeMapper.class);
         when(client.getOpenShiftAPIVersion()).thenReturn(OpenShiftAPIVersion.v1.toString());
         when(client.adapt(IApiTypeMapper.class)).thenReturn(mapper);
         when(mapper.getType(anyString(), eq(ResourceKind.SERVICE))).thenReturn(new IVersionedType() {
@@ -74,4 +89,86 @@ public class ResourceFactoryTest {
         assertEquals("foo", service.getName());
     }
 
+    @Test
+    public void testCreateInstanceFromStream() {
+        Object resource = factory.createInstanceFrom(Samples.V1_SERVICE.getContentAsStream());
+        assertTrue(resource instanceof IService);
+        assertEquals(ResourceKind.SERVICE, ((IService) resource).getKind());
+    }
+
+    @Test(expected = ResourceFactoryException.class)
+    public void testCreateInstanceFromInvalidStreamThrows() {
+        factory.createInstanceFrom(new ByteArrayInputStream("{ not json".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testTypeIsLookedUpOncePerVersionAndKind() {
+        factory.create("v1", ResourceKind.SERVICE, "foo");
+        factory.create("v1", ResourceKind.SERVICE, "bar");
+        factory.createInstanceFrom(Samples.V1_SERVICE.getContentAsStream());
+
+        verify(mapper, times(1)).getType("v1", ResourceKind.SERVICE);
+    }
+
+    @Test
+    public void testFailedTypeLookupIsRetried() {
+        when(mapper.getType("v1", ResourceKind.POD))
+            .thenThrow(new IllegalStateException("discovery failed"));
+
+        assertTrue(factory.create("v1", ResourceKind.POD, "foo") instanceof IPod);
+        assertTrue(factory.create("v1", ResourceKind.POD, "bar") instanceof IPod);
+
+        verify(mapper, times(2)).getType("v1", ResourceKind.POD);
+    }
+
+    @Test
+    public void testSetClientClearsCachedTypes() {
+        factory.create("v1", ResourceKind.SERVICE, "foo");
+        factory.setClient(client);
+        factory.create("v1", ResourceKind.SERVICE, "bar");
+
+        verify(mapper, times(2)).getType("v1", ResourceKind.SERVICE);
+    }
+
+    @Test
+    public void testDecodeIsRecordedToClientMetrics() {
+        IClientMetrics metrics = mock(IClientMetrics.class);
+        when(client.adapt(IClientMetrics.class)).thenReturn(metrics);
+        factory.setClient(client);
+
+        factory.createInstanceFrom(Samples.V1_SERVICE.getContentAsString());
+
+        verify(metrics).recordDecode(eq(ResourceKind.SERVICE), anyLong());
+    }
+
+    @Test
+    public void testDecodeOfStreamIsRecordedToClientMetrics() {
+        IClientMetrics metrics = mock(IClientMetrics.class);
+        when(client.adapt(IClientMetrics.class)).thenReturn(metrics);
+        factory.setClient(client);
+
+        factory.createInstanceFrom(Samples.V1_SERVICE.getContentAsStream());
+
+        verify(metrics).recordDecode(eq(ResourceKind.SERVICE), anyLong());
+    }
+
+    @Test
+    public void testDecodeOfListItemsIsRecordedToClientMetrics() {
+        IClientMetrics metrics = mock(IClientMetrics.class);
+        when(client.adapt(IClientMetrics.class)).thenReturn(metrics);
+        factory.setClient(client);
+        ModelNode service = ModelNode.fromJSONString(Samples.V1_SERVICE.getContentAsString());
+        ModelNode list = new ModelNode();
+        list.get("apiVersion").set("v1");
+        list.get("kind").set(ResourceKind.SERVICE + "List");
+        list.get("items").add(service);
+        list.get("items").add(service);
+        when(client.getResourceFactory()).thenReturn(factory);
+
+        IList services = factory.create(list);
+        services.getItems();
+
+        verify(metrics).recordDecode(eq(ResourceKind.SERVICE + "List"), anyLong());
+        verify(metrics, times(2)).recordDecode(eq(ResourceKind.SERVICE), anyLong());
+    }
 }
@@ -11,6 +11,7 @@
 
 package com.openshift.internal.restclient;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
@@ -83,17 +84,39 @@ public class TypeMapperFixture {
     protected static class TestOkHttpClient extends OkHttpClient {
 
         public void whenRequestTo(String url, Response response) throws IOException {
-            Call call = mock(Call.class);
+            Call call = mockCall();
             doReturn(response).when(call).execute();
             doReturn(call).when(this).newCall(requestTo(url));
         }
 
         OngoingStubbing<Response> whenRequestTo(String url) throws IOException {
-            Call call = mock(Call.class);
+            Call call = mockCall();
             doReturn(call).when(this).newCall(requestTo(url));
             return when(call.execute());
         }
 
+        /**
+         * A call that answers enqueue() with the stubbed response of execute(), as
+         * okhttp would for a request that an interceptor fails.
+         */
+        private static Call mockCall() {
+            Call call = mock(Call.class);
+            lenient().doAnswer(invocation -> {
+                Callback callback = invocation.getArgument(0);
+                try {
+                    callback.onResponse(call, call.execute());
+                } catch (IOException e) {
+                    callback.onFailure(call, e);
+                } catch (RuntimeException e) {
+                    IOException canceled = new IOException("canceled due to " + e);
+                    canceled.addSuppressed(e);
+                    callback.onFailure(call, canceled);
+                }
+                return null;
+            }).when(call).enqueue(any(Callback.class));
+            return call;
+        }
+
         void mockAsyncRequest(String url, Supplier<Response> response) throws IOException {
             Call call = mock(Call.class);
             lenient().doReturn(call).when(this).newCall(requestTo(url));
@@ -14,14 +14,21 @@ package com.openshift.internal.restclient.api.capabilities;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -33,6 +40,10 @@ import com.openshift.restclient.api.capabilities.IPodExec;
 import com.openshift.restclient.model.IPod;
 import com.openshift.restclient.model.MocksFactory;
 
+import okhttp3.WebSocket;
+import okio.Buffer;
+import okio.ByteString;
+
 @RunWith(MockitoJUnitRunner.class)
 public class PodExecTest extends TypeMapperFixture {
 
@@ -45,6 +56,8 @@ public class PodExecTest extends TypeMapperFixture {
 
     @Mock
     private IPodExec.IPodExecOutputListener listener;
+    @Mock
+    private IPodExec.IPodExecChannelListener channelListener;
 
     @Before
     public void setUp() throws Exception {
@@ -86,6 +99,59 @@ public class PodExecTest extends TypeMapperFixture {
         verify(listener).onClose(1986, "the reason");
     }
 
+    @Test
+    public void testChannelAdapterDeliversFramesWithoutChannelByte() throws Exception {
+        PodExec.ExecChannelListenerAdapter channelAdapter = new PodExec.ExecChannelListenerAdapter(channelListener);
+
+        channelAdapter.onOpen(null, null);
+        channelAdapter.onMessage(null, frame(PodExec.CHANNEL_STDOUT, new byte[] { 0, (byte) 0xff, 'a' }));
+        channelAdapter.onMessage(null, frame(PodExec.CHANNEL_EXECERR, "{}".getBytes(StandardCharsets.UTF_8)));
+        channelAdapter.onMessage(null, "some text");
+        channelAdapter.onMessage(null, ByteString.EMPTY);
+
+        verify(channelListener).onOpen();
+        ArgumentCaptor<ByteBuffer> stdOut = ArgumentCaptor.forClass(ByteBuffer.class);
+        ArgumentCaptor<ByteBuffer> execErr = ArgumentCaptor.forClass(ByteBuffer.class);
+        verify(channelListener).onStdOut(stdOut.capture());
+        verify(channelListener).onExecErr(execErr.capture());
+        verify(channelListener, never()).onStdErr(any());
+        assertEquals(ByteString.of((byte) 0, (byte) 0xff, (byte) 'a'), ByteString.of(stdOut.getValue()));
+        assertEquals("{}", ByteString.of(execErr.getValue()).utf8());
+    }
+
+    @Test
+    public void testChannelAdapterSendsStdInAndResize() throws Exception {
+        WebSocket webSocket = mock(WebSocket.class);
+        when(webSocket.send(any(ByteString.class))).thenReturn(true);
+        PodExec.ExecChannelListenerAdapter channelAdapter = new PodExec.ExecChannelListenerAdapter(channelListener);
+        channelAdapter.setWebSocket(webSocket);
+
+        OutputStream stdIn = channelAdapter.getStdIn();
+        stdIn.write('l');
+        stdIn.write("s\n".getBytes(StandardCharsets.UTF_8));
+        verify(webSocket, never()).send(any(ByteString.class));
+        stdIn.flush();
+        channelAdapter.getStdInChannel().write(ByteBuffer.wrap(new byte[] { 1, 2 }));
+        channelAdapter.resize(80, 24);
+
+        verify(webSocket).send(frame(PodExec.CHANNEL_STDIN, "ls\n".getBytes(StandardCharsets.UTF_8)));
+        verify(webSocket).send(frame(PodExec.CHANNEL_STDIN, new byte[] { 1, 2 }));
+        verify(webSocket).send(frame(PodExec.CHANNEL_RESIZE,
+                "{\"Width\":80,\"Height\":24}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testChannelAdapterStopCancelsWebSocket() throws Exception {
+        WebSocket webSocket = mock(WebSocket.class);
+        PodExec.ExecChannelListenerAdapter channelAdapter = new PodExec.ExecChannelListenerAdapter(channelListener);
+        channelAdapter.setWebSocket(webSocket);
+
+        channelAdapter.stop();
+
+        verify(webSocket).cancel();
+        assertFalse(channelAdapter.getStdInChannel().isOpen());
+    }
+
     @Test
     public void testExecOptions() throws Exception {
         IPodExec.Options options = new IPodExec.Options();
@@ -116,4 +182,8 @@ public class PodExecTest extends TypeMapperFixture {
 
     }
 
-}
\ No newline at end of file
+    private static ByteString frame(int channel, byte[] data) {
+        return new Buffer().writeByte(channel).write(data).readByteString();
+    }
+
+}
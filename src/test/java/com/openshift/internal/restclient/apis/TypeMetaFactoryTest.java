@@ -46,6 +46,12 @@ public class TypeMetaFactoryTest {
         assertTrue(response instanceof IScale);
     }
 
+    @Test
+    public void testExtensionScaleFromStream() {
+        Object response = factory.createInstanceFrom(Samples.V1BETA1_API_EXT_SCALE.getContentAsStream());
+        assertTrue(response instanceof IScale);
+    }
+
     @Test
     public void testUnrecognized() {
         Object response = factory.createInstanceFrom(Samples.V1_BUILD.getContentAsString());
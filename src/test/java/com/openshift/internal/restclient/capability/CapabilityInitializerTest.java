@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.capability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import com.openshift.internal.restclient.capability.resources.ClientCapability;
+import com.openshift.internal.restclient.model.DeploymentConfig;
+import com.openshift.internal.restclient.model.Pod;
+import com.openshift.internal.restclient.model.Service;
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.api.capabilities.IPodExec;
+import com.openshift.restclient.api.capabilities.IScalable;
+import com.openshift.restclient.capability.resources.IBuildTriggerable;
+import com.openshift.restclient.capability.resources.IClientCapability;
+import com.openshift.restclient.capability.resources.IDeployCapability;
+import com.openshift.restclient.capability.resources.IPropertyAccessCapability;
+import com.openshift.restclient.capability.resources.ITags;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IService;
+
+public class CapabilityInitializerTest {
+
+    @Test
+    public void capabilitiesAreResolvedByResourceType() {
+        assertThat(CapabilityInitializer.getCapabilities(Pod.class))
+            .contains(IPodExec.class, ITags.class, IPropertyAccessCapability.class)
+            .doesNotContain(IScalable.class, IBuildTriggerable.class);
+        assertThat(CapabilityInitializer.getCapabilities(Service.class))
+            .contains(ITags.class)
+            .doesNotContain(IPodExec.class);
+    }
+
+    @Test
+    public void capabilitiesOfSuperTypesAreInherited() {
+        assertThat(CapabilityInitializer.getCapabilities(DeploymentConfig.class))
+            .contains(IScalable.class, IDeployCapability.class, ITags.class);
+    }
+
+    @Test
+    public void createCapabilityReturnsNullIfNotRegisteredForResource() {
+        assertThat(CapabilityInitializer.createCapability(IPodExec.class, mock(IService.class), mock(IClient.class)))
+            .isNull();
+    }
+
+    @Test
+    public void createCapabilityReturnsSupportedCapability() {
+        assertThat(CapabilityInitializer.createCapability(IClientCapability.class, mock(IPod.class), mock(IClient.class)))
+            .isInstanceOf(ClientCapability.class);
+    }
+
+    @Test
+    public void createCapabilityReturnsNullIfNotSupported() {
+        assertThat(CapabilityInitializer.createCapability(IClientCapability.class, mock(IPod.class), null))
+            .isNull();
+    }
+}
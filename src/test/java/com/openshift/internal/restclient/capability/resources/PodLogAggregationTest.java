@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.capability.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.IInformer;
+import com.openshift.restclient.IOpenShiftWatchListener;
+import com.openshift.restclient.IOpenShiftWatchListener.ChangeType;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.capability.resources.IPodLogAggregation.IAggregatedLogs;
+import com.openshift.restclient.capability.resources.IPodLogAggregation.LogLine;
+import com.openshift.restclient.capability.resources.IPodLogRetrieval;
+import com.openshift.restclient.capability.resources.IPodLogRetrievalAsync.Options;
+import com.openshift.restclient.model.IContainer;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IProject;
+import com.openshift.restclient.model.IResource;
+
+public class PodLogAggregationTest {
+
+    private static final Map<String, String> LABELS = Collections.singletonMap("app", "aApp");
+
+    private IClient client = mock(IClient.class);
+    private IInformer informer = mock(IInformer.class);
+    private Map<String, IPodLogRetrieval> retrievals = new HashMap<>();
+    private PodLogAggregation aggregation;
+    private IAggregatedLogs logs;
+
+    @Before
+    public void setUp() {
+        IProject project = mock(IProject.class);
+        when(project.getNamespaceName()).thenReturn("aNamespace");
+        when(client.informer("aNamespace", ResourceKind.POD)).thenReturn(informer);
+        this.aggregation = new PodLogAggregation(project, client, pod -> retrievals.get(pod.getName()));
+    }
+
+    @After
+    public void tearDown() {
+        if (logs != null) {
+            logs.stop();
+        }
+    }
+
+    @Test
+    public void testLinesOfPodsAreMergedByTimestamp() throws Exception {
+        IPod pod1 = givenPod("pod1", LABELS, "Running",
+                "2020-01-01T10:00:00.000000001Z first",
+                "2020-01-01T10:00:02Z third");
+        IPod pod2 = givenPod("pod2", LABELS, "Running",
+                "2020-01-01T10:00:01Z second",
+                "no timestamp");
+
+        IOpenShiftWatchListener listener = follow();
+        listener.connected(asList(pod1, pod2));
+
+        List<LogLine> lines = take(4);
+        assertThat(lines).extracting(LogLine::getMessage).containsExactly("first", "second", "third", "no timestamp");
+        assertThat(lines).extracting(LogLine::getPod).containsExactly("pod1", "pod2", "pod1", "pod2");
+        assertThat(lines.get(0).getTimestamp()).isEqualTo(Instant.parse("2020-01-01T10:00:00.000000001Z"));
+        assertThat(lines.get(0).getContainer()).isEqualTo("aContainer");
+    }
+
+    @Test
+    public void testOnlyStartedPodsThatMatchAreFollowed() throws Exception {
+        IPod other = givenPod("other", Collections.singletonMap("app", "anotherApp"), "Running",
+                "2020-01-01T10:00:00Z other");
+        IPod pending = givenPod("pending", LABELS, "Pending", "2020-01-01T10:00:00Z pending");
+
+        IOpenShiftWatchListener listener = follow();
+        listener.connected(asList(other, pending));
+
+        assertThat(logs.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        verify(retrievals.get("other"), never()).getLogs(any(Options.class));
+        verify(retrievals.get("pending"), never()).getLogs(any(Options.class));
+
+        when(pending.getStatus()).thenReturn("Running");
+        listener.received(pending, ChangeType.MODIFIED);
+
+        assertThat(logs.poll(5, TimeUnit.SECONDS).getMessage()).isEqualTo("pending");
+        ArgumentCaptor<Options> options = ArgumentCaptor.forClass(Options.class);
+        verify(retrievals.get("pending")).getLogs(options.capture());
+        assertThat(options.getValue().getMap())
+                .containsEntry("follow", "true")
+                .containsEntry("timestamps", "true")
+                .containsEntry("container", "aContainer")
+                .containsEntry("tailLines", "10");
+    }
+
+    @Test
+    public void testPodsThatAreGoneOnRelistAreForgotten() throws Exception {
+        IPod pod = givenPod("pod1", LABELS, "Running", "2020-01-01T10:00:00Z first");
+
+        IOpenShiftWatchListener listener = follow();
+        listener.connected(asList(pod));
+        assertThat(logs.poll(5, TimeUnit.SECONDS).getMessage()).isEqualTo("first");
+        listener.connected(asList(pod));
+        listener.connected(asList());
+        verify(retrievals.get("pod1"), timeout(5000).times(1)).getLogs(any(Options.class));
+
+        givenLogs(retrievals.get("pod1"), "2020-01-01T10:01:00Z recreated");
+        listener.connected(asList(pod));
+
+        assertThat(logs.poll(5, TimeUnit.SECONDS).getMessage()).isEqualTo("recreated");
+    }
+
+    @Test
+    public void testLogsOfRunningPodAreResumedAfterLastLine() throws Exception {
+        IPod pod = givenPod("pod1", LABELS, "Running");
+        IPodLogRetrieval retrieval = retrievals.get("pod1");
+        when(retrieval.getLogs(any(Options.class)))
+                .thenReturn(stream("2020-01-01T10:00:00.5Z first", "2020-01-01T10:00:01.5Z second"))
+                .thenReturn(stream("2020-01-01T10:00:01.5Z second", "2020-01-01T10:00:02Z third"))
+                .thenReturn(stream());
+        when(informer.get("aNamespace", "pod1")).thenReturn(pod);
+
+        IOpenShiftWatchListener listener = follow();
+        listener.connected(asList(pod));
+
+        assertThat(take(3)).extracting(LogLine::getMessage).containsExactly("first", "second", "third");
+        ArgumentCaptor<Options> options = ArgumentCaptor.forClass(Options.class);
+        verify(retrieval, timeout(5000).atLeast(2)).getLogs(options.capture());
+        assertThat(options.getAllValues().get(0).getMap()).containsEntry("tailLines", "10");
+        assertThat(options.getAllValues().get(1).getMap())
+                .containsEntry("sinceTime", "2020-01-01T10:00:01Z")
+                .containsEntry("follow", "true")
+                .doesNotContainKey("tailLines");
+    }
+
+    @Test
+    public void testLogsOfPodThatIsNotRunningAreNotResumed() throws Exception {
+        IPod pod = givenPod("pod1", LABELS, "Succeeded", "2020-01-01T10:00:00Z first");
+        when(informer.get("aNamespace", "pod1")).thenReturn(pod);
+
+        IOpenShiftWatchListener listener = follow();
+        listener.connected(asList(pod));
+
+        assertThat(logs.poll(5, TimeUnit.SECONDS).getMessage()).isEqualTo("first");
+        Thread.sleep(2 * PodLogAggregation.RESUME_DELAY_MILLIS);
+        verify(retrievals.get("pod1"), times(1)).getLogs(any(Options.class));
+    }
+
+    @Test
+    public void testReaderIsBoundedByBuffer() throws Exception {
+        int total = 20 * PodLogAggregation.MAX_BUFFERED_LINES;
+        AtomicInteger produced = new AtomicInteger();
+        IPod pod = givenPod("chatty", LABELS, "Running");
+        when(retrievals.get("chatty").getLogs(any(Options.class))).thenReturn(new InputStream() {
+
+            private byte[] line = new byte[0];
+            private int position = 0;
+
+            @Override
+            public int read() {
+                if (position == line.length) {
+                    if (produced.get() == total) {
+                        return -1;
+                    }
+                    line = ("2020-01-01T10:00:00Z line " + produced.incrementAndGet() + "\n").getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+                return line[position++];
+            }
+        });
+
+        IOpenShiftWatchListener listener = follow();
+        listener.connected(Collections.singletonList(pod));
+
+        assertThat(logs.poll(5, TimeUnit.SECONDS)).isNotNull();
+        Thread.sleep(200);
+        assertThat(produced.get()).isLessThan(total / 2);
+        assertThat(take(total - 1)).hasSize(total - 1);
+    }
+
+    @Test
+    public void testStopReleasesInformerAndEndsLogs() throws Exception {
+        final IOpenShiftWatchListener listener = follow();
+
+        logs.stop();
+        logs.stop();
+
+        assertThat(logs.isStopped()).isTrue();
+        assertThat(logs.take()).isNull();
+        verify(informer).removeListener(listener);
+        verify(informer).stop();
+    }
+
+    @Test
+    public void testTimestampIsParsed() {
+        LogLine line = PodLogAggregation.parse("aPod", "aContainer", "2020-01-01T10:00:00.5+02:00 hello world",
+                Instant.EPOCH);
+
+        assertThat(line.getTimestamp()).isEqualTo(Instant.parse("2020-01-01T08:00:00.500Z"));
+        assertThat(line.getMessage()).isEqualTo("hello world");
+        assertThat(PodLogAggregation.parse("aPod", "aContainer", "hello world", Instant.EPOCH).getTimestamp())
+                .isEqualTo(Instant.EPOCH);
+    }
+
+    private IOpenShiftWatchListener follow() {
+        this.logs = aggregation.follow(LABELS, new Options().tailLines(10));
+        ArgumentCaptor<IOpenShiftWatchListener> listener = ArgumentCaptor.forClass(IOpenShiftWatchListener.class);
+        verify(informer, timeout(5000)).addListener(listener.capture());
+        return listener.getValue();
+    }
+
+    private List<LogLine> take(int count) throws InterruptedException {
+        List<LogLine> lines = new ArrayList<>();
+        while (lines.size() < count) {
+            LogLine line = logs.poll(5, TimeUnit.SECONDS);
+            if (line == null) {
+                break;
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private IPod givenPod(String name, Map<String, String> labels, String status, String... lines) {
+        IPod pod = mock(IPod.class);
+        when(pod.getName()).thenReturn(name);
+        when(pod.getLabels()).thenReturn(labels);
+        when(pod.getStatus()).thenReturn(status);
+        IContainer container = mock(IContainer.class);
+        when(container.getName()).thenReturn("aContainer");
+        when(pod.getContainers()).thenReturn(Collections.singletonList(container));
+        IPodLogRetrieval retrieval = mock(IPodLogRetrieval.class);
+        givenLogs(retrieval, lines);
+        retrievals.put(name, retrieval);
+        return pod;
+    }
+
+    private void givenLogs(IPodLogRetrieval retrieval, String... lines) {
+        when(retrieval.getLogs(any(Options.class))).thenReturn(stream(lines));
+    }
+
+    private static InputStream stream(String... lines) {
+        String logs = lines.length == 0 ? "" : String.join("\n", lines) + "\n";
+        return new ByteArrayInputStream(logs.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<IResource> asList(IResource... resources) {
+        return Arrays.asList(resources);
+    }
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.capability.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.openshift.internal.restclient.DefaultClient;
+import com.openshift.internal.restclient.TypeMapperFixture;
+import com.openshift.internal.restclient.authorization.AuthorizationContext;
+import com.openshift.restclient.capability.resources.IPodLogRetrievalAsync.Options;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.MocksFactory;
+
+import okhttp3.Call;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+
+public class PodLogRetrievalTest extends TypeMapperFixture {
+
+    private static final String LOGS = "line 1\nline 2\n";
+
+    private Call call = mock(Call.class);
+    private PodLogRetrieval capability;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        DefaultClient client = new DefaultClient(new URL(base), getHttpClient(), null, getApiTypeMapper(),
+                new AuthorizationContext("aToken", null, null));
+        IPod pod = new MocksFactory().mock(IPod.class);
+        this.capability = new PodLogRetrieval(pod, client);
+        when(call.execute()).thenReturn(responseOf(LOGS));
+        doReturn(call).when(getHttpClient()).newCall(argThat(request -> request != null
+                && request.url().encodedPath().endsWith("/log")));
+    }
+
+    @Test
+    public void testLogsAreStreamedWithOptions() throws Exception {
+        InputStream logs = capability.getLogs(new Options()
+                .container("aContainer")
+                .tailLines(10)
+                .sinceSeconds(60)
+                .limitBytes(1024)
+                .timestamps(true));
+
+        assertThat(IOUtils.toString(logs, StandardCharsets.UTF_8)).isEqualTo(LOGS);
+        ArgumentCaptor<Request> request = ArgumentCaptor.forClass(Request.class);
+        verify(getHttpClient(), atLeastOnce()).newCall(request.capture());
+        HttpUrl url = request.getAllValues().stream()
+                .map(Request::url)
+                .filter(candidate -> candidate.encodedPath().endsWith("/log"))
+                .findFirst()
+                .get();
+        assertThat(url.encodedPath()).isEqualTo("/api/v1/namespaces/aNamespace/pods/aIPod/log");
+        assertThat(url.queryParameter("container")).isEqualTo("aContainer");
+        assertThat(url.queryParameter("tailLines")).isEqualTo("10");
+        assertThat(url.queryParameter("sinceSeconds")).isEqualTo("60");
+        assertThat(url.queryParameter("limitBytes")).isEqualTo("1024");
+        assertThat(url.queryParameter("timestamps")).isEqualTo("true");
+        assertThat(url.queryParameter("follow")).isNull();
+    }
+
+    @Test
+    public void testStopCancelsRequestsOfContainer() throws Exception {
+        capability.getLogs(false, "aContainer");
+
+        capability.stop("anotherContainer");
+        verify(call, never()).cancel();
+
+        capability.stop("aContainer");
+        verify(call).cancel();
+    }
+
+    @Test
+    public void testClosedLogsAreNotStopped() throws Exception {
+        capability.getLogs(false).close();
+
+        capability.stop();
+
+        verify(call, never()).cancel();
+    }
+}
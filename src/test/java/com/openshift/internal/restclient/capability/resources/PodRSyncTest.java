@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.capability.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.openshift.internal.restclient.capability.resources.PodRSync.FileState;
+import com.openshift.internal.restclient.capability.resources.PodRSync.Options;
+import com.openshift.restclient.IApiTypeMapper;
+import com.openshift.restclient.IApiTypeMapper.IVersionedApiResource;
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.capability.resources.IRSyncable;
+import com.openshift.restclient.model.IPod;
+
+public class PodRSyncTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testIsSupportedIfPodsCanBeExeced() {
+        IPod pod = mock(IPod.class);
+        when(pod.getApiVersion()).thenReturn("v1");
+        when(pod.getKind()).thenReturn(ResourceKind.POD);
+        IVersionedApiResource endpoint = mock(IVersionedApiResource.class);
+        IApiTypeMapper mapper = mock(IApiTypeMapper.class);
+        when(mapper.getEndpointFor("v1", ResourceKind.POD)).thenReturn(endpoint);
+        IClient client = mock(IClient.class);
+        when(client.adapt(IApiTypeMapper.class)).thenReturn(mapper);
+
+        assertThat(new PodRSync(pod, client).isSupported()).isFalse();
+        when(endpoint.isSupported("exec")).thenReturn(true);
+        assertThat(new PodRSync(pod, client).isSupported()).isTrue();
+    }
+
+    @Test
+    public void testParseManifest() throws Exception {
+        String manifest = "12 1500000000 ./a.txt\n"
+                + "3 1500000001 ./dir/file with spaces\n"
+                + "7 1500000002 ./target/classes/App.class\n";
+
+        Map<String, FileState> files = PodRSync.parseManifest(
+                new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)),
+                new Options(new IRSyncable.Exclude("target")));
+
+        assertThat(files).containsOnlyKeys("a.txt", "dir/file with spaces");
+        assertThat(files.get("dir/file with spaces")).isEqualTo(new FileState(3, 1500000001));
+    }
+
+    @Test
+    public void testExcludeMatchesPathAndSegments() {
+        Options options = new Options(new IRSyncable.Exclude("*.log", ".git"));
+
+        assertThat(options.isExcluded("server.log")).isTrue();
+        assertThat(options.isExcluded(".git/config")).isTrue();
+        assertThat(options.isExcluded("src/.git/HEAD")).isTrue();
+        assertThat(options.isExcluded("src/Main.java")).isFalse();
+        assertThat(new Options().isExcluded("server.log")).isFalse();
+    }
+
+    @Test
+    public void testChangedFilesDifferInSizeOrTime() {
+        Map<String, FileState> source = new HashMap<>();
+        source.put("same", new FileState(1, 1));
+        source.put("bigger", new FileState(2, 1));
+        source.put("newer", new FileState(1, 2));
+        source.put("missing", new FileState(1, 1));
+        Map<String, FileState> destination = new HashMap<>();
+        destination.put("same", new FileState(1, 1));
+        destination.put("bigger", new FileState(1, 1));
+        destination.put("newer", new FileState(1, 1));
+        destination.put("extraneous", new FileState(1, 1));
+
+        assertThat(PodRSync.getChanged(source, destination)).containsExactly("bigger", "missing", "newer");
+    }
+
+    @Test
+    public void testGetTargetFollowsRsyncTrailingSlash() {
+        assertThat(PodRSync.getTarget("/tmp/src/", "/opt/app")).isEqualTo("/opt/app");
+        assertThat(PodRSync.getTarget("/tmp/src", "/opt/app")).isEqualTo("/opt/app/src");
+        assertThat(PodRSync.getTarget("/tmp/src", "/opt/app/")).isEqualTo("/opt/app/src");
+    }
+
+    @Test
+    public void testBatchesAreLimitedInLength() {
+        String path = String.join("", Collections.nCopies(1000, "a"));
+        List<String> paths = Collections.nCopies(20, path);
+
+        List<List<String>> batches = PodRSync.getBatches(paths);
+
+        assertThat(batches).hasSize(3);
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(20);
+        assertThat(PodRSync.getBatches(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    public void testExitCodeOfStatus() {
+        assertThat(PodRSync.getExitCode("{\"metadata\":{},\"status\":\"Success\"}")).isEqualTo(0);
+        assertThat(PodRSync.getExitCode("{\"metadata\":{},\"status\":\"Failure\",\"reason\":\"NonZeroExitCode\","
+                + "\"details\":{\"causes\":[{\"reason\":\"ExitCode\",\"message\":\"2\"}]}}")).isEqualTo(2);
+        assertThat(PodRSync.getExitCode("{\"metadata\":{},\"status\":\"Failure\",\"message\":\"not found\"}"))
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testExtractSkipsEntriesOutsideOfDirectory() throws Exception {
+        File directory = folder.newFolder("dest");
+        byte[] archive = tar("./dir/a.txt", "a", "../evil.txt", "evil", "./b.log", "b");
+
+        PodRSync.extract(new ByteArrayInputStream(archive), directory.toPath(),
+                new Options(new IRSyncable.Exclude("*.log")));
+
+        File extracted = new File(directory, "dir/a.txt");
+        assertThat(extracted).hasContent("a");
+        assertThat(extracted.lastModified()).isEqualTo(1500000000000L);
+        assertThat(new File(folder.getRoot(), "evil.txt")).doesNotExist();
+        assertThat(new File(directory, "b.log")).doesNotExist();
+    }
+
+    @Test
+    public void testLocalManifest() throws Exception {
+        File directory = folder.newFolder("src");
+        File file = new File(directory, "dir/a.txt");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), "abc".getBytes(StandardCharsets.UTF_8));
+        file.setLastModified(1500000000000L);
+
+        Map<String, FileState> files = PodRSync.getLocalManifest(directory.toPath(), new Options());
+
+        assertThat(files).containsOnlyKeys("dir/a.txt");
+        assertThat(files.get("dir/a.txt")).isEqualTo(new FileState(3, 1500000000));
+    }
+
+    private static byte[] tar(String... namesAndContents) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(out)) {
+            for (String[] entry : pairs(namesAndContents)) {
+                byte[] content = entry[1].getBytes(StandardCharsets.UTF_8);
+                TarArchiveEntry tarEntry = new TarArchiveEntry(entry[0]);
+                tarEntry.setSize(content.length);
+                tarEntry.setModTime(1500000000000L);
+                tar.putArchiveEntry(tarEntry);
+                tar.write(content);
+                tar.closeArchiveEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<String[]> pairs(String... values) {
+        String[][] pairs = new String[values.length / 2][];
+        for (int i = 0; i < pairs.length; i++) {
+            pairs[i] = new String[] { values[2 * i], values[2 * i + 1] };
+        }
+        return Arrays.asList(pairs);
+    }
+}
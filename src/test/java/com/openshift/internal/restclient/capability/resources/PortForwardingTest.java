@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.capability.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.openshift.internal.restclient.DefaultClient;
+import com.openshift.internal.restclient.TypeMapperFixture;
+import com.openshift.internal.restclient.authorization.AuthorizationContext;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.capability.resources.IPortForwardable.PortPair;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IPort;
+import com.openshift.restclient.model.MocksFactory;
+
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.Buffer;
+import okio.ByteString;
+
+public class PortForwardingTest extends TypeMapperFixture {
+
+    private static final int REMOTE_PORT = 8080;
+    private static final ByteString DATA_PORT = ByteString.of((byte) PortForwarding.CHANNEL_DATA, (byte) 0x90, (byte) 0x1f);
+    private static final ByteString ERROR_PORT = ByteString.of((byte) PortForwarding.CHANNEL_ERROR, (byte) 0x90, (byte) 0x1f);
+
+    private WebSocket webSocket = mock(WebSocket.class);
+    private PortForwarding portForwarding;
+    private PortPair pair;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        DefaultClient client = new DefaultClient(new URL(base), getHttpClient(), null, getApiTypeMapper(),
+                new AuthorizationContext("aToken", null, null));
+        IPod pod = new MocksFactory().mock(IPod.class);
+        IPort port = mock(IPort.class);
+        when(port.getContainerPort()).thenReturn(REMOTE_PORT);
+        this.pair = new PortPair(0, port);
+        this.portForwarding = new PortForwarding(pod, client);
+        doReturn(webSocket).when(getHttpClient()).newWebSocket(any(Request.class), any(WebSocketListener.class));
+        when(webSocket.send(any(ByteString.class))).thenReturn(true);
+    }
+
+    @After
+    public void tearDown() {
+        portForwarding.stop();
+    }
+
+    @Test
+    public void testForwardsDataBetweenLocalConnectionAndPod() throws Exception {
+        portForwarding.forwardPorts(Collections.singletonList(pair));
+
+        assertThat(portForwarding.isForwarding()).isTrue();
+        assertThat(pair.getLocalPort()).isPositive();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), pair.getLocalPort())) {
+            WebSocketListener listener = givenWebSocketOpened();
+
+            listener.onMessage(webSocket, DATA_PORT);
+            listener.onMessage(webSocket, frame(PortForwarding.CHANNEL_DATA, "hi"));
+            socket.getOutputStream().write("ping".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(read(socket.getInputStream(), 2)).isEqualTo("hi");
+            verify(webSocket, timeout(5000)).send(frame(PortForwarding.CHANNEL_DATA, "ping"));
+        }
+    }
+
+    @Test
+    public void testErrorFromPodClosesLocalConnection() throws Exception {
+        portForwarding.forwardPorts(Collections.singletonList(pair));
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), pair.getLocalPort())) {
+            WebSocketListener listener = givenWebSocketOpened();
+
+            listener.onMessage(webSocket, ERROR_PORT);
+            listener.onMessage(webSocket, frame(PortForwarding.CHANNEL_ERROR, "connection refused"));
+
+            assertThat(socket.getInputStream().read()).isEqualTo(-1);
+            verify(webSocket, timeout(5000)).close(1000, null);
+        }
+    }
+
+    @Test
+    public void testStopClosesPortsAndConnections() throws Exception {
+        portForwarding.forwardPorts(Collections.singletonList(pair));
+        int localPort = pair.getLocalPort();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), localPort)) {
+            givenWebSocketOpened();
+
+            portForwarding.stop();
+
+            assertThat(portForwarding.isForwarding()).isFalse();
+            assertThat(portForwarding.getPortPairs()).isEmpty();
+            assertThat(socket.getInputStream().read()).isEqualTo(-1);
+            verify(webSocket, timeout(5000)).close(1000, null);
+        }
+        assertThat(isReleased(localPort)).isTrue();
+    }
+
+    @Test
+    public void testConnectionThatFailsIsClosedAndNextOneIsForwarded() throws Exception {
+        doThrow(new IllegalStateException("dispatcher shut down"))
+                .doReturn(webSocket)
+                .when(getHttpClient()).newWebSocket(any(Request.class), any(WebSocketListener.class));
+        portForwarding.forwardPorts(Collections.singletonList(pair));
+
+        try (Socket failed = new Socket(InetAddress.getLoopbackAddress(), pair.getLocalPort())) {
+            failed.setSoTimeout(5000);
+            assertThat(failed.getInputStream().read()).isEqualTo(-1);
+        }
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), pair.getLocalPort())) {
+            verify(getHttpClient(), timeout(5000).times(2)).newWebSocket(any(Request.class), any(WebSocketListener.class));
+            assertThat(portForwarding.isForwarding()).isTrue();
+        }
+    }
+
+    @Test
+    public void testLocalPortInUseFails() throws Exception {
+        try (ServerSocket used = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            pair.setLocalPort(used.getLocalPort());
+
+            Throwable thrown = catchThrowable(() -> portForwarding.forwardPorts(Collections.singletonList(pair)));
+
+            assertThat(thrown).isInstanceOf(OpenShiftException.class);
+            assertThat(portForwarding.isForwarding()).isFalse();
+        }
+    }
+
+    private WebSocketListener givenWebSocketOpened() {
+        ArgumentCaptor<Request> request = ArgumentCaptor.forClass(Request.class);
+        ArgumentCaptor<WebSocketListener> listener = ArgumentCaptor.forClass(WebSocketListener.class);
+        verify(getHttpClient(), timeout(5000)).newWebSocket(request.capture(), listener.capture());
+        assertThat(request.getValue().url().toString())
+                .endsWith("/api/v1/namespaces/aNamespace/pods/aIPod/portforward?ports=" + REMOTE_PORT);
+        assertThat(request.getValue().header(PortForwarding.PROTOCOL_HEADER)).isEqualTo(PortForwarding.PROTOCOL);
+        listener.getValue().onOpen(webSocket, null);
+        return listener.getValue();
+    }
+
+    /**
+     * Closing a channel that a thread is blocked accepting on completes once
+     * that thread was signalled.
+     */
+    private static boolean isReleased(int port) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            try (ServerSocket socket = new ServerSocket(port, 1, InetAddress.getLoopbackAddress())) {
+                return true;
+            } catch (IOException e) {
+                Thread.sleep(50);
+            }
+        }
+        return false;
+    }
+
+    private static ByteString frame(int channel, String data) {
+        return new Buffer().writeByte(channel).writeUtf8(data).readByteString();
+    }
+
+    private static String read(InputStream in, int length) throws Exception {
+        byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            int n = in.read(bytes, read, length - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return new String(bytes, 0, read, StandardCharsets.UTF_8);
+    }
+}
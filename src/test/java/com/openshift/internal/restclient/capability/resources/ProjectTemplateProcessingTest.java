@@ -29,7 +29,6 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import com.openshift.internal.restclient.ResourceFactory;
 import com.openshift.restclient.IApiTypeMapper;
-import com.openshift.restclient.IApiTypeMapper.IVersionedApiResource;
 import com.openshift.restclient.IApiTypeMapper.IVersionedType;
 import com.openshift.restclient.IClient;
 import com.openshift.restclient.ResourceKind;
@@ -143,43 +142,6 @@ public class ProjectTemplateProcessingTest {
                 return null;
             }
         });
-        when(mapper.getEndpointFor(anyString(), eq(ResourceKind.DEPLOYMENT_CONFIG))).thenReturn(new IVersionedApiResource() {
-            
-            @Override
-            public boolean isSupported(String capability) {
-                return true;
-            }
-            
-            @Override
-            public boolean isNamespaced() {
-                return true;
-            }
-            
-            @Override
-            public String getVersion() {
-                return "v1";
-            }
-            
-            @Override
-            public String getPrefix() {
-                return null;
-            }
-            
-            @Override
-            public String getName() {                // TODO Auto-generated method stub
-                return null;
-            }
-            
-            @Override
-            public String getKind() {
-                return ResourceKind.DEPLOYMENT_CONFIG;
-            }
-            
-            @Override
-            public String getApiGroupName() {
-                return "v1";
-            }
-        });
 
         
         ITemplate template = new ResourceFactory(client) {
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.informers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.IInformer;
+import com.openshift.restclient.IOpenShiftWatchListener;
+import com.openshift.restclient.IOpenShiftWatchListener.ChangeType;
+import com.openshift.restclient.IWatcher;
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IResource;
+
+public class InformerTest {
+
+    private static final String NAMESPACE = "myproject";
+    private static final String DC_NAME = "openshift.io/deployment-config.name";
+
+    private IClient client;
+    private IWatcher watcher;
+    private SharedInformers informers;
+
+    @Before
+    public void setUp() {
+        this.client = mock(IClient.class);
+        this.watcher = mock(IWatcher.class);
+        when(client.watch(eq(NAMESPACE), any(IOpenShiftWatchListener.class), eq(ResourceKind.POD)))
+                .thenReturn(watcher);
+        this.informers = new SharedInformers(client);
+    }
+
+    @Test
+    public void testInformerIsSharedPerKindAndNamespace() {
+        IInformer first = informers.acquire(NAMESPACE, ResourceKind.POD);
+        IInformer second = informers.acquire(NAMESPACE, ResourceKind.POD);
+
+        assertThat(informerOf(second)).isSameAs(informerOf(first));
+        verify(client, times(1)).watch(eq(NAMESPACE), any(IOpenShiftWatchListener.class), eq(ResourceKind.POD));
+    }
+
+    @Test
+    public void testWatchIsStoppedOnceAllUsersReleased() {
+        IInformer first = informers.acquire(NAMESPACE, ResourceKind.POD);
+        IInformer second = informers.acquire(NAMESPACE, ResourceKind.POD);
+
+        first.stop();
+        verify(watcher, never()).stop();
+        second.stop();
+        verify(watcher).stop();
+
+        assertThat(informerOf(informers.acquire(NAMESPACE, ResourceKind.POD))).isNotSameAs(informerOf(first));
+    }
+
+    @Test
+    public void testStoppingTwiceReleasesOnce() {
+        IInformer first = informers.acquire(NAMESPACE, ResourceKind.POD);
+        final IInformer second = informers.acquire(NAMESPACE, ResourceKind.POD);
+        IOpenShiftWatchListener listener = mock(IOpenShiftWatchListener.class);
+        first.addListener(listener);
+
+        first.stop();
+        first.stop();
+        verify(watcher, never()).stop();
+        informerOf(second).received(pod("frontend-1", "frontend", "frontend-1"), ChangeType.ADDED);
+        verify(listener, never()).received(any(), any());
+
+        second.stop();
+        verify(watcher).stop();
+    }
+
+    @Test
+    public void testListingDoesNotBlockOtherInformers() throws Exception {
+        CountDownLatch listing = new CountDownLatch(1);
+        CountDownLatch listed = new CountDownLatch(1);
+        when(client.watch(eq(NAMESPACE), any(IOpenShiftWatchListener.class), eq(ResourceKind.BUILD)))
+                .thenAnswer(invocation -> {
+                    listing.countDown();
+                    listed.await();
+                    return watcher;
+                });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<IInformer> builds = executor.submit(() -> informers.acquire(NAMESPACE, ResourceKind.BUILD));
+            assertThat(listing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(informers.acquire(NAMESPACE, ResourceKind.POD).hasSynced()).isFalse();
+            assertThat(builds.isDone()).isFalse();
+
+            listed.countDown();
+            assertThat(builds.get(5, TimeUnit.SECONDS).getKind()).isEqualTo(ResourceKind.BUILD);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUsersWaitingForFailedListingGetTheError() throws Exception {
+        CountDownLatch listing = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        AtomicReference<Informer> started = new AtomicReference<>();
+        OpenShiftException error = new OpenShiftException("forbidden");
+        when(client.watch(eq(NAMESPACE), any(IOpenShiftWatchListener.class), eq(ResourceKind.BUILD)))
+                .thenAnswer(invocation -> {
+                    started.set(invocation.getArgument(1));
+                    listing.countDown();
+                    fail.await();
+                    throw error;
+                })
+                .thenReturn(watcher);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<IInformer> creator = executor.submit(() -> informers.acquire(NAMESPACE, ResourceKind.BUILD));
+            assertThat(listing.await(5, TimeUnit.SECONDS)).isTrue();
+            final Future<IInformer> waiter = executor.submit(() -> informers.acquire(NAMESPACE, ResourceKind.BUILD));
+            awaitReferences(started.get(), 2);
+
+            fail.countDown();
+
+            assertThatThrownBy(() -> creator.get(5, TimeUnit.SECONDS)).hasCause(error);
+            assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCause(error);
+            assertThat(referencesOf(started.get())).isZero();
+            assertThat(informerOf(informers.acquire(NAMESPACE, ResourceKind.BUILD))).isNotSameAs(started.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInformerIsStoppedIfReleasedWhileListing() {
+        when(client.watch(eq(NAMESPACE), any(IOpenShiftWatchListener.class), eq(ResourceKind.BUILD)))
+                .thenAnswer(invocation -> {
+                    ((Informer) invocation.getArgument(1)).shutdown();
+                    return watcher;
+                });
+
+        informers.acquire(NAMESPACE, ResourceKind.BUILD);
+
+        verify(watcher).stop();
+    }
+
+    @Test
+    public void testStoreReflectsListAndChanges() {
+        Informer informer = informerOf(informers.acquire(NAMESPACE, ResourceKind.POD));
+        IResource frontend = pod("frontend-1", "frontend", "frontend-1");
+        IResource backend = pod("backend-1", "backend", "backend-1");
+        assertThat(informer.hasSynced()).isFalse();
+
+        informer.connected(Arrays.asList(frontend, backend));
+        assertThat(informer.hasSynced()).isTrue();
+        assertThat(informer.<IResource>list()).containsExactly(frontend, backend);
+        assertThat(informer.<IResource>get(NAMESPACE, "backend-1")).isSameAs(backend);
+
+        IResource backendModified = pod("backend-1", "backend", "backend-2");
+        informer.received(backendModified, ChangeType.MODIFIED);
+        informer.received(frontend, ChangeType.DELETED);
+        assertThat(informer.<IResource>list()).containsExactly(backendModified);
+        assertThat(informer.<IResource>get(NAMESPACE, "frontend-1")).isNull();
+    }
+
+    @Test
+    public void testResourcesAreIndexedByLabelsAndOwners() {
+        Informer informer = informerOf(informers.acquire(NAMESPACE, ResourceKind.POD));
+        IResource frontend1 = pod("frontend-1", "frontend", "frontend-1");
+        IResource frontend2 = pod("frontend-2", "frontend", "frontend-2");
+        informer.connected(Arrays.asList(frontend1, frontend2, pod("backend-1", "backend", "backend-1")));
+
+        assertThat(informer.<IResource>byLabel("app", "frontend")).containsExactlyInAnyOrder(frontend1, frontend2);
+        assertThat(informer.<IResource>byOwner(DC_NAME, "frontend-2")).containsExactly(frontend2);
+
+        informer.received(pod("frontend-2", "other", "other-1"), ChangeType.MODIFIED);
+        assertThat(informer.<IResource>byLabel("app", "frontend")).containsExactly(frontend1);
+        assertThat(informer.<IResource>byOwner(DC_NAME, "frontend-2")).isEmpty();
+        assertThat(informer.<IResource>byLabel("app", "unknown")).isEmpty();
+    }
+
+    @Test
+    public void testListenersAreNotifiedAfterStoreIsUpdated() {
+        Informer informer = informerOf(informers.acquire(NAMESPACE, ResourceKind.POD));
+        IResource frontend = pod("frontend-1", "frontend", "frontend-1");
+        informer.connected(Collections.singletonList(frontend));
+        IOpenShiftWatchListener listener = mock(IOpenShiftWatchListener.class);
+
+        informer.addListener(listener);
+        verify(listener).connected(Collections.singletonList(frontend));
+
+        IResource backend = pod("backend-1", "backend", "backend-1");
+        informer.received(backend, ChangeType.ADDED);
+        verify(listener).received(backend, ChangeType.ADDED);
+
+        informer.removeListener(listener);
+        informer.received(backend, ChangeType.DELETED);
+        verify(listener, never()).received(backend, ChangeType.DELETED);
+    }
+
+    private static Informer informerOf(IInformer reference) {
+        return ((InformerReference) reference).getInformer();
+    }
+
+    private IResource pod(String name, String app, String deploymentConfig) {
+        IResource pod = mock(IResource.class);
+        when(pod.getName()).thenReturn(name);
+        when(pod.getNamespaceName()).thenReturn(NAMESPACE);
+        Map<String, String> labels = new HashMap<>();
+        labels.put("app", app);
+        when(pod.getLabels()).thenReturn(labels);
+        when(pod.getAnnotations()).thenReturn(Collections.singletonMap(DC_NAME, deploymentConfig));
+        return pod;
+    }
+
+    private void awaitReferences(Informer informer, int references) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (referencesOf(informer) != references) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private int referencesOf(Informer informer) {
+        synchronized (informers) {
+            return informer.references;
+        }
+    }
+}
@@ -28,7 +28,9 @@ import com.openshift.internal.restclient.OpenShiftAPIVersion;
 import com.openshift.internal.restclient.model.properties.ResourcePropertiesRegistry;
 import com.openshift.internal.restclient.model.properties.ResourcePropertyKeys;
 import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.api.capabilities.IPodExec;
 import com.openshift.restclient.capability.CapabilityVisitor;
+import com.openshift.restclient.capability.resources.IClientCapability;
 import com.openshift.restclient.capability.resources.IDeploymentTraceability;
 import com.openshift.restclient.capability.resources.ITemplateTraceability;
 
@@ -108,6 +110,24 @@ public class KubernetesResourceTest {
         assertNotNull(resource.getCapability(ITemplateTraceability.class));
     }
 
+    @Test
+    public void getCapabilitiesReturnsSupportedCapabilities() {
+        assertThat(resource.getCapabilities())
+            .contains(ITemplateTraceability.class)
+            .doesNotContain(IDeploymentTraceability.class, IClientCapability.class, IPodExec.class);
+    }
+
+    @Test
+    public void capabilitiesAreCreatedWhenFirstAskedFor() {
+        node.get(getPath(KubernetesResource.ANNOTATIONS)).remove("template");
+        KubernetesResource resource = createKubernetesResource(OpenShiftAPIVersion.v1.toString(), node);
+        resource.setAnnotation("template", "foobar");
+
+        assertTrue(resource.supports(ITemplateTraceability.class));
+        assertThat(resource.getCapability(ITemplateTraceability.class))
+            .isSameAs(resource.getCapability(ITemplateTraceability.class));
+    }
+
     @Test
     public void testAcceptVisitor() {
         final List<Boolean> visited = new ArrayList<Boolean>();
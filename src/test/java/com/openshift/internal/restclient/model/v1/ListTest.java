@@ -10,6 +10,7 @@
 package com.openshift.internal.restclient.model.v1;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -22,6 +23,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import com.openshift.internal.restclient.ResourceFactory;
+import com.openshift.internal.restclient.model.KubernetesResource;
 import com.openshift.internal.restclient.model.List;
 import com.openshift.restclient.IClient;
 import com.openshift.restclient.ResourceKind;
@@ -57,6 +59,23 @@ public class ListTest {
         assertEquals("v1", bc.getApiVersion());
     }
 
+    @Test
+    public void testItemsAreBackedByTheListNodes() {
+        ModelNode node = ModelNode.fromJSONString(Samples.V1_BUILD_CONFIG_LIST.getContentAsString());
+        IList resource = new List(node, client, null);
+        IResource bc = resource.getItems().iterator().next();
+        assertSame(node.get("items").get(0), ((KubernetesResource) bc).getNode());
+    }
+
+    @Test
+    public void testContinue() {
+        ModelNode node = ModelNode.fromJSONString(Samples.V1_BUILD_CONFIG_LIST.getContentAsString());
+        assertEquals("", new List(node, client, null).getContinue());
+
+        node.get("metadata", "continue").set("eyJ2IjoibWV0YS5rOHMuaW8vdjEifQ");
+        assertEquals("eyJ2IjoibWV0YS5rOHMuaW8vdjEifQ", new List(node, client, null).getContinue());
+    }
+
     @Test
     public void testEmptyList() {
         IList resource = createList(Samples.V1_CONFIG_MAP_LIST_EMPTY);
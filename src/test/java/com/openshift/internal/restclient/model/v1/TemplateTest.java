@@ -10,6 +10,7 @@
 package com.openshift.internal.restclient.model.v1;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -22,8 +23,10 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.openshift.internal.restclient.ResourceFactory;
+import com.openshift.internal.restclient.model.KubernetesResource;
 import com.openshift.internal.restclient.model.template.Template;
 import com.openshift.restclient.IClient;
+import com.openshift.restclient.model.IResource;
 import com.openshift.restclient.model.template.IParameter;
 import com.openshift.restclient.model.template.ITemplate;
 import com.openshift.restclient.utils.Samples;
@@ -56,6 +59,19 @@ public class TemplateTest {
         assertEquals("Exp. the number of items to be more than zero", 8, template.getObjects().size());
     }
 
+    @Test
+    public void testChangingObjectsDoesNotChangeTemplate() {
+        IResource object = template.getObjects().iterator().next();
+        String name = object.getName();
+
+        object.addLabel("changed", "true");
+        ((KubernetesResource) object).setName("changed");
+
+        IResource unchanged = template.getObjects().iterator().next();
+        assertEquals(name, unchanged.getName());
+        assertFalse(unchanged.getLabels().containsKey("changed"));
+    }
+
     @Test
     public void testGetParameters() {
         Map<String, IParameter> parameters = template.getParameters();
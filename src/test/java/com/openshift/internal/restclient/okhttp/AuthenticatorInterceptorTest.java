@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.internal.restclient.authorization.AuthorizationContext;
+import com.openshift.restclient.IClient;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class AuthenticatorInterceptorTest {
+
+    private static final String BASE_URL = "https://localhost:8443";
+    private static final String AUTHORIZE_URL = BASE_URL + "/oauth/authorize";
+
+    private AtomicInteger authentications = new AtomicInteger();
+    private AuthorizationContext context = new AuthorizationContext(null, "developer", "secret");
+    private IClient client = mock(IClient.class);
+    private OkHttpClient okClient;
+
+    @Before
+    public void setUp() throws Exception {
+        AuthenticatorInterceptor interceptor = new AuthenticatorInterceptor();
+        interceptor.setClient(client);
+        okClient = new OkHttpClient.Builder()
+                .addInterceptor(interceptor)
+                .addInterceptor(this::serve)
+                .build();
+        when(client.getAuthorizationContext()).thenReturn(context);
+        when(client.getAuthorizationEndpoint()).thenReturn(new URL(AUTHORIZE_URL));
+        when(client.adapt(OkHttpClient.class)).thenReturn(okClient);
+        when(client.getBaseURL()).thenReturn(new URL(BASE_URL));
+    }
+
+    @Test
+    public void testConcurrentRequestsAuthenticateOnce() {
+        List<CompletableFuture<Integer>> requests = IntStream.range(0, 20)
+                .mapToObj(i -> CompletableFuture.supplyAsync(this::get))
+                .collect(Collectors.toList());
+
+        assertThat(requests.stream().map(CompletableFuture::join)).containsOnly(200);
+        assertThat(authentications.get()).isEqualTo(1);
+        assertThat(context.getToken()).isEqualTo("token1");
+        assertThat(context.getExpiresIn()).isEqualTo("86400");
+    }
+
+    @Test
+    public void testUnauthorizedRequestIsRetriedWithNewToken() {
+        context.setToken("revoked");
+
+        assertThat(get()).isEqualTo(200);
+        assertThat(authentications.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testUnauthorizedRequestIsNotRetriedWithoutCredentials() {
+        context.setToken("revoked");
+        context.setPassword(null);
+
+        assertThat(get()).isEqualTo(401);
+        assertThat(authentications.get()).isZero();
+    }
+
+    @Test
+    public void testExpiringTokenIsRefreshed() {
+        context.setToken("token0");
+        context.setExpiresIn("0");
+
+        assertThat(get()).isEqualTo(200);
+        assertThat(authentications.get()).isEqualTo(1);
+        assertThat(context.getToken()).isEqualTo("token1");
+    }
+
+    @Test
+    public void testRequestToOtherHostIsNotAuthorized() throws IOException {
+        context.setToken("token0");
+        Request request = new Request.Builder()
+                .url("https://registry.example.com/v2/")
+                .header("Authorization", "Bearer registry")
+                .build();
+
+        try (Response response = okClient.newCall(request).execute()) {
+            assertThat(response.code()).isEqualTo(401);
+            assertThat(response.request().header("Authorization")).isEqualTo("Bearer registry");
+        }
+        assertThat(authentications.get()).isZero();
+        assertThat(context.getToken()).isEqualTo("token0");
+    }
+
+    @Test
+    public void testRequestWithOwnAuthorizationIsNotReauthorized() throws IOException {
+        context.setToken("token0");
+        Request request = new Request.Builder()
+                .url(BASE_URL + "/api/v1/pods")
+                .header("Authorization", "Bearer other")
+                .build();
+
+        try (Response response = okClient.newCall(request).execute()) {
+            assertThat(response.code()).isEqualTo(401);
+            assertThat(response.request().header("Authorization")).isEqualTo("Bearer other");
+        }
+        assertThat(authentications.get()).isZero();
+    }
+
+    @Test
+    public void testRequestWithClientAuthorizationIsRetriedWithNewToken() throws IOException {
+        context.setToken("revoked");
+        Request request = new OpenShiftRequestBuilder()
+                .url(BASE_URL + "/api/v1/pods")
+                .authorization(context)
+                .build();
+
+        try (Response response = okClient.newCall(request).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+        assertThat(authentications.get()).isEqualTo(1);
+    }
+
+    private int get() {
+        try (Response response = okClient.newCall(new Request.Builder().url(BASE_URL + "/api/v1/pods").build()).execute()) {
+            return response.code();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Response serve(Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+        Response.Builder response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .message("")
+                .body(ResponseBody.create("", null));
+        if (request.url().toString().startsWith(AUTHORIZE_URL)) {
+            int count = authentications.incrementAndGet();
+            sleep(50);
+            // the response code interceptor turns the redirect with the token into a success
+            return response.code(200)
+                    .header("Location", BASE_URL + "/oauth/token/implicit#access_token=token" + count + "&expires_in=86400")
+                    .build();
+        }
+        String authorization = request.header("Authorization");
+        return response.code(authorization != null && authorization.startsWith("Bearer token") ? 200 : 401).build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class BackoffTest {
+
+    @Test
+    public void testDelayGrowsExponentiallyWithJitter() {
+        Backoff backoff = new Backoff(100, 10000);
+
+        assertThat(backoff.nextDelay()).isBetween(50L, 100L);
+        assertThat(backoff.nextDelay()).isBetween(100L, 200L);
+        assertThat(backoff.nextDelay()).isBetween(200L, 400L);
+        assertThat(backoff.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    public void testDelayIsBounded() {
+        Backoff backoff = new Backoff(100, 1000);
+        for (int i = 0; i < 100; i++) {
+            assertThat(backoff.nextDelay()).isBetween(0L, 1000L);
+        }
+        assertThat(backoff.nextDelay()).isGreaterThanOrEqualTo(500L);
+    }
+
+    @Test
+    public void testResetStartsOver() {
+        Backoff backoff = new Backoff(100, 10000);
+        backoff.nextDelay();
+        backoff.nextDelay();
+
+        backoff.reset();
+
+        assertThat(backoff.getAttempts()).isZero();
+        assertThat(backoff.nextDelay()).isBetween(50L, 100L);
+    }
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.metrics.ICallTimings;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+public class CallTimingsEventListenerTest {
+
+    private static final InetSocketAddress ADDRESS = InetSocketAddress.createUnresolved("localhost", 8443);
+
+    private Call call = mock(Call.class);
+    private AtomicReference<ICallTimings> ended = new AtomicReference<>();
+    private EventListener listener;
+
+    @Before
+    public void setUp() {
+        when(call.request()).thenReturn(new Request.Builder().url("https://localhost:8443/api").build());
+        listener = new CallTimingsEventListener.Factory(ended::set, -1).create(call);
+    }
+
+    @Test
+    public void testNewConnectionPhasesAreMeasured() {
+        listener.callStart(call);
+        listener.dnsStart(call, "localhost");
+        listener.dnsEnd(call, "localhost", Collections.emptyList());
+        listener.connectStart(call, ADDRESS, Proxy.NO_PROXY);
+        listener.secureConnectStart(call);
+        listener.secureConnectEnd(call, null);
+        listener.connectEnd(call, ADDRESS, Proxy.NO_PROXY, Protocol.HTTP_1_1);
+        listener.connectionAcquired(call, mock(Connection.class));
+        listener.requestHeadersStart(call);
+        listener.responseHeadersStart(call);
+        listener.responseBodyStart(call);
+        listener.responseBodyEnd(call, 42);
+        listener.callEnd(call);
+
+        ICallTimings timings = ended.get();
+        assertThat(timings.getMethod()).isEqualTo("GET");
+        assertThat(timings.getUrl()).isEqualTo("https://localhost:8443/api");
+        assertThat(timings.isConnectionReused()).isFalse();
+        assertThat(timings.getDnsNanos()).isNotNegative();
+        assertThat(timings.getConnectNanos()).isNotNegative();
+        assertThat(timings.getTlsHandshakeNanos()).isNotNegative();
+        assertThat(timings.getTimeToFirstByteNanos()).isNotNegative();
+        assertThat(timings.getResponseBodyNanos()).isNotNegative();
+        assertThat(timings.getResponseBytes()).isEqualTo(42);
+        assertThat(timings.getTotalNanos()).isNotNegative();
+        assertThat(timings.getFailure()).isNull();
+    }
+
+    @Test
+    public void testPooledConnectionSkipsConnectPhases() {
+        listener.callStart(call);
+        listener.connectionAcquired(call, mock(Connection.class));
+        listener.requestHeadersStart(call);
+        listener.responseHeadersStart(call);
+        listener.callEnd(call);
+
+        ICallTimings timings = ended.get();
+        assertThat(timings.isConnectionReused()).isTrue();
+        assertThat(timings.getDnsNanos()).isEqualTo(-1);
+        assertThat(timings.getConnectNanos()).isEqualTo(-1);
+        assertThat(timings.getTlsHandshakeNanos()).isEqualTo(-1);
+        assertThat(timings.getResponseBodyNanos()).isEqualTo(-1);
+    }
+
+    @Test
+    public void testFailureIsReported() {
+        IOException failure = new IOException("connection refused");
+        listener.callStart(call);
+        listener.connectStart(call, ADDRESS, Proxy.NO_PROXY);
+        listener.connectFailed(call, ADDRESS, Proxy.NO_PROXY, null, failure);
+        listener.callFailed(call, failure);
+
+        assertThat(ended.get().getFailure()).isSameAs(failure);
+        assertThat(ended.get().getConnectNanos()).isNotNegative();
+    }
+}
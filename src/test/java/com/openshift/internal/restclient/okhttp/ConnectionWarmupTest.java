@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import okhttp3.OkHttpClient;
+
+public class ConnectionWarmupTest {
+
+    private HttpServer server;
+    private List<String> paths = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            paths.add(exchange.getRequestURI().getPath());
+            byte[] ok = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, ok.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(ok);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testConnectionsArePooled() throws Exception {
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new ResponseCodeInterceptor())
+                .build();
+
+        int connections = ConnectionWarmup.warmUp(client, getUrl(), 2, 10, TimeUnit.SECONDS);
+
+        assertThat(connections).isBetween(1, 2);
+        assertThat(client.connectionPool().idleConnectionCount()).isEqualTo(connections);
+        assertThat(paths).containsOnly("/healthz");
+    }
+
+    @Test
+    public void testUnreachableServerIsIgnored() throws Exception {
+        URL url = getUrl();
+        server.stop(0);
+        OkHttpClient client = new OkHttpClient();
+
+        int connections = ConnectionWarmup.warmUp(client, url, 2, 10, TimeUnit.SECONDS);
+
+        assertThat(connections).isZero();
+    }
+
+    private URL getUrl() throws Exception {
+        return new URL("http", server.getAddress().getHostString(), server.getAddress().getPort(), "/");
+    }
+}
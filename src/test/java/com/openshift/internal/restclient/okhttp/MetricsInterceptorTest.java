@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.metrics.IClientMetrics;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class MetricsInterceptorTest {
+
+    private static final String URL = "http://localhost:8080/api/v1/namespaces/foo/pods";
+
+    private IClientMetrics metrics = mock(IClientMetrics.class);
+
+    @Test
+    public void testRequestIsRecordedWithTagOnceBodyIsClosed() throws Exception {
+        OkHttpClient client = client(chain -> response(chain, 200, "{\"kind\":\"PodList\"}"));
+        Request request = new Request.Builder()
+                .url(URL)
+                .tag(MetricsInterceptor.Tag.class, new MetricsInterceptor.Tag(ResourceKind.POD, true))
+                .build();
+
+        Response response = client.newCall(request).execute();
+        verify(metrics, never()).recordRequest(eq("GET"), eq(ResourceKind.POD), eq(true), eq(200), anyLong(), anyLong());
+        response.body().string();
+
+        verify(metrics).recordRequest(eq("GET"), eq(ResourceKind.POD), eq(true), eq(200), anyLong(), eq(18L));
+    }
+
+    @Test
+    public void testUntaggedRequestIsRecordedWithoutKind() throws Exception {
+        OkHttpClient client = client(chain -> response(chain, 404, ""));
+
+        client.newCall(new Request.Builder().url(URL).build()).execute().close();
+
+        verify(metrics).recordRequest(eq("GET"), isNull(), eq(false), eq(404), anyLong(), eq(0L));
+    }
+
+    @Test
+    public void testFailedRequestIsRecordedWithoutStatus() {
+        OkHttpClient client = client(chain -> {
+            throw new IOException("connection reset");
+        });
+
+        try {
+            client.newCall(new Request.Builder().url(URL).build()).execute();
+        } catch (IOException e) {
+            // expected
+        }
+
+        verify(metrics).recordRequest(eq("GET"), isNull(), eq(false), eq(0), anyLong(), eq(0L));
+    }
+
+    private OkHttpClient client(Interceptor server) {
+        return new OkHttpClient.Builder()
+                .addInterceptor(new MetricsInterceptor(metrics))
+                .addInterceptor(server)
+                .build();
+    }
+
+    private static Response response(Interceptor.Chain chain, int code, String body) {
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .body(ResponseBody.create(body, null))
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class RateLimiterTest {
+
+    private AtomicLong now = new AtomicLong();
+
+    @Test
+    public void testBurstIsAvailableImmediately() {
+        RateLimiter limiter = new RateLimiter(10, 3, now::get);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void testWaitingCallersQueueUp() {
+        RateLimiter limiter = new RateLimiter(10, 1, now::get);
+        limiter.reserve();
+
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    public void testTokensRefillUpToBurst() {
+        RateLimiter limiter = new RateLimiter(10, 2, now::get);
+        limiter.reserve();
+        limiter.reserve();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveRateIsRejected() {
+        new RateLimiter(0, 1);
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.openshift.restclient.NotFoundException;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class ResponseFuturesTest {
+
+    private static final Request REQUEST = new Request.Builder().url("http://localhost:8080/api").build();
+
+    @Test
+    public void testResponseCompletesFuture() throws Exception {
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new ResponseFutures.AsyncExceptionInterceptor())
+                .addInterceptor(chain -> new Response.Builder()
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(200)
+                        .message("")
+                        .body(ResponseBody.create("{}", null))
+                        .build())
+                .build();
+
+        try (Response response = ResponseFutures.enqueue(client, REQUEST).get(10, TimeUnit.SECONDS)) {
+            assertThat(response.body().string()).isEqualTo("{}");
+        }
+    }
+
+    @Test
+    public void testInterceptorExceptionCompletesFuture() {
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new ResponseFutures.AsyncExceptionInterceptor())
+                .addInterceptor(chain -> {
+                    throw new NotFoundException("not found");
+                })
+                .build();
+
+        CompletableFuture<Response> future = ResponseFutures.enqueue(client, REQUEST);
+        Throwable e = catchThrowable(() -> future.get(10, TimeUnit.SECONDS));
+
+        assertThat(e.getCause()).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    public void testSynchronousCallsAreNotAffected() {
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new ResponseFutures.AsyncExceptionInterceptor())
+                .addInterceptor(chain -> {
+                    throw new NotFoundException("not found");
+                })
+                .build();
+
+        Throwable e = catchThrowable(() -> client.newCall(REQUEST).execute());
+
+        assertThat(e).isInstanceOf(NotFoundException.class);
+    }
+}
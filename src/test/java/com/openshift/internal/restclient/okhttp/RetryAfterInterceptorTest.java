@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.internal.restclient.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class RetryAfterInterceptorTest {
+
+    private static final String URL = "http://localhost:8080/api";
+
+    private AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    public void testThrottledGetIsRetried() throws Exception {
+        OkHttpClient client = client(new RetryAfterInterceptor(3, 1000), response(429, "0"), response(429, "0"), response(200, null));
+
+        try (Response response = client.newCall(new Request.Builder().url(URL).build()).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testRetriesAreBounded() throws Exception {
+        OkHttpClient client = client(new RetryAfterInterceptor(1, 1000), response(429, "0"), response(429, "0"), response(200, null));
+
+        try (Response response = client.newCall(new Request.Builder().url(URL).build()).execute()) {
+            assertThat(response.code()).isEqualTo(429);
+        }
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testPostIsNotRetried() throws Exception {
+        OkHttpClient client = client(new RetryAfterInterceptor(3, 1000), response(429, "0"), response(200, null));
+        Request post = new Request.Builder().url(URL).post(RequestBody.create("{}", null)).build();
+
+        try (Response response = client.newCall(post).execute()) {
+            assertThat(response.code()).isEqualTo(429);
+        }
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testUnavailableWithoutRetryAfterIsNotRetried() throws Exception {
+        OkHttpClient client = client(new RetryAfterInterceptor(3, 1000), response(503, null), response(200, null));
+
+        try (Response response = client.newCall(new Request.Builder().url(URL).build()).execute()) {
+            assertThat(response.code()).isEqualTo(503);
+        }
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRetryAfterBeyondMaxDelayIsNotRetried() throws Exception {
+        OkHttpClient client = client(new RetryAfterInterceptor(3, 1000), response(503, "60"), response(200, null));
+
+        try (Response response = client.newCall(new Request.Builder().url(URL).build()).execute()) {
+            assertThat(response.code()).isEqualTo(503);
+        }
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRetryAfterIsParsedAsSecondsOrDate() {
+        String inTenSeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusSeconds(10));
+
+        assertThat(RetryAfterInterceptor.getRetryAfter("2")).isEqualTo(2000);
+        assertThat(RetryAfterInterceptor.getRetryAfter(inTenSeconds)).isBetween(8000L, 10000L);
+        assertThat(RetryAfterInterceptor.getRetryAfter("soon")).isEqualTo(-1);
+        assertThat(RetryAfterInterceptor.getRetryAfter(null)).isEqualTo(-1);
+    }
+
+    private OkHttpClient client(RetryAfterInterceptor interceptor, Response.Builder... responses) {
+        Deque<Response.Builder> queue = new ArrayDeque<>(Arrays.asList(responses));
+        return new OkHttpClient.Builder()
+                .addInterceptor(interceptor)
+                .addInterceptor(chain -> {
+                    requests.incrementAndGet();
+                    return queue.pop().request(chain.request()).build();
+                })
+                .build();
+    }
+
+    private static Response.Builder response(int code, String retryAfter) {
+        Response.Builder builder = new Response.Builder()
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .body(ResponseBody.create("{}", null));
+        if (retryAfter != null) {
+            builder.header("Retry-After", retryAfter);
+        }
+        return builder;
+    }
+}
@@ -15,12 +15,16 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.net.ProtocolException;
+import java.util.concurrent.ExecutorService;
 
 import org.junit.Test;
 
@@ -28,12 +32,18 @@ import com.openshift.internal.restclient.DefaultClient;
 import com.openshift.internal.restclient.okhttp.WatchClient.WatchEndpoint;
 import com.openshift.restclient.IOpenShiftWatchListener;
 import com.openshift.restclient.IOpenShiftWatchListener.ChangeType;
+import com.openshift.restclient.IResourceFactory;
 import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.http.IHttpConstants;
+import com.openshift.restclient.model.IResource;
 
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.WebSocket;
 
 /**
  * @author Andre Dietisheim
@@ -64,6 +74,132 @@ public class WatchClientTest {
         verify(listener, never()).error(any());
     }
 
+    @Test
+    public void resumableEndpointShouldReconnectOnFailure() {
+        IOpenShiftWatchListener listener = mock(IOpenShiftWatchListener.class);
+        WatchClient watchClient = mock(WatchClient.class);
+
+        WatchEndpoint endpoint = new WatchEndpoint(null, listener, ResourceKind.BUILD, "myproject", watchClient);
+        endpoint.onFailure(null, new IOException(), null);
+        verify(watchClient).reconnect(endpoint);
+        verify(listener, never()).error(any());
+    }
+
+    @Test
+    public void resumableEndpointShouldReconnectWhenServerClosesSocket() {
+        IOpenShiftWatchListener listener = mock(IOpenShiftWatchListener.class);
+        WatchClient watchClient = mock(WatchClient.class);
+
+        WatchEndpoint endpoint = new WatchEndpoint(null, listener, ResourceKind.BUILD, "myproject", watchClient);
+        endpoint.onClosing(mock(WebSocket.class), IHttpConstants.STATUS_NORMAL_STOP, "");
+        verify(watchClient).reconnect(endpoint);
+        verify(listener, never()).disconnected();
+    }
+
+    @Test
+    public void resumableEndpointShouldNotRetryUnauthorized() {
+        DefaultClient client = mock(DefaultClient.class);
+        IOpenShiftWatchListener listener = mock(IOpenShiftWatchListener.class);
+        WatchClient watchClient = mock(WatchClient.class);
+
+        WatchEndpoint endpoint = new WatchEndpoint(client, listener, ResourceKind.BUILD, "myproject", watchClient);
+        endpoint.onFailure(null, new ProtocolException(), responseOf(IHttpConstants.STATUS_FORBIDDEN));
+        verify(watchClient, never()).reconnect(endpoint);
+        verify(listener).error(any());
+    }
+
+    @Test
+    public void resumableEndpointShouldTrackLastResourceVersion() {
+        IResourceFactory factory = resourceFactory();
+        DefaultClient client = mock(DefaultClient.class);
+        when(client.getResourceFactory()).thenReturn(factory);
+        IOpenShiftWatchListener listener = mock(IOpenShiftWatchListener.class);
+        WatchEndpoint endpoint = new WatchEndpoint(client, listener, ResourceKind.BUILD, "myproject",
+                mock(WatchClient.class));
+
+        endpoint.onMessage(null, event("ADDED", "4711"));
+        endpoint.onMessage(null, event("MODIFIED", "4712"));
+
+        assertThat(endpoint.getResourceVersion(), equalTo("4712"));
+        verify(listener).received(any(), eq(ChangeType.MODIFIED));
+    }
+
+    @Test
+    public void resumableEndpointShouldListAgainIfResourceVersionIsGone() {
+        IResourceFactory factory = resourceFactory();
+        DefaultClient client = mock(DefaultClient.class);
+        when(client.getResourceFactory()).thenReturn(factory);
+        IOpenShiftWatchListener listener = mock(IOpenShiftWatchListener.class);
+        WatchClient watchClient = mock(WatchClient.class);
+        WatchEndpoint endpoint = new WatchEndpoint(client, listener, ResourceKind.BUILD, "myproject", watchClient);
+        endpoint.onMessage(null, event("ADDED", "4711"));
+
+        endpoint.onMessage(null, "{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"apiVersion\":\"v1\","
+                + "\"status\":\"Failure\",\"reason\":\"Gone\",\"code\":410}}");
+        assertThat(endpoint.getResourceVersion(), equalTo(null));
+        verify(listener, never()).received(any(), eq(new ChangeType("ERROR")));
+
+        endpoint.onMessage(null, event("ADDED", "4711"));
+        endpoint.onFailure(null, new ProtocolException(), responseOf(IHttpConstants.STATUS_GONE));
+        assertThat(endpoint.getResourceVersion(), equalTo(null));
+        verify(watchClient).reconnect(endpoint);
+    }
+
+    @Test
+    public void resumableEndpointShouldBackOffUntilFirstEvent() {
+        IResourceFactory factory = resourceFactory();
+        DefaultClient client = mock(DefaultClient.class);
+        when(client.getResourceFactory()).thenReturn(factory);
+        WatchClient watchClient = mock(WatchClient.class);
+        WatchEndpoint endpoint = new WatchEndpoint(client, mock(IOpenShiftWatchListener.class), ResourceKind.BUILD,
+                "myproject", watchClient);
+        new WatchClient(client, null, new OkHttpClient()).reconnect(endpoint);
+        endpoint.close();
+
+        endpoint.onOpen(mock(WebSocket.class), null);
+        assertThat(endpoint.getReconnectAttempts(), equalTo(1));
+
+        endpoint.onMessage(null, event("ADDED", "4711"));
+        assertThat(endpoint.getReconnectAttempts(), equalTo(0));
+    }
+
+    @Test
+    public void reconnectShouldRunOnDispatcherOfClient() {
+        ExecutorService executor = mock(ExecutorService.class);
+        OkHttpClient okClient = new OkHttpClient.Builder().dispatcher(new Dispatcher(executor)).build();
+        WatchClient watchClient = new WatchClient(mock(DefaultClient.class), null, okClient);
+        WatchEndpoint endpoint = new WatchEndpoint(null, mock(IOpenShiftWatchListener.class), ResourceKind.BUILD,
+                "myproject", watchClient);
+
+        watchClient.reconnect(endpoint);
+
+        verify(executor, timeout(5000)).execute(any(Runnable.class));
+    }
+
+    private static String event(String type, String resourceVersion) {
+        return "{\"type\":\"" + type + "\",\"object\":{\"kind\":\"Build\",\"apiVersion\":\"v1\","
+                + "\"metadata\":{\"name\":\"build-1\",\"namespace\":\"myproject\","
+                + "\"resourceVersion\":\"" + resourceVersion + "\"}}}";
+    }
+
+    private static IResourceFactory resourceFactory() {
+        IResource build = mock(IResource.class);
+        when(build.getKind()).thenReturn(ResourceKind.BUILD);
+        IResourceFactory factory = mock(IResourceFactory.class);
+        when(factory.create(any(String.class))).thenReturn(build);
+        return factory;
+    }
+
+    private static Response responseOf(int code) {
+        return new Response.Builder()
+                .code(code)
+                .message("")
+                .protocol(Protocol.HTTP_1_1)
+                .request(new Request.Builder().url("http://localhost").build())
+                .body(ResponseBody.create("", null))
+                .build();
+    }
+
     @Test
     public void changeTypeShouldEqualSameChangeType() {
         assertThat(ChangeType.ADDED, equalTo(ChangeType.ADDED));
@@ -15,12 +15,18 @@ import static com.openshift.internal.util.JBossDmrExtentions.asList;
 import static com.openshift.internal.util.JBossDmrExtentions.asMap;
 import static com.openshift.internal.util.JBossDmrExtentions.asSet;
 import static com.openshift.internal.util.JBossDmrExtentions.asString;
+import static com.openshift.internal.util.JBossDmrExtentions.getPath;
 import static com.openshift.internal.util.JBossDmrExtentions.toJsonString;
+import static com.openshift.internal.util.JBossDmrExtentions.writeJson;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +36,8 @@ import org.jboss.dmr.ModelType;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.openshift.restclient.utils.Samples;
+
 public class JBossDmrExtentionsTest {
 
     private ModelNode node = ModelNode
@@ -131,4 +139,51 @@ public class JBossDmrExtentionsTest {
         assertEquals("3", l.get(2));
     }
 
+    @Test
+    public void getPathShouldSplitTheKey() {
+        assertArrayEquals(new String[] { "metadata", "labels" }, getPath(paths, "metadata.labels"));
+    }
+
+    @Test
+    public void getPathShouldReturnTheSamePathForTheSameKey() {
+        assertSame(getPath(paths, "spec.template.spec"), getPath(paths, "spec.template.spec"));
+    }
+
+    @Test
+    public void getPathShouldReturnTheOverride() {
+        paths.put("spec.replicas", new String[] { "replicas" });
+        getPath("spec.replicas");
+
+        assertArrayEquals(new String[] { "replicas" }, getPath(paths, "spec.replicas"));
+    }
+
+    @Test
+    public void writeJsonShouldSkipUndefinedValuesWithoutModifyingTheNode() throws Exception {
+        ModelNode node = new ModelNode();
+        node.get("metadata", "name").set("foo");
+        node.get("metadata", "labels");
+        node.get("spec", "ports").setEmptyList();
+        node.get("spec", "containers").add(new ModelNode());
+        node.get("spec", "containers").add("bar");
+        ModelNode copy = node.clone();
+
+        assertEquals("{\"metadata\":{\"name\":\"foo\"},\"spec\":{\"containers\":[\"bar\"]}}", write(node));
+        assertEquals(copy, node);
+    }
+
+    @Test
+    public void writeJsonShouldWriteWhatToJsonStringWrites() throws Exception {
+        ModelNode node = ModelNode.fromJSONString(Samples.V1_DEPLOYMENT_CONIFIG.getContentAsString());
+
+        String written = write(node);
+
+        assertEquals(ModelNode.fromJSONString(toJsonString(node, true)), ModelNode.fromJSONString(written));
+    }
+
+    private String write(ModelNode node) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeJson(node, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
 }
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.openshift.restclient.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.metrics.InMemoryClientMetrics.RequestStatistics;
+import com.openshift.restclient.metrics.InMemoryClientMetrics.Snapshot;
+import com.openshift.restclient.metrics.InMemoryClientMetrics.Statistics;
+
+public class InMemoryClientMetricsTest {
+
+    private InMemoryClientMetrics metrics = new InMemoryClientMetrics();
+
+    @Test
+    public void testRequestsAreGroupedByVerbKindScopeAndStatus() {
+        metrics.recordRequest("GET", ResourceKind.POD, true, 200, millis(3), 100);
+        metrics.recordRequest("GET", ResourceKind.POD, true, 200, millis(30), 200);
+        metrics.recordRequest("GET", ResourceKind.POD, true, 404, millis(3), 10);
+        metrics.recordRequest("GET", ResourceKind.NAMESPACE, false, 200, millis(3), 10);
+
+        Snapshot snapshot = metrics.getSnapshot();
+
+        assertThat(snapshot.getRequests()).hasSize(3);
+        RequestStatistics pods = snapshot.getRequests().get(0);
+        assertThat(pods.getVerb()).isEqualTo("GET");
+        assertThat(pods.getKind()).isEqualTo(ResourceKind.POD);
+        assertThat(pods.isNamespaced()).isTrue();
+        assertThat(pods.getStatus()).isEqualTo(200);
+        assertThat(pods.isError()).isFalse();
+        assertThat(pods.getCount()).isEqualTo(2);
+        assertThat(pods.getBytes()).isEqualTo(300);
+        assertThat(pods.getTotalNanos()).isEqualTo(millis(33));
+        assertThat(pods.getPercentileMillis(50)).isEqualTo(5);
+        assertThat(pods.getPercentileMillis(100)).isEqualTo(50);
+    }
+
+    @Test
+    public void testDecodesAreGroupedByKind() {
+        metrics.recordDecode("PodList", millis(7));
+        metrics.recordDecode("PodList", millis(1));
+
+        Statistics decodes = metrics.getSnapshot().getDecodes().get(0);
+
+        assertThat(decodes.getName()).isEqualTo("PodList");
+        assertThat(decodes.getCount()).isEqualTo(2);
+        assertThat(decodes.getBuckets()[InMemoryClientMetrics.getBucket(millis(7))]).isEqualTo(1);
+    }
+
+    @Test
+    public void testConcurrentRecordingIsNotLost() {
+        CompletableFuture<?>[] recorders = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        metrics.recordRequest("GET", ResourceKind.POD, true, 200, 1, 1);
+                    }
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(recorders).join();
+
+        assertThat(metrics.getSnapshot().getRequests().get(0).getCount()).isEqualTo(4000);
+    }
+
+    @Test
+    public void testDurationsBeyondTheLastBoundAreKept() {
+        assertThat(InMemoryClientMetrics.getBucket(TimeUnit.MINUTES.toNanos(1)))
+                .isEqualTo(InMemoryClientMetrics.BUCKET_BOUNDS.length);
+        assertThat(InMemoryClientMetrics.getBucket(0)).isZero();
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
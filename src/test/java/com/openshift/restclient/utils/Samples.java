@@ -104,4 +104,12 @@ public enum Samples {
         return content;
     }
 
+    public InputStream getContentAsStream() {
+        InputStream contentStream = Samples.class.getResourceAsStream(filePath);
+        if (contentStream == null) {
+            throw new RuntimeException("Could not read file " + filePath);
+        }
+        return contentStream;
+    }
+
 }